@@ -0,0 +1,83 @@
+// Carga mixta sobre portafolio y transacciones para comparar hilos de plataforma vs virtuales.
+//
+// 1. Levantar el server con hilos de plataforma:   ./mvnw spring-boot:run
+//    k6 run -e BASE_URL=http://localhost:8080 -e USER_ID=2 -e INSTRUMENT_ID=1 --summary-export=platform.json loadtest/portfolio-transactions.js
+// 2. Repetir con hilos virtuales:                  SPRING_PROFILES_ACTIVE=virtual ./mvnw spring-boot:run
+//    k6 run ... --summary-export=virtual.json loadtest/portfolio-transactions.js
+// 3. Comparar p95/p99 de http_req_duration, http_req_failed y las iteraciones por segundo.
+//    Con el perfil virtual revisar también /actuator/metrics/threads.virtual.pinned.
+//
+// THINK_MS (opcional) agrega una pausa entre iteraciones de lectura para simular usuarios reales.
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USER_ID = __ENV.USER_ID || '2';
+const INSTRUMENT_ID = Number(__ENV.INSTRUMENT_ID || '1');
+const THINK_MS = Number(__ENV.THINK_MS || '0');
+
+export const options = {
+    scenarios: {
+        lectura: {
+            executor: 'ramping-vus',
+            exec: 'reads',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 100 },
+                { duration: '2m', target: 400 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+        ordenes: {
+            executor: 'constant-arrival-rate',
+            exec: 'orders',
+            rate: 50,
+            timeUnit: '1s',
+            duration: '3m',
+            preAllocatedVUs: 50,
+            maxVUs: 200,
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        'http_req_duration{endpoint:portfolio}': ['p(95)<500'],
+        'http_req_duration{endpoint:transactions}': ['p(95)<500'],
+        'http_req_duration{endpoint:investment}': ['p(95)<800'],
+    },
+};
+
+// Una venta sin posición suficiente (400) es un resultado válido bajo carga, no un error
+const ORDER_PARAMS = {
+    headers: { 'Content-Type': 'application/json' },
+    tags: { endpoint: 'investment' },
+    responseCallback: http.expectedStatuses({ min: 200, max: 299 }, 400),
+};
+
+export function reads() {
+    const portfolio = http.get(`${BASE_URL}/${USER_ID}`, { tags: { endpoint: 'portfolio' } });
+    check(portfolio, { 'portafolio 200': (r) => r.status === 200 });
+
+    const value = http.get(`${BASE_URL}/${USER_ID}/total-value`, { tags: { endpoint: 'portfolio' } });
+    check(value, { 'valor total 200': (r) => r.status === 200 });
+
+    const transactions = http.get(`${BASE_URL}/transaction/cursor?size=50`, { tags: { endpoint: 'transactions' } });
+    check(transactions, { 'transacciones 200': (r) => r.status === 200 });
+
+    if (THINK_MS > 0) {
+        sleep(THINK_MS / 1000);
+    }
+}
+
+export function orders() {
+    // Compras y ventas alternadas de una unidad: la posición se mantiene estable durante la prueba
+    const type = __ITER % 2 === 0 ? 'COMPRA' : 'VENTA';
+    const body = JSON.stringify({
+        instrumentId: INSTRUMENT_ID,
+        quantity: 1,
+        unitPrice: 100.0,
+        commission: 0.0,
+        transactionType: type,
+    });
+    const response = http.post(`${BASE_URL}/users/${USER_ID}/investments`, body, ORDER_PARAMS);
+    check(response, { 'orden procesada': (r) => r.status === 200 || r.status === 201 || r.status === 400 });
+}
@@ -0,0 +1,7 @@
+package com.practice.Alert.Enum;
+
+public enum EnumAlertType {
+    PRECIO_MAYOR,
+    PRECIO_MENOR,
+    VARIACION_PORCENTUAL
+}
@@ -0,0 +1,52 @@
+package com.practice.Alert.controller;
+
+import com.practice.Alert.dtoRequest.AlertRuleRequestDto;
+import com.practice.Alert.dtoResponse.AlertRuleResponseDto;
+import com.practice.Alert.service.AlertRuleServiceImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/alert")
+@RequiredArgsConstructor
+@Tag(name = "Alertas de mercado", description = "Alert API")
+public class AlertRuleController {
+    private final AlertRuleServiceImpl alertRuleServiceImpl;
+
+    @Operation(summary = "Crear una alerta de mercado",
+            description = "Registra una alerta de precio sobre un instrumento del portafolio del usuario. Al cruzarse el umbral " +
+                    "se genera una notificación ALERTA_MERCADO y la alerta queda desactivada")
+    @ApiResponse(responseCode = "201", description = "Alerta creada correctamente")
+    @ApiResponse(responseCode = "400", description = "Alerta inválida o instrumento fuera del portafolio")
+    @ApiResponse(responseCode = "404", description = "Usuario o instrumento no encontrado")
+    @PostMapping
+    public ResponseEntity<AlertRuleResponseDto> createRule(@RequestBody @Valid AlertRuleRequestDto request) {
+        return new ResponseEntity<>(alertRuleServiceImpl.createRule(request), HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "Obtener las alertas de un usuario", description = "Devuelve las alertas del usuario; con active=true solo las pendientes")
+    @ApiResponse(responseCode = "200", description = "Alertas obtenidas correctamente")
+    @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<List<AlertRuleResponseDto>> findUserRules(@PathVariable Long userId,
+                                                                    @RequestParam(defaultValue = "false") boolean active) {
+        return ResponseEntity.ok(alertRuleServiceImpl.findUserRules(userId, active));
+    }
+
+    @Operation(summary = "Eliminar una alerta", description = "Elimina una alerta por ID")
+    @ApiResponse(responseCode = "204", description = "Alerta eliminada correctamente")
+    @ApiResponse(responseCode = "404", description = "Alerta no encontrada")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteRule(@PathVariable Long id) {
+        alertRuleServiceImpl.deleteRule(id);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+}
@@ -0,0 +1,29 @@
+package com.practice.Alert.dtoRequest;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "Regla de alerta de mercado sobre un instrumento del portafolio")
+public record AlertRuleRequestDto(
+        @Schema(description = "ID del usuario", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "El ID del usuario es obligatorio")
+        Long userId,
+
+        @Schema(description = "ID del instrumento", example = "3", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "El ID del instrumento es obligatorio")
+        Long instrumentId,
+
+        @Schema(description = "Tipo de alerta (PRECIO_MAYOR, PRECIO_MENOR o VARIACION_PORCENTUAL)",
+                example = "PRECIO_MAYOR", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotBlank(message = "El tipo de alerta es obligatorio")
+        String alertType,
+
+        @Schema(description = "Precio límite o porcentaje de variación según el tipo", example = "120.5",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "El umbral es obligatorio")
+        @DecimalMin(value = "0.0", inclusive = false, message = "El umbral debe ser mayor a 0")
+        Double threshold
+) {
+}
@@ -0,0 +1,18 @@
+package com.practice.Alert.dtoResponse;
+
+import java.time.LocalDateTime;
+
+public record AlertRuleResponseDto(
+        Long id,
+        Long userId,
+        Long instrumentId,
+        String alertType,
+        Double threshold,
+        Double referencePrice,
+        Double upperLevel,
+        Double lowerLevel,
+        Boolean active,
+        LocalDateTime createDate,
+        LocalDateTime triggeredAt
+) {
+}
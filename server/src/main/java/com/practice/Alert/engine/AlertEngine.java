@@ -0,0 +1,120 @@
+package com.practice.Alert.engine;
+
+import com.practice.Instrument.event.QuoteChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Evalúa las reglas de alerta con cada cambio de cotización y pasa las disparadas al
+ * {@link AlertNotificationBatcher}.
+ */
+@Slf4j
+@Component
+public class AlertEngine {
+    // Ordenadas por nivel para que la carga inserte siempre al final de cada lado
+    private static final String LOAD_UPPER_SQL =
+            "select id, user_id, instrument_id, upper_level, lower_level from alert_rules " +
+                    "where active = true and upper_level is not null order by instrument_id, upper_level";
+    private static final String LOAD_LOWER_SQL =
+            "select id, user_id, instrument_id, upper_level, lower_level from alert_rules " +
+                    "where active = true and lower_level is not null order by instrument_id, lower_level";
+    private static final int FETCH_SIZE = 5_000;
+
+    private final AlertRuleIndex index = new AlertRuleIndex();
+    private final AlertNotificationBatcher batcher;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public AlertEngine(AlertNotificationBatcher batcher,
+                       JdbcTemplate jdbcTemplate,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry) {
+        this.batcher = batcher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        Gauge.builder("alert.rules.indexed", index, AlertRuleIndex::size).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.currentTimeMillis();
+        // Dentro de una transacción para que el driver traiga las filas por bloques de FETCH_SIZE
+        transactionTemplate.executeWithoutResult(status -> {
+            stream(LOAD_UPPER_SQL, rs -> index.addUpper(rs.getLong(3), rs.getLong(1), rs.getLong(2),
+                    rs.getDouble(4), level(rs, 5)));
+            stream(LOAD_LOWER_SQL, rs -> index.addLower(rs.getLong(3), rs.getLong(1), rs.getLong(2),
+                    rs.getDouble(5), level(rs, 4)));
+        });
+        log.info("Reglas de alerta cargadas: {} niveles en {} ms", index.size(), System.currentTimeMillis() - started);
+    }
+
+    @EventListener
+    public void onQuoteChanged(QuoteChangedEvent event) {
+        if (!event.active()) {
+            return;
+        }
+        List<FiredAlert> fired = index.crossed(event.instrumentId(), event.price());
+        if (!fired.isEmpty()) {
+            batcher.enqueue(fired);
+        }
+    }
+
+    /**
+     * Indexa la regla cuando confirma la transacción que la creó.
+     */
+    public void register(long instrumentId, long ruleId, long userId, Double upperLevel, Double lowerLevel) {
+        afterCommit(() -> index.add(instrumentId, ruleId, userId, orNaN(upperLevel), orNaN(lowerLevel)));
+    }
+
+    public void unregister(long instrumentId, long ruleId, Double upperLevel, Double lowerLevel) {
+        afterCommit(() -> index.remove(instrumentId, ruleId, orNaN(upperLevel), orNaN(lowerLevel)));
+    }
+
+    public long indexedLevels() {
+        return index.size();
+    }
+
+    private void stream(String sql, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, handler);
+    }
+
+    private static double level(ResultSet rs, int column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? Double.NaN : value;
+    }
+
+    private static double orNaN(Double value) {
+        return value == null ? Double.NaN : value;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
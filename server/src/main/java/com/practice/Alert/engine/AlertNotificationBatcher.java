@@ -0,0 +1,153 @@
+package com.practice.Alert.engine;
+
+import com.practice.Alert.repository.AlertRuleRepository;
+import com.practice.Instrument.model.InstrumentTickerView;
+import com.practice.Instrument.repository.InstrumentRepository;
+import com.practice.Notification.Enum.EnumTypeNotification;
+import com.practice.Notification.cache.UnreadNotificationCounter;
+import com.practice.Notification.dtoResponse.NotificationCreateResponseDto;
+import com.practice.Notification.event.NotificationCreatedEvent;
+import com.practice.Notification.model.NotificationModel;
+import com.practice.Notification.repository.NotificationRepository;
+import com.practice.User.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Acumula las alertas disparadas y las convierte en notificaciones ALERTA_MERCADO por lotes:
+ * una transacción por lote que inserta las notificaciones y desactiva sus reglas.
+ *
+ * <p>Solo escribe el flush programado. {@link #enqueue} se llama desde el afterCommit de otra
+ * transacción, donde una transacción nueva se uniría a la ya confirmada y sus escrituras se
+ * perderían; por eso con la cola llena las alertas se descartan y se cuentan.</p>
+ */
+@Slf4j
+@Component
+public class AlertNotificationBatcher {
+    private static final String ALERT_ABOVE = "%s subió a %.2f y superó tu alerta de %.2f";
+    private static final String ALERT_BELOW = "%s bajó a %.2f y perforó tu alerta de %.2f";
+
+    private final NotificationRepository notificationRepository;
+    private final AlertRuleRepository alertRuleRepository;
+    private final InstrumentRepository instrumentRepository;
+    private final UserRepository userRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<FiredAlert> queue;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final int batchSize;
+    private final Counter fired;
+    private final Counter failed;
+    private final Counter dropped;
+
+    public AlertNotificationBatcher(NotificationRepository notificationRepository,
+                                    AlertRuleRepository alertRuleRepository,
+                                    InstrumentRepository instrumentRepository,
+                                    UserRepository userRepository,
+                                    UnreadNotificationCounter unreadNotificationCounter,
+                                    ApplicationEventPublisher eventPublisher,
+                                    TransactionTemplate transactionTemplate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${alert.queue-capacity:100000}") int queueCapacity,
+                                    @Value("${alert.batch-size:500}") int batchSize) {
+        this.notificationRepository = notificationRepository;
+        this.alertRuleRepository = alertRuleRepository;
+        this.instrumentRepository = instrumentRepository;
+        this.userRepository = userRepository;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.fired = meterRegistry.counter("alert.fired");
+        this.failed = meterRegistry.counter("alert.failed");
+        this.dropped = meterRegistry.counter("alert.dropped");
+        meterRegistry.gauge("alert.queue.size", queue, Collection::size);
+    }
+
+    public void enqueue(List<FiredAlert> alerts) {
+        int rejected = 0;
+        for (FiredAlert alert : alerts) {
+            if (!queue.offer(alert)) {
+                rejected++;
+            }
+        }
+        if (rejected > 0) {
+            // Como en un lote fallido, las reglas siguen activas en la base y se vuelven a indexar al reiniciar
+            dropped.increment(rejected);
+            log.warn("Cola de alertas llena: se descartaron {} alertas de mercado", rejected);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${alert.flush-ms:200}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<FiredAlert> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                write(batch);
+                batch.clear();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void write(List<FiredAlert> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(batch));
+            fired.increment(batch.size());
+        } catch (RuntimeException e) {
+            // Las reglas siguen activas en la base y se vuelven a indexar al reiniciar
+            failed.increment(batch.size());
+            log.error("No se pudieron guardar {} alertas de mercado", batch.size(), e);
+        }
+    }
+
+    private void persist(List<FiredAlert> batch) {
+        Set<Long> instrumentIds = batch.stream().map(FiredAlert::instrumentId).collect(Collectors.toSet());
+        Map<Long, String> tickers = instrumentRepository.findTickersByIdIn(instrumentIds).stream()
+                .collect(Collectors.toMap(InstrumentTickerView::id, InstrumentTickerView::ticker));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationModel> notifications = new ArrayList<>(batch.size());
+        for (FiredAlert alert : batch) {
+            String ticker = tickers.getOrDefault(alert.instrumentId(), String.valueOf(alert.instrumentId()));
+            String message = String.format(alert.above() ? ALERT_ABOVE : ALERT_BELOW, ticker, alert.price(), alert.level());
+            notifications.add(NotificationModel.builder()
+                    .type(EnumTypeNotification.ALERTA_MERCADO)
+                    .message(message)
+                    .dateCreate(now)
+                    .isRead(false)
+                    .user(userRepository.getReferenceById(alert.userId()))
+                    .build());
+        }
+        notificationRepository.saveAll(notifications);
+        alertRuleRepository.deactivate(batch.stream().map(FiredAlert::ruleId).toList(), now);
+
+        Map<Long, Long> perUser = new HashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            long userId = batch.get(i).userId();
+            NotificationModel notification = notifications.get(i);
+            perUser.merge(userId, 1L, Long::sum);
+            eventPublisher.publishEvent(new NotificationCreatedEvent(userId, new NotificationCreateResponseDto(
+                    notification.getId(), EnumTypeNotification.ALERTA_MERCADO.name(),
+                    notification.getMessage(), false, userId)));
+        }
+        perUser.forEach(unreadNotificationCounter::adjust);
+    }
+}
@@ -0,0 +1,142 @@
+package com.practice.Alert.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Índice en memoria de las reglas de alerta activas.
+ *
+ * <p>Cada instrumento tiene dos {@link LevelBook}: los techos, que se disparan cuando el precio
+ * llega o supera el nivel, y los pisos, cuando llega o baja del nivel. Como las reglas disparadas
+ * salen del índice, los techos vivos están todos por encima del último precio y los pisos por
+ * debajo: una cotización dispara un prefijo de los techos o un sufijo de los pisos, y se
+ * encuentra con una búsqueda binaria sin mirar las reglas que no cruza. Una regla porcentual
+ * ocupa un techo y un piso; al dispararse una mitad se quita la otra.</p>
+ */
+public class AlertRuleIndex {
+    private final Map<Long, InstrumentBook> books = new ConcurrentHashMap<>();
+    private final AtomicLong entries = new AtomicLong();
+
+    /**
+     * Agrega la regla; {@code upper} o {@code lower} son NaN si la regla no tiene ese lado.
+     */
+    public void add(long instrumentId, long ruleId, long userId, double upper, double lower) {
+        books.computeIfAbsent(instrumentId, id -> new InstrumentBook()).add(ruleId, userId, upper, lower);
+    }
+
+    /**
+     * Agrega solo el techo de la regla, con {@code sibling} como su piso (o NaN). Pensado para cargar
+     * techos ordenados por nivel, que así quedan siempre al final del arreglo.
+     */
+    public void addUpper(long instrumentId, long ruleId, long userId, double level, double sibling) {
+        books.computeIfAbsent(instrumentId, id -> new InstrumentBook()).addSide(true, ruleId, userId, level, sibling);
+    }
+
+    /** Como {@link #addUpper}, para el piso. */
+    public void addLower(long instrumentId, long ruleId, long userId, double level, double sibling) {
+        books.computeIfAbsent(instrumentId, id -> new InstrumentBook()).addSide(false, ruleId, userId, level, sibling);
+    }
+
+    public void remove(long instrumentId, long ruleId, double upper, double lower) {
+        InstrumentBook book = books.get(instrumentId);
+        if (book != null) {
+            book.remove(ruleId, upper, lower);
+        }
+    }
+
+    /**
+     * Quita del índice y devuelve las reglas que cruza {@code price}.
+     */
+    public List<FiredAlert> crossed(long instrumentId, double price) {
+        InstrumentBook book = books.get(instrumentId);
+        return book == null ? Collections.emptyList() : book.crossed(instrumentId, price);
+    }
+
+    /** Cantidad de niveles indexados (una regla porcentual cuenta dos). */
+    public long size() {
+        return entries.get();
+    }
+
+    public void clear() {
+        books.clear();
+        entries.set(0);
+    }
+
+    private final class InstrumentBook {
+        private final LevelBook upper = new LevelBook();
+        private final LevelBook lower = new LevelBook();
+
+        synchronized void add(long ruleId, long userId, double upperLevel, double lowerLevel) {
+            int before = upper.size() + lower.size();
+            if (!Double.isNaN(upperLevel)) {
+                upper.insert(upperLevel, ruleId, userId, lowerLevel);
+            }
+            if (!Double.isNaN(lowerLevel)) {
+                lower.insert(lowerLevel, ruleId, userId, upperLevel);
+            }
+            entries.addAndGet(upper.size() + lower.size() - before);
+        }
+
+        synchronized void addSide(boolean isUpper, long ruleId, long userId, double level, double sibling) {
+            if ((isUpper ? upper : lower).insert(level, ruleId, userId, sibling)) {
+                entries.incrementAndGet();
+            }
+        }
+
+        synchronized void remove(long ruleId, double upperLevel, double lowerLevel) {
+            int before = upper.size() + lower.size();
+            if (!Double.isNaN(upperLevel)) {
+                upper.remove(upperLevel, ruleId);
+            }
+            if (!Double.isNaN(lowerLevel)) {
+                lower.remove(lowerLevel, ruleId);
+            }
+            entries.addAndGet(upper.size() + lower.size() - before);
+        }
+
+        synchronized List<FiredAlert> crossed(long instrumentId, double price) {
+            int upperCut = upper.upperBound(price);
+            int lowerCut = lower.lowerBound(price);
+            if (upperCut == upper.start() && lowerCut == lower.end()) {
+                // El caso común: la cotización no cruza ninguna regla
+                return Collections.emptyList();
+            }
+            int before = upper.size() + lower.size();
+            List<FiredAlert> fired = new ArrayList<>(upperCut - upper.start() + lower.end() - lowerCut);
+
+            double[] upperSiblings = new double[upperCut - upper.start()];
+            for (int i = upper.start(); i < upperCut; i++) {
+                fired.add(new FiredAlert(upper.ruleId(i), upper.userId(i), instrumentId, upper.level(i), true, price));
+                upperSiblings[i - upper.start()] = upper.sibling(i);
+            }
+            upper.dropHead(upperCut);
+
+            int firstLower = fired.size();
+            double[] lowerSiblings = new double[lower.end() - lowerCut];
+            for (int i = lowerCut; i < lower.end(); i++) {
+                fired.add(new FiredAlert(lower.ruleId(i), lower.userId(i), instrumentId, lower.level(i), false, price));
+                lowerSiblings[i - lowerCut] = lower.sibling(i);
+            }
+            lower.dropTail(lowerCut);
+
+            // Las mitades hermanas de las reglas porcentuales disparadas
+            for (int i = 0; i < upperSiblings.length; i++) {
+                if (!Double.isNaN(upperSiblings[i])) {
+                    lower.remove(upperSiblings[i], fired.get(i).ruleId());
+                }
+            }
+            for (int i = 0; i < lowerSiblings.length; i++) {
+                if (!Double.isNaN(lowerSiblings[i])) {
+                    upper.remove(lowerSiblings[i], fired.get(firstLower + i).ruleId());
+                }
+            }
+
+            entries.addAndGet(upper.size() + lower.size() - before);
+            return fired;
+        }
+    }
+}
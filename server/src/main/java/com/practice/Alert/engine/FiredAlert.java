@@ -0,0 +1,7 @@
+package com.practice.Alert.engine;
+
+/**
+ * Regla cruzada por una cotización; {@code above} indica si se superó un techo o se perforó un piso.
+ */
+public record FiredAlert(long ruleId, long userId, long instrumentId, double level, boolean above, double price) {
+}
@@ -0,0 +1,181 @@
+package com.practice.Alert.engine;
+
+/**
+ * Un lado (techos o pisos) de las reglas de un instrumento: arreglos paralelos ordenados por nivel.
+ * Las entradas vivas están en {@code [start, end)}; quitar por los extremos es O(1), que es lo
+ * que pasa cuando el precio cruza niveles.
+ */
+final class LevelBook {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private double[] levels = new double[INITIAL_CAPACITY];
+    private long[] ruleIds = new long[INITIAL_CAPACITY];
+    private long[] userIds = new long[INITIAL_CAPACITY];
+    // Nivel de la otra mitad de una regla porcentual, o NaN
+    private double[] siblings = new double[INITIAL_CAPACITY];
+    private int start;
+    private int end;
+
+    int start() {
+        return start;
+    }
+
+    int end() {
+        return end;
+    }
+
+    int size() {
+        return end - start;
+    }
+
+    double level(int i) {
+        return levels[i];
+    }
+
+    long ruleId(int i) {
+        return ruleIds[i];
+    }
+
+    long userId(int i) {
+        return userIds[i];
+    }
+
+    double sibling(int i) {
+        return siblings[i];
+    }
+
+    /** Primer índice cuyo nivel es mayor que {@code value}. */
+    int upperBound(double value) {
+        int lo = start;
+        int hi = end;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (levels[mid] <= value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /** Primer índice cuyo nivel es mayor o igual que {@code value}. */
+    int lowerBound(double value) {
+        int lo = start;
+        int hi = end;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (levels[mid] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * @return {@code false} si la regla ya estaba en ese nivel
+     */
+    boolean insert(double level, long ruleId, long userId, double sibling) {
+        for (int i = lowerBound(level); i < end && levels[i] == level; i++) {
+            if (ruleIds[i] == ruleId) {
+                return false;
+            }
+        }
+        if (end == levels.length) {
+            makeRoom();
+        }
+        // Cargadas en orden ascendente caen al final y no se mueve nada
+        int pos = upperBound(level);
+        int tail = end - pos;
+        if (tail > 0) {
+            System.arraycopy(levels, pos, levels, pos + 1, tail);
+            System.arraycopy(ruleIds, pos, ruleIds, pos + 1, tail);
+            System.arraycopy(userIds, pos, userIds, pos + 1, tail);
+            System.arraycopy(siblings, pos, siblings, pos + 1, tail);
+        }
+        levels[pos] = level;
+        ruleIds[pos] = ruleId;
+        userIds[pos] = userId;
+        siblings[pos] = sibling;
+        end++;
+        return true;
+    }
+
+    boolean remove(double level, long ruleId) {
+        for (int i = lowerBound(level); i < end && levels[i] == level; i++) {
+            if (ruleIds[i] == ruleId) {
+                removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Descarta {@code [start, index)}. */
+    void dropHead(int index) {
+        start = index;
+        resetIfEmpty();
+    }
+
+    /** Descarta {@code [index, end)}. */
+    void dropTail(int index) {
+        end = index;
+        resetIfEmpty();
+    }
+
+    private void removeAt(int i) {
+        if (i == start) {
+            start++;
+        } else if (i == end - 1) {
+            end--;
+        } else {
+            int tail = end - i - 1;
+            System.arraycopy(levels, i + 1, levels, i, tail);
+            System.arraycopy(ruleIds, i + 1, ruleIds, i, tail);
+            System.arraycopy(userIds, i + 1, userIds, i, tail);
+            System.arraycopy(siblings, i + 1, siblings, i, tail);
+            end--;
+        }
+        resetIfEmpty();
+    }
+
+    private void resetIfEmpty() {
+        if (start == end) {
+            start = 0;
+            end = 0;
+        }
+    }
+
+    private void makeRoom() {
+        int size = size();
+        if (start > 0 && size < levels.length / 2) {
+            // Sobra lugar al principio: se compacta en vez de crecer
+            System.arraycopy(levels, start, levels, 0, size);
+            System.arraycopy(ruleIds, start, ruleIds, 0, size);
+            System.arraycopy(userIds, start, userIds, 0, size);
+            System.arraycopy(siblings, start, siblings, 0, size);
+        } else {
+            int capacity = levels.length * 2;
+            levels = copy(levels, start, size, capacity);
+            ruleIds = copy(ruleIds, start, size, capacity);
+            userIds = copy(userIds, start, size, capacity);
+            siblings = copy(siblings, start, size, capacity);
+        }
+        start = 0;
+        end = size;
+    }
+
+    private static double[] copy(double[] source, int from, int size, int capacity) {
+        double[] target = new double[capacity];
+        System.arraycopy(source, from, target, 0, size);
+        return target;
+    }
+
+    private static long[] copy(long[] source, int from, int size, int capacity) {
+        long[] target = new long[capacity];
+        System.arraycopy(source, from, target, 0, size);
+        return target;
+    }
+}
@@ -0,0 +1,56 @@
+package com.practice.Alert.model;
+
+import com.practice.Alert.Enum.EnumAlertType;
+import com.practice.Instrument.model.InstrumentModel;
+import com.practice.User.model.UserModel;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "alert_rules", indexes = {
+        @Index(name = "idx_alert_rules_user", columnList = "user_id"),
+        @Index(name = "idx_alert_rules_instrument_active", columnList = "instrument_id, active")
+})
+public class AlertRuleModel {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "alert_type")
+    private EnumAlertType alertType;
+
+    // Precio para PRECIO_MAYOR/PRECIO_MENOR, porcentaje para VARIACION_PORCENTUAL
+    private Double threshold;
+
+    @Column(name = "reference_price")
+    private Double referencePrice;
+
+    // Niveles de precio que dispara la regla, ya calculados; el índice en memoria se carga ordenado por ellos
+    @Column(name = "upper_level")
+    private Double upperLevel;
+
+    @Column(name = "lower_level")
+    private Double lowerLevel;
+
+    private Boolean active = true;
+
+    @Column(name = "create_date")
+    private LocalDateTime createDate = LocalDateTime.now();
+
+    @Column(name = "triggered_at")
+    private LocalDateTime triggeredAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private UserModel user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "instrument_id")
+    private InstrumentModel instrument;
+}
@@ -0,0 +1,20 @@
+package com.practice.Alert.model;
+
+import com.practice.Alert.Enum.EnumAlertType;
+
+import java.time.LocalDateTime;
+
+public record AlertRuleView(
+        Long id,
+        Long userId,
+        Long instrumentId,
+        EnumAlertType alertType,
+        Double threshold,
+        Double referencePrice,
+        Double upperLevel,
+        Double lowerLevel,
+        Boolean active,
+        LocalDateTime createDate,
+        LocalDateTime triggeredAt
+) {
+}
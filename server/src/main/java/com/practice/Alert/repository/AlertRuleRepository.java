@@ -0,0 +1,35 @@
+package com.practice.Alert.repository;
+
+import com.practice.Alert.model.AlertRuleModel;
+import com.practice.Alert.model.AlertRuleView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AlertRuleRepository extends JpaRepository<AlertRuleModel, Long> {
+
+    String VIEW = "select new com.practice.Alert.model.AlertRuleView(r.id, r.user.id, r.instrument.id, r.alertType, " +
+            "r.threshold, r.referencePrice, r.upperLevel, r.lowerLevel, r.active, r.createDate, r.triggeredAt) " +
+            "from AlertRuleModel r ";
+
+    @Query(VIEW + "where r.id = :id")
+    Optional<AlertRuleView> findViewById(@Param("id") Long id);
+
+    @Query(VIEW + "where r.user.id = :userId order by r.id")
+    List<AlertRuleView> findViewsByUserId(@Param("userId") Long userId);
+
+    @Query(VIEW + "where r.user.id = :userId and r.active = true order by r.id")
+    List<AlertRuleView> findActiveViewsByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("update AlertRuleModel r set r.active = false, r.triggeredAt = :triggeredAt where r.id in :ids and r.active = true")
+    int deactivate(@Param("ids") Collection<Long> ids, @Param("triggeredAt") LocalDateTime triggeredAt);
+}
@@ -0,0 +1,14 @@
+package com.practice.Alert.service;
+
+import com.practice.Alert.dtoRequest.AlertRuleRequestDto;
+import com.practice.Alert.dtoResponse.AlertRuleResponseDto;
+
+import java.util.List;
+
+public interface AlertRuleService {
+    AlertRuleResponseDto createRule(AlertRuleRequestDto request);
+
+    List<AlertRuleResponseDto> findUserRules(Long userId, boolean activeOnly);
+
+    void deleteRule(Long id);
+}
@@ -0,0 +1,122 @@
+package com.practice.Alert.service;
+
+import com.practice.Alert.Enum.EnumAlertType;
+import com.practice.Alert.dtoRequest.AlertRuleRequestDto;
+import com.practice.Alert.dtoResponse.AlertRuleResponseDto;
+import com.practice.Alert.engine.AlertEngine;
+import com.practice.Alert.model.AlertRuleModel;
+import com.practice.Alert.model.AlertRuleView;
+import com.practice.Alert.repository.AlertRuleRepository;
+import com.practice.Instrument.model.InstrumentModel;
+import com.practice.Instrument.repository.InstrumentRepository;
+import com.practice.Portfolio.repository.PortfolioRepository;
+import com.practice.User.repository.UserRepository;
+import com.practice.exceptions.AlertRuleNotFoundException;
+import com.practice.exceptions.InstrumentNotFoundException;
+import com.practice.exceptions.InvalidAlertRuleException;
+import com.practice.exceptions.UserNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AlertRuleServiceImpl implements AlertRuleService {
+    private static final String RULE_NOT_FOUND = "La regla de alerta con ID %d no fue encontrada";
+    private static final String INSTRUMENT_NOT_FOUND = "El instrumento con ID %d no fue encontrado";
+    private static final String NOT_IN_PORTFOLIO = "El usuario %d no tiene el instrumento %d en su portafolio";
+    private static final String INVALID_TYPE = "El tipo de alerta '%s' no es válido";
+    private static final String NO_QUOTE = "El instrumento %d no tiene cotización para calcular la variación";
+    private static final String INVALID_PERCENT = "La variación porcentual debe ser menor a 100";
+
+    private final AlertRuleRepository alertRuleRepository;
+    private final InstrumentRepository instrumentRepository;
+    private final PortfolioRepository portfolioRepository;
+    private final UserRepository userRepository;
+    private final AlertEngine alertEngine;
+
+    @Override
+    @Transactional
+    public AlertRuleResponseDto createRule(AlertRuleRequestDto request) {
+        if (!userRepository.existsById(request.userId())) {
+            throw new UserNotFoundException("Usuario con ID " + request.userId() + " no encontrado.");
+        }
+        InstrumentModel instrument = instrumentRepository.findById(request.instrumentId())
+                .orElseThrow(() -> new InstrumentNotFoundException(String.format(INSTRUMENT_NOT_FOUND, request.instrumentId())));
+        boolean holds = portfolioRepository.findLedgerView(request.userId(), request.instrumentId())
+                .map(position -> position.quantity() != null && position.quantity() > 0)
+                .orElse(false);
+        if (!holds) {
+            throw new InvalidAlertRuleException(String.format(NOT_IN_PORTFOLIO, request.userId(), request.instrumentId()));
+        }
+
+        EnumAlertType alertType;
+        try {
+            alertType = EnumAlertType.valueOf(request.alertType());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidAlertRuleException(String.format(INVALID_TYPE, request.alertType()));
+        }
+
+        AlertRuleModel rule = new AlertRuleModel();
+        rule.setAlertType(alertType);
+        rule.setThreshold(request.threshold());
+        rule.setUser(userRepository.getReferenceById(request.userId()));
+        rule.setInstrument(instrument);
+        switch (alertType) {
+            case PRECIO_MAYOR -> rule.setUpperLevel(request.threshold());
+            case PRECIO_MENOR -> rule.setLowerLevel(request.threshold());
+            case VARIACION_PORCENTUAL -> {
+                Double quote = instrument.getQuotes();
+                if (quote == null || quote <= 0) {
+                    throw new InvalidAlertRuleException(String.format(NO_QUOTE, request.instrumentId()));
+                }
+                if (request.threshold() >= 100) {
+                    throw new InvalidAlertRuleException(INVALID_PERCENT);
+                }
+                double ratio = request.threshold() / 100.0;
+                rule.setReferencePrice(quote);
+                rule.setUpperLevel(quote * (1 + ratio));
+                rule.setLowerLevel(quote * (1 - ratio));
+            }
+        }
+        AlertRuleModel saved = alertRuleRepository.save(rule);
+        alertEngine.register(request.instrumentId(), saved.getId(), request.userId(), saved.getUpperLevel(), saved.getLowerLevel());
+        return toDto(saved, request.userId(), request.instrumentId());
+    }
+
+    @Override
+    public List<AlertRuleResponseDto> findUserRules(Long userId, boolean activeOnly) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException("Usuario con ID " + userId + " no encontrado.");
+        }
+        List<AlertRuleView> rules = activeOnly
+                ? alertRuleRepository.findActiveViewsByUserId(userId)
+                : alertRuleRepository.findViewsByUserId(userId);
+        return rules.stream().map(this::toDto).toList();
+    }
+
+    @Override
+    @Transactional
+    public void deleteRule(Long id) {
+        AlertRuleView rule = alertRuleRepository.findViewById(id)
+                .orElseThrow(() -> new AlertRuleNotFoundException(String.format(RULE_NOT_FOUND, id)));
+        alertRuleRepository.deleteById(id);
+        if (Boolean.TRUE.equals(rule.active())) {
+            alertEngine.unregister(rule.instrumentId(), rule.id(), rule.upperLevel(), rule.lowerLevel());
+        }
+    }
+
+    private AlertRuleResponseDto toDto(AlertRuleModel rule, Long userId, Long instrumentId) {
+        return new AlertRuleResponseDto(rule.getId(), userId, instrumentId, rule.getAlertType().name(),
+                rule.getThreshold(), rule.getReferencePrice(), rule.getUpperLevel(), rule.getLowerLevel(),
+                rule.getActive(), rule.getCreateDate(), rule.getTriggeredAt());
+    }
+
+    private AlertRuleResponseDto toDto(AlertRuleView rule) {
+        return new AlertRuleResponseDto(rule.id(), rule.userId(), rule.instrumentId(), rule.alertType().name(),
+                rule.threshold(), rule.referencePrice(), rule.upperLevel(), rule.lowerLevel(),
+                rule.active(), rule.createDate(), rule.triggeredAt());
+    }
+}
@@ -0,0 +1,183 @@
+package com.practice.Cost.analytics;
+
+import com.practice.Cost.dtoResponse.CostBackfillResponseDto;
+import com.practice.Cost.model.CostMonthlyTotalView;
+import com.practice.Cost.repository.CostRepository;
+import com.practice.exceptions.CostBackfillRunningException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reconstruye {@code cost_monthly_rollups} desde {@code costs}, por bloques de usuarios (keyset
+ * sobre user_id), en una transacción por bloque.
+ *
+ * <p>Antes de leer los gastos el bloque bloquea su rango: las filas de {@code users} (la FK de
+ * {@code costs} toma FOR KEY SHARE, así que un alta concurrente espera y una en curso se confirma
+ * antes) y las celdas existentes (modificaciones y bajas). Luego sobrescribe cada celda con el
+ * total recalculado y borra las que quedaron sin gastos, sin borrar e insertar todo el rango.</p>
+ */
+@Slf4j
+@Component
+public class CostRollupBackfillJob {
+    private static final String DELETE_ORPHANS_SQL =
+            "delete from cost_monthly_rollups where user_id not in (select c.user_id from costs c where c.user_id is not null)";
+    private static final String LOCK_USERS_SQL =
+            "select id from users where id between ? and ? for update";
+    private static final String LOCK_CELLS_SQL =
+            "select user_id, period_month, category from cost_monthly_rollups where user_id between ? and ? for update";
+    // Mismo orden de parámetros en las tres: total, entries, user_id, period_month, category
+    private static final String UPDATE_SQL =
+            "update cost_monthly_rollups set total_amount = ?, entries = ? where user_id = ? and period_month = ? and category = ?";
+    private static final String INSERT_SQL =
+            "insert into cost_monthly_rollups (total_amount, entries, user_id, period_month, category) " +
+            "values (?, ?, ?, ?, ?) on conflict do nothing";
+    private static final String DELETE_CELL_SQL =
+            "delete from cost_monthly_rollups where user_id = ? and period_month = ? and category = ?";
+    private static final String COUNT_ROLLUPS_SQL = "select count(*) from cost_monthly_rollups";
+    private static final String COUNT_COSTS_SQL = "select count(*) from costs where user_id is not null";
+
+    private final CostRepository costRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final boolean backfillOnStartup;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public CostRollupBackfillJob(CostRepository costRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${cost.rollup.backfill-chunk-size:500}") int chunkSize,
+                                 @Value("${cost.rollup.backfill-on-startup:true}") boolean backfillOnStartup) {
+        this.costRepository = costRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    // Primera ejecución sobre una base con gastos cargados antes de existir los acumulados; corre en su
+    // propio hilo para no demorar el arranque
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackfillIfEmpty() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                backfillIfEmpty();
+            } catch (RuntimeException e) {
+                log.error("Falló la reconstrucción inicial de acumulados de gastos", e);
+            }
+        }, "cost-rollup-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void backfillIfEmpty() {
+        Long rollups = jdbcTemplate.queryForObject(COUNT_ROLLUPS_SQL, Long.class);
+        Long costs = jdbcTemplate.queryForObject(COUNT_COSTS_SQL, Long.class);
+        if (rollups != null && rollups == 0 && costs != null && costs > 0) {
+            CostBackfillResponseDto result = run();
+            log.info("Acumulados de gastos reconstruidos: {} usuarios, {} filas en {} ms",
+                    result.processedUsers(), result.rollupRows(), result.durationMs());
+        }
+    }
+
+    public CostBackfillResponseDto run() {
+        if (!running.compareAndSet(false, true)) {
+            throw new CostBackfillRunningException("La reconstrucción de acumulados de gastos ya está en ejecución");
+        }
+        long start = System.currentTimeMillis();
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(DELETE_ORPHANS_SQL));
+
+            long users = 0;
+            long rows = 0;
+            Long cursor = 0L;
+            while (true) {
+                List<Long> userIds = costRepository.findUserIdsAfter(cursor, PageRequest.of(0, chunkSize));
+                if (userIds.isEmpty()) {
+                    break;
+                }
+                Long fromUserId = userIds.get(0);
+                Long toUserId = userIds.get(userIds.size() - 1);
+                Integer inserted = transactionTemplate.execute(status -> rebuild(fromUserId, toUserId));
+                users += userIds.size();
+                rows += inserted != null ? inserted : 0;
+                cursor = toUserId;
+            }
+            return new CostBackfillResponseDto(users, rows, System.currentTimeMillis() - start);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int rebuild(Long fromUserId, Long toUserId) {
+        jdbcTemplate.queryForList(LOCK_USERS_SQL, Long.class, fromUserId, toUserId);
+        List<CellKey> existing = jdbcTemplate.query(LOCK_CELLS_SQL, (resultSet, rowNum) -> new CellKey(
+                resultSet.getLong("user_id"), resultSet.getDate("period_month").toLocalDate(),
+                resultSet.getString("category")), fromUserId, toUserId);
+
+        // Varias grafías de la misma categoría caen en la misma celda
+        Map<CellKey, double[]> cells = new LinkedHashMap<>();
+        for (CostMonthlyTotalView total : costRepository.findMonthlyTotals(fromUserId, toUserId)) {
+            CellKey key = new CellKey(total.userId(), LocalDate.of(total.year(), total.month(), 1),
+                    CostRollupEntry.category(total.category()));
+            double[] cell = cells.computeIfAbsent(key, k -> new double[2]);
+            cell[0] += total.totalAmount() != null ? total.totalAmount() : 0.0;
+            cell[1] += total.entries();
+        }
+
+        List<Object[]> values = new ArrayList<>(cells.size());
+        cells.forEach((key, cell) -> values.add(new Object[]{
+                cell[0], (long) cell[1], key.userId(), Date.valueOf(key.periodMonth()), key.category()}));
+        if (!values.isEmpty()) {
+            upsert(values);
+        }
+
+        List<Object[]> stale = new ArrayList<>();
+        for (CellKey key : existing) {
+            if (!cells.containsKey(key)) {
+                stale.add(new Object[]{key.userId(), Date.valueOf(key.periodMonth()), key.category()});
+            }
+        }
+        if (!stale.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_CELL_SQL, stale);
+        }
+        return values.size();
+    }
+
+    // Como en CostRollupWriter: si otra transacción crea la celda entre el UPDATE y el INSERT, el
+    // INSERT no hace nada y el segundo UPDATE deja el total recalculado. No se miran los conteos del
+    // INSERT porque con reWriteBatchedInserts el driver no los informa
+    private void upsert(List<Object[]> values) {
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, values);
+        List<Object[]> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                missing.add(values.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, missing);
+            jdbcTemplate.batchUpdate(UPDATE_SQL, missing);
+        }
+    }
+
+    private record CellKey(Long userId, LocalDate periodMonth, String category) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.practice.Cost.analytics;
+
+import com.practice.Cost.model.CostModel;
+
+import java.time.LocalDate;
+
+/**
+ * Celda de {@code cost_monthly_rollups} a la que suma un gasto y el monto que aporta.
+ */
+public record CostRollupEntry(Long userId, LocalDate periodMonth, String category, double amount) {
+    public static final String NO_CATEGORY = "SIN_CATEGORIA";
+
+    /**
+     * Devuelve {@code null} si el gasto no tiene usuario o fecha, porque no entra en ningún acumulado.
+     */
+    public static CostRollupEntry of(CostModel cost) {
+        if (cost.getUser() == null || cost.getUser().getId() == null || cost.getDate() == null) {
+            return null;
+        }
+        return new CostRollupEntry(
+                cost.getUser().getId(),
+                cost.getDate().toLocalDate().withDayOfMonth(1),
+                category(cost.getCategory()),
+                cost.getAmount() != null ? cost.getAmount() : 0.0);
+    }
+
+    public static String category(String category) {
+        if (category == null || category.isBlank()) {
+            return NO_CATEGORY;
+        }
+        return category.trim().toUpperCase();
+    }
+}
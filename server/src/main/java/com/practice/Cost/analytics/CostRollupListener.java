@@ -0,0 +1,51 @@
+package com.practice.Cost.analytics;
+
+import com.practice.Cost.model.CostModel;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Mantiene los acumulados mensuales en la misma transacción que cada escritura de {@code costs}.
+ * Al cargar un gasto se recuerda su aporte; al actualizarlo se resta el aporte anterior y se suma
+ * el nuevo, así que cambiar monto, fecha o categoría mueve el importe a la celda correcta.
+ */
+@Component
+@RequiredArgsConstructor
+public class CostRollupListener {
+    private final CostRollupWriter costRollupWriter;
+
+    @PostLoad
+    public void onLoad(CostModel cost) {
+        cost.setRollupEntry(CostRollupEntry.of(cost));
+    }
+
+    @PostPersist
+    public void onPersist(CostModel cost) {
+        CostRollupEntry entry = CostRollupEntry.of(cost);
+        costRollupWriter.add(entry);
+        cost.setRollupEntry(entry);
+    }
+
+    @PostUpdate
+    public void onUpdate(CostModel cost) {
+        CostRollupEntry previous = cost.getRollupEntry();
+        CostRollupEntry current = CostRollupEntry.of(cost);
+        if (!Objects.equals(previous, current)) {
+            costRollupWriter.subtract(previous);
+            costRollupWriter.add(current);
+        }
+        cost.setRollupEntry(current);
+    }
+
+    @PostRemove
+    public void onRemove(CostModel cost) {
+        costRollupWriter.subtract(cost.getRollupEntry() != null ? cost.getRollupEntry() : CostRollupEntry.of(cost));
+        cost.setRollupEntry(null);
+    }
+}
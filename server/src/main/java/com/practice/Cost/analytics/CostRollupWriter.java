@@ -0,0 +1,48 @@
+package com.practice.Cost.analytics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+
+/**
+ * Suma y resta gastos sobre {@code cost_monthly_rollups} con UPDATE relativos, de modo que dos
+ * transacciones que tocan la misma celda no se pisan. La fila se crea la primera vez con
+ * {@code on conflict do nothing} y se borra cuando se queda sin gastos.
+ */
+@Component
+@RequiredArgsConstructor
+public class CostRollupWriter {
+    private static final String UPDATE_SQL =
+            "update cost_monthly_rollups set total_amount = total_amount + ?, entries = entries + ? " +
+            "where user_id = ? and period_month = ? and category = ?";
+    private static final String INSERT_SQL =
+            "insert into cost_monthly_rollups (user_id, period_month, category, total_amount, entries) " +
+            "values (?, ?, ?, 0, 0) on conflict do nothing";
+    private static final String DELETE_EMPTY_SQL =
+            "delete from cost_monthly_rollups where user_id = ? and period_month = ? and category = ? and entries <= 0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void add(CostRollupEntry entry) {
+        if (entry == null) {
+            return;
+        }
+        Date month = Date.valueOf(entry.periodMonth());
+        int updated = jdbcTemplate.update(UPDATE_SQL, entry.amount(), 1, entry.userId(), month, entry.category());
+        if (updated == 0) {
+            jdbcTemplate.update(INSERT_SQL, entry.userId(), month, entry.category());
+            jdbcTemplate.update(UPDATE_SQL, entry.amount(), 1, entry.userId(), month, entry.category());
+        }
+    }
+
+    public void subtract(CostRollupEntry entry) {
+        if (entry == null) {
+            return;
+        }
+        Date month = Date.valueOf(entry.periodMonth());
+        jdbcTemplate.update(UPDATE_SQL, -entry.amount(), -1, entry.userId(), month, entry.category());
+        jdbcTemplate.update(DELETE_EMPTY_SQL, entry.userId(), month, entry.category());
+    }
+}
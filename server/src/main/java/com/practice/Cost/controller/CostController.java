@@ -1,15 +1,27 @@
 package com.practice.Cost.controller;
 
+import com.practice.Cost.analytics.CostRollupBackfillJob;
+import com.practice.Cost.dtoRequest.CostBudgetRequestDto;
+import com.practice.Cost.dtoRequest.CostRequestDto;
+import com.practice.Cost.dtoResponse.CostBackfillResponseDto;
+import com.practice.Cost.dtoResponse.CostBreakdownResponseDto;
+import com.practice.Cost.dtoResponse.CostBudgetResponseDto;
 import com.practice.Cost.dtoResponse.CostPageResponseDto;
+import com.practice.Cost.dtoResponse.CostTrendResponseDto;
+import com.practice.Cost.service.CostAnalyticsServiceImpl;
 import com.practice.Cost.service.CostServiceImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,6 +30,8 @@ import org.springframework.web.bind.annotation.RestController;
 @Validated
 public class CostController {
     private final CostServiceImpl costServiceImpl;
+    private final CostAnalyticsServiceImpl costAnalyticsServiceImpl;
+    private final CostRollupBackfillJob costRollupBackfillJob;
 
     @GetMapping("/")
     public ResponseEntity<CostPageResponseDto> findAllCost(
@@ -28,4 +42,98 @@ public class CostController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Obtener gasto por ID", description = "Devuelve un gasto por ID")
+    @ApiResponse(responseCode = "200", description = "Gasto obtenido correctamente")
+    @ApiResponse(responseCode = "404", description = "No se encontró el gasto")
+    @GetMapping("/{id}")
+    public ResponseEntity<CostRequestDto> findCostById(@PathVariable Long id) {
+        return ResponseEntity.ok(costServiceImpl.findCostById(id));
+    }
+
+    @Operation(summary = "Crear un gasto", description = "Registra un gasto del usuario y actualiza sus acumulados mensuales")
+    @ApiResponse(responseCode = "201", description = "Gasto creado correctamente")
+    @ApiResponse(responseCode = "404", description = "No se encontró el usuario")
+    @PostMapping("/create")
+    public ResponseEntity<CostRequestDto> createCost(@RequestBody CostRequestDto costRequest) {
+        return new ResponseEntity<>(costServiceImpl.createCost(costRequest), HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "Actualizar un gasto", description = "Actualiza los campos enviados de un gasto")
+    @ApiResponse(responseCode = "200", description = "Gasto actualizado correctamente")
+    @ApiResponse(responseCode = "404", description = "No se encontró el gasto o el usuario")
+    @PatchMapping("/{id}")
+    public ResponseEntity<CostRequestDto> updateCost(@PathVariable Long id, @RequestBody CostRequestDto costRequest) {
+        return ResponseEntity.ok(costServiceImpl.updateCost(id, costRequest));
+    }
+
+    @Operation(summary = "Eliminar un gasto", description = "Elimina un gasto por ID")
+    @ApiResponse(responseCode = "204", description = "Gasto eliminado correctamente")
+    @ApiResponse(responseCode = "404", description = "No se encontró el gasto")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteCost(@PathVariable Long id) {
+        costServiceImpl.deleteCost(id);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @Operation(summary = "Gastos por categoría",
+            description = "Total y participación de cada categoría entre dos meses (yyyy-MM). Por defecto, los últimos 12 meses")
+    @ApiResponse(responseCode = "200", description = "Distribución obtenida correctamente")
+    @ApiResponse(responseCode = "400", description = "Rango de meses inválido")
+    @ApiResponse(responseCode = "404", description = "No se encontró el usuario")
+    @GetMapping("/user/{userId}/breakdown")
+    public ResponseEntity<CostBreakdownResponseDto> breakdown(
+            @PathVariable Long userId,
+            @RequestParam(required = false) YearMonth from,
+            @RequestParam(required = false) YearMonth to
+    ) {
+        return ResponseEntity.ok(costAnalyticsServiceImpl.breakdown(userId, from, to));
+    }
+
+    @Operation(summary = "Evolución mensual de gastos",
+            description = "Total por mes entre dos meses (yyyy-MM), opcionalmente de una sola categoría")
+    @ApiResponse(responseCode = "200", description = "Evolución obtenida correctamente")
+    @ApiResponse(responseCode = "400", description = "Rango de meses inválido")
+    @ApiResponse(responseCode = "404", description = "No se encontró el usuario")
+    @GetMapping("/user/{userId}/trend")
+    public ResponseEntity<CostTrendResponseDto> trend(
+            @PathVariable Long userId,
+            @RequestParam(required = false) YearMonth from,
+            @RequestParam(required = false) YearMonth to,
+            @RequestParam(required = false) String category
+    ) {
+        return ResponseEntity.ok(costAnalyticsServiceImpl.trend(userId, from, to, category));
+    }
+
+    @Operation(summary = "Presupuesto contra gasto real",
+            description = "Compara los gastos del mes (yyyy-MM, por defecto el actual) con el presupuesto de cada categoría")
+    @ApiResponse(responseCode = "200", description = "Comparación obtenida correctamente")
+    @ApiResponse(responseCode = "404", description = "No se encontró el usuario")
+    @GetMapping("/user/{userId}/budget")
+    public ResponseEntity<CostBudgetResponseDto> budget(
+            @PathVariable Long userId,
+            @RequestParam(required = false) YearMonth month
+    ) {
+        return ResponseEntity.ok(costAnalyticsServiceImpl.budget(userId, month));
+    }
+
+    @Operation(summary = "Definir presupuestos", description = "Reemplaza los presupuestos mensuales por categoría del usuario")
+    @ApiResponse(responseCode = "200", description = "Presupuestos guardados correctamente")
+    @ApiResponse(responseCode = "400", description = "Datos de presupuesto inválidos")
+    @ApiResponse(responseCode = "404", description = "No se encontró el usuario")
+    @PutMapping("/user/{userId}/budget")
+    public ResponseEntity<CostBudgetResponseDto> saveBudgets(
+            @PathVariable Long userId,
+            @RequestBody List<@Valid CostBudgetRequestDto> budgets
+    ) {
+        return ResponseEntity.ok(costAnalyticsServiceImpl.saveBudgets(userId, budgets));
+    }
+
+    @Operation(summary = "Reconstruir acumulados de gastos",
+            description = "Recalcula los totales mensuales por categoría a partir de todos los gastos cargados")
+    @ApiResponse(responseCode = "200", description = "Acumulados reconstruidos correctamente")
+    @ApiResponse(responseCode = "409", description = "Ya hay una reconstrucción en curso")
+    @PostMapping("/rollup/backfill")
+    public ResponseEntity<CostBackfillResponseDto> backfill() {
+        return ResponseEntity.ok(costRollupBackfillJob.run());
+    }
 }
@@ -0,0 +1,14 @@
+package com.practice.Cost.dtoRequest;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+public record CostBudgetRequestDto(
+        @NotBlank(message = "La categoría es obligatoria")
+        String category,
+        @NotNull(message = "El límite mensual es obligatorio")
+        @PositiveOrZero(message = "El límite mensual no puede ser negativo")
+        Double monthlyLimit
+) {
+}
@@ -0,0 +1,8 @@
+package com.practice.Cost.dtoResponse;
+
+public record CostBackfillResponseDto(
+        long processedUsers,
+        long rollupRows,
+        long durationMs
+) {
+}
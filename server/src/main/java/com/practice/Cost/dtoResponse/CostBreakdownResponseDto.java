@@ -0,0 +1,14 @@
+package com.practice.Cost.dtoResponse;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public record CostBreakdownResponseDto(
+        Long userId,
+        YearMonth from,
+        YearMonth to,
+        double total,
+        long entries,
+        List<CostCategoryTotalDto> categories
+) {
+}
@@ -0,0 +1,10 @@
+package com.practice.Cost.dtoResponse;
+
+public record CostBudgetLineDto(
+        String category,
+        Double budget,
+        double actual,
+        Double remaining,
+        Double usagePercentage
+) {
+}
@@ -0,0 +1,14 @@
+package com.practice.Cost.dtoResponse;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public record CostBudgetResponseDto(
+        Long userId,
+        YearMonth month,
+        Double totalBudget,
+        double totalActual,
+        Double totalRemaining,
+        List<CostBudgetLineDto> categories
+) {
+}
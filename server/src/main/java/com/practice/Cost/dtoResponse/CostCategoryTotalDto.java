@@ -0,0 +1,9 @@
+package com.practice.Cost.dtoResponse;
+
+public record CostCategoryTotalDto(
+        String category,
+        double total,
+        long entries,
+        double share
+) {
+}
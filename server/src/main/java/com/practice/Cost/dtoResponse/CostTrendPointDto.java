@@ -0,0 +1,10 @@
+package com.practice.Cost.dtoResponse;
+
+import java.time.YearMonth;
+
+public record CostTrendPointDto(
+        YearMonth month,
+        double total,
+        long entries
+) {
+}
@@ -0,0 +1,14 @@
+package com.practice.Cost.dtoResponse;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public record CostTrendResponseDto(
+        Long userId,
+        String category,
+        YearMonth from,
+        YearMonth to,
+        double monthlyAverage,
+        List<CostTrendPointDto> months
+) {
+}
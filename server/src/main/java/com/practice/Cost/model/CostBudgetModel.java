@@ -0,0 +1,26 @@
+package com.practice.Cost.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "cost_budgets", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_cost_budgets_user_category", columnNames = {"user_id", "category"})
+})
+public class CostBudgetModel {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String category;
+
+    @Column(name = "monthly_limit", nullable = false)
+    private Double monthlyLimit;
+}
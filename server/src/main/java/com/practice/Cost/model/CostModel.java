@@ -1,5 +1,7 @@
 package com.practice.Cost.model;
 
+import com.practice.Cost.analytics.CostRollupEntry;
+import com.practice.Cost.analytics.CostRollupListener;
 import com.practice.User.model.UserModel;
 import jakarta.persistence.*;
 import lombok.*;
@@ -10,10 +12,14 @@ import java.time.LocalDateTime;
 @Entity
 @Data
 @NoArgsConstructor
-@Table(name = "costs")
+@EntityListeners(CostRollupListener.class)
+@Table(name = "costs", indexes = {
+        @Index(name = "idx_costs_user_date", columnList = "user_id, date")
+})
 public class CostModel {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "costs_seq")
+    @SequenceGenerator(name = "costs_seq", sequenceName = "costs_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(targetEntity = UserModel.class)
@@ -26,4 +32,10 @@ public class CostModel {
     private Double amount;
     private LocalDateTime date = LocalDateTime.now();
     private LocalDateTime updateDate = LocalDateTime.now();
+
+    // Aporte del gasto a los acumulados mensuales tal como está en la base de datos
+    @Transient
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private CostRollupEntry rollupEntry;
 }
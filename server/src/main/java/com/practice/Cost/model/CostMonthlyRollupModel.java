@@ -0,0 +1,39 @@
+package com.practice.Cost.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Total de gastos por usuario, mes y categoría. Lo mantiene {@code CostRollupListener} con cada
+ * alta, edición o baja de un gasto; {@code CostRollupBackfillJob} lo reconstruye desde {@code costs}.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "cost_monthly_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_cost_rollups_user_month_category", columnNames = {"user_id", "period_month", "category"})
+})
+public class CostMonthlyRollupModel {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // Primer día del mes
+    @Column(name = "period_month", nullable = false)
+    private LocalDate periodMonth;
+
+    @Column(nullable = false)
+    private String category;
+
+    @Column(name = "total_amount", nullable = false)
+    private Double totalAmount;
+
+    @Column(nullable = false)
+    private Long entries;
+}
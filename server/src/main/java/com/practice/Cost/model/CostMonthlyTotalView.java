@@ -0,0 +1,4 @@
+package com.practice.Cost.model;
+
+public record CostMonthlyTotalView(Long userId, Integer year, Integer month, String category, Double totalAmount, Long entries) {
+}
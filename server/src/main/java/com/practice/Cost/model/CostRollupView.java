@@ -0,0 +1,6 @@
+package com.practice.Cost.model;
+
+import java.time.LocalDate;
+
+public record CostRollupView(LocalDate periodMonth, String category, Double totalAmount, Long entries) {
+}
@@ -0,0 +1,19 @@
+package com.practice.Cost.repository;
+
+import com.practice.Cost.model.CostBudgetModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CostBudgetRepository extends JpaRepository<CostBudgetModel, Long> {
+    List<CostBudgetModel> findByUserIdOrderByCategory(Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CostBudgetModel b where b.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
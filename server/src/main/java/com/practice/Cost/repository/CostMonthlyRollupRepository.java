@@ -0,0 +1,20 @@
+package com.practice.Cost.repository;
+
+import com.practice.Cost.model.CostMonthlyRollupModel;
+import com.practice.Cost.model.CostRollupView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface CostMonthlyRollupRepository extends JpaRepository<CostMonthlyRollupModel, Long> {
+
+    @Query("select new com.practice.Cost.model.CostRollupView(r.periodMonth, r.category, r.totalAmount, r.entries) " +
+            "from CostMonthlyRollupModel r where r.userId = :userId and r.periodMonth between :from and :to " +
+            "order by r.periodMonth, r.category")
+    List<CostRollupView> findViews(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -2,9 +2,25 @@ package com.practice.Cost.repository;
 
 
 import com.practice.Cost.model.CostModel;
+import com.practice.Cost.model.CostMonthlyTotalView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface CostRepository extends JpaRepository<CostModel,Long> {
+
+    @Query("select distinct c.user.id from CostModel c where c.user.id > :afterUserId order by c.user.id")
+    List<Long> findUserIdsAfter(@Param("afterUserId") Long afterUserId, Pageable pageable);
+
+    // Totales por usuario, mes y categoría tal como está escrita; la normalización se hace al guardar
+    @Query("select new com.practice.Cost.model.CostMonthlyTotalView(c.user.id, year(c.date), month(c.date), " +
+            "c.category, sum(c.amount), count(c)) from CostModel c " +
+            "where c.user.id between :fromUserId and :toUserId and c.date is not null " +
+            "group by c.user.id, year(c.date), month(c.date), c.category")
+    List<CostMonthlyTotalView> findMonthlyTotals(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
 }
@@ -0,0 +1,16 @@
+package com.practice.Cost.service;
+
+import com.practice.Cost.dtoRequest.CostBudgetRequestDto;
+import com.practice.Cost.dtoResponse.CostBreakdownResponseDto;
+import com.practice.Cost.dtoResponse.CostBudgetResponseDto;
+import com.practice.Cost.dtoResponse.CostTrendResponseDto;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface CostAnalyticsService {
+    CostBreakdownResponseDto breakdown(Long userId, YearMonth from, YearMonth to);
+    CostTrendResponseDto trend(Long userId, YearMonth from, YearMonth to, String category);
+    CostBudgetResponseDto budget(Long userId, YearMonth month);
+    CostBudgetResponseDto saveBudgets(Long userId, List<CostBudgetRequestDto> budgets);
+}
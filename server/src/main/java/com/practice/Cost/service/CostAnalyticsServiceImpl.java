@@ -0,0 +1,203 @@
+package com.practice.Cost.service;
+
+import com.practice.Cost.analytics.CostRollupEntry;
+import com.practice.Cost.dtoRequest.CostBudgetRequestDto;
+import com.practice.Cost.dtoResponse.CostBreakdownResponseDto;
+import com.practice.Cost.dtoResponse.CostBudgetLineDto;
+import com.practice.Cost.dtoResponse.CostBudgetResponseDto;
+import com.practice.Cost.dtoResponse.CostCategoryTotalDto;
+import com.practice.Cost.dtoResponse.CostTrendPointDto;
+import com.practice.Cost.dtoResponse.CostTrendResponseDto;
+import com.practice.Cost.model.CostBudgetModel;
+import com.practice.Cost.model.CostRollupView;
+import com.practice.Cost.repository.CostBudgetRepository;
+import com.practice.Cost.repository.CostMonthlyRollupRepository;
+import com.practice.FinancingProfile.model.FinancingProfileModel;
+import com.practice.FinancingProfile.repository.FinancingProfileRepository;
+import com.practice.User.repository.UserRepository;
+import com.practice.exceptions.InvalidDateRangeException;
+import com.practice.exceptions.UserNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Consultas de gastos servidas desde {@code cost_monthly_rollups}: el costo depende de
+ * meses × categorías del rango pedido y no de la cantidad de gastos cargados.
+ */
+@Service
+public class CostAnalyticsServiceImpl implements CostAnalyticsService {
+    private final CostMonthlyRollupRepository rollupRepository;
+    private final CostBudgetRepository costBudgetRepository;
+    private final FinancingProfileRepository financingProfileRepository;
+    private final UserRepository userRepository;
+    private final int maxMonths;
+
+    private static final String USER_NOT_FOUND = "El usuario con ID %d no fue encontrado";
+    private static final int DEFAULT_MONTHS = 12;
+
+    public CostAnalyticsServiceImpl(CostMonthlyRollupRepository rollupRepository,
+                                    CostBudgetRepository costBudgetRepository,
+                                    FinancingProfileRepository financingProfileRepository,
+                                    UserRepository userRepository,
+                                    @Value("${cost.analytics.max-months:120}") int maxMonths) {
+        this.rollupRepository = rollupRepository;
+        this.costBudgetRepository = costBudgetRepository;
+        this.financingProfileRepository = financingProfileRepository;
+        this.userRepository = userRepository;
+        this.maxMonths = maxMonths;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CostBreakdownResponseDto breakdown(Long userId, YearMonth from, YearMonth to) {
+        requireUser(userId);
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(DEFAULT_MONTHS - 1);
+        validateRange(start, end);
+
+        Map<String, double[]> byCategory = new LinkedHashMap<>();
+        double total = 0.0;
+        long entries = 0;
+        for (CostRollupView view : views(userId, start, end)) {
+            double[] cell = byCategory.computeIfAbsent(view.category(), category -> new double[2]);
+            cell[0] += view.totalAmount();
+            cell[1] += view.entries();
+            total += view.totalAmount();
+            entries += view.entries();
+        }
+
+        List<CostCategoryTotalDto> categories = new ArrayList<>(byCategory.size());
+        for (Map.Entry<String, double[]> entry : byCategory.entrySet()) {
+            double categoryTotal = entry.getValue()[0];
+            categories.add(new CostCategoryTotalDto(entry.getKey(), categoryTotal, (long) entry.getValue()[1],
+                    total != 0.0 ? categoryTotal / total : 0.0));
+        }
+        categories.sort(Comparator.comparingDouble(CostCategoryTotalDto::total).reversed());
+        return new CostBreakdownResponseDto(userId, start, end, total, entries, categories);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CostTrendResponseDto trend(Long userId, YearMonth from, YearMonth to, String category) {
+        requireUser(userId);
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(DEFAULT_MONTHS - 1);
+        validateRange(start, end);
+        String normalizedCategory = category != null && !category.isBlank() ? CostRollupEntry.category(category) : null;
+
+        // Los meses sin gastos también aparecen, con total cero
+        Map<YearMonth, double[]> byMonth = new TreeMap<>();
+        for (YearMonth month = start; !month.isAfter(end); month = month.plusMonths(1)) {
+            byMonth.put(month, new double[2]);
+        }
+        for (CostRollupView view : views(userId, start, end)) {
+            if (normalizedCategory == null || normalizedCategory.equals(view.category())) {
+                double[] cell = byMonth.get(YearMonth.from(view.periodMonth()));
+                cell[0] += view.totalAmount();
+                cell[1] += view.entries();
+            }
+        }
+
+        List<CostTrendPointDto> months = new ArrayList<>(byMonth.size());
+        double total = 0.0;
+        for (Map.Entry<YearMonth, double[]> entry : byMonth.entrySet()) {
+            months.add(new CostTrendPointDto(entry.getKey(), entry.getValue()[0], (long) entry.getValue()[1]));
+            total += entry.getValue()[0];
+        }
+        return new CostTrendResponseDto(userId, normalizedCategory, start, end, total / months.size(), months);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CostBudgetResponseDto budget(Long userId, YearMonth month) {
+        requireUser(userId);
+        YearMonth target = month != null ? month : YearMonth.now();
+
+        Map<String, Double> actual = new TreeMap<>();
+        double totalActual = 0.0;
+        for (CostRollupView view : views(userId, target, target)) {
+            actual.merge(view.category(), view.totalAmount(), Double::sum);
+            totalActual += view.totalAmount();
+        }
+
+        Map<String, Double> budgets = new TreeMap<>();
+        for (CostBudgetModel budget : costBudgetRepository.findByUserIdOrderByCategory(userId)) {
+            budgets.put(budget.getCategory(), budget.getMonthlyLimit());
+        }
+
+        Set<String> categories = new TreeSet<>(budgets.keySet());
+        categories.addAll(actual.keySet());
+        List<CostBudgetLineDto> lines = new ArrayList<>(categories.size());
+        for (String category : categories) {
+            lines.add(line(category, budgets.get(category), actual.getOrDefault(category, 0.0)));
+        }
+
+        // Sin presupuestos por categoría se compara contra los gastos mensuales declarados en el perfil
+        Double totalBudget = budgets.isEmpty()
+                ? financingProfileRepository.findByUserId(userId).map(FinancingProfileModel::getExpensesMonthly).orElse(null)
+                : budgets.values().stream().mapToDouble(Double::doubleValue).sum();
+        return new CostBudgetResponseDto(userId, target, totalBudget, totalActual,
+                totalBudget != null ? totalBudget - totalActual : null, lines);
+    }
+
+    @Override
+    @Transactional
+    public CostBudgetResponseDto saveBudgets(Long userId, List<CostBudgetRequestDto> budgets) {
+        requireUser(userId);
+        Map<String, Double> limits = new LinkedHashMap<>();
+        for (CostBudgetRequestDto budget : budgets) {
+            limits.put(CostRollupEntry.category(budget.category()), budget.monthlyLimit());
+        }
+
+        costBudgetRepository.deleteByUserId(userId);
+        List<CostBudgetModel> models = new ArrayList<>(limits.size());
+        limits.forEach((category, limit) -> {
+            CostBudgetModel model = new CostBudgetModel();
+            model.setUserId(userId);
+            model.setCategory(category);
+            model.setMonthlyLimit(limit);
+            models.add(model);
+        });
+        costBudgetRepository.saveAll(models);
+        return budget(userId, YearMonth.now());
+    }
+
+    private List<CostRollupView> views(Long userId, YearMonth from, YearMonth to) {
+        return rollupRepository.findViews(userId, from.atDay(1), to.atDay(1));
+    }
+
+    private static CostBudgetLineDto line(String category, Double budget, double actual) {
+        if (budget == null) {
+            return new CostBudgetLineDto(category, null, actual, null, null);
+        }
+        return new CostBudgetLineDto(category, budget, actual, budget - actual,
+                budget != 0.0 ? actual / budget * 100.0 : null);
+    }
+
+    private void validateRange(YearMonth from, YearMonth to) {
+        if (from.isAfter(to)) {
+            throw new InvalidDateRangeException(String.format("El mes inicial %s es posterior al mes final %s", from, to));
+        }
+        if (ChronoUnit.MONTHS.between(from, to) + 1 > maxMonths) {
+            throw new InvalidDateRangeException(String.format("El rango no puede superar los %d meses", maxMonths));
+        }
+    }
+
+    private void requireUser(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException(String.format(USER_NOT_FOUND, userId));
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package com.practice.Cost.service;
 
+import com.practice.Cost.dtoRequest.CostRequestDto;
 import com.practice.Cost.dtoResponse.CostPageResponseDto;
 
 public interface CostService {
     CostPageResponseDto findAllCost(int page, int size);
+    CostRequestDto findCostById(Long id);
+    CostRequestDto createCost(CostRequestDto costRequest);
+    CostRequestDto updateCost(Long id, CostRequestDto costRequest);
+    void deleteCost(Long id);
 }
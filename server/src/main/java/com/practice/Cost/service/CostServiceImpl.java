@@ -5,12 +5,18 @@ import com.practice.Cost.dtoResponse.CostPageResponseDto;
 import com.practice.Cost.mappers.CostMapper;
 import com.practice.Cost.model.CostModel;
 import com.practice.Cost.repository.CostRepository;
+import com.practice.User.model.UserModel;
+import com.practice.User.repository.UserRepository;
+import com.practice.exceptions.CostNotFoundException;
+import com.practice.exceptions.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -19,6 +25,10 @@ import java.util.stream.Collectors;
 public class CostServiceImpl implements CostService {
     private final CostRepository costRepository;
     private final CostMapper costMapper;
+    private final UserRepository userRepository;
+
+    private static final String COST_NOT_FOUND = "El gasto con ID %d no fue encontrado";
+    private static final String USER_NOT_FOUND = "El usuario con ID %d no fue encontrado";
 
     @Override
     public CostPageResponseDto findAllCost(int page, int size) {
@@ -34,4 +44,65 @@ public class CostServiceImpl implements CostService {
 
         return new CostPageResponseDto(costDto, costPage.getTotalPages(), costPage.getTotalElements());
     }
+
+    @Override
+    public CostRequestDto findCostById(Long id) {
+        CostModel cost = costRepository.findById(id)
+                .orElseThrow(() -> new CostNotFoundException(String.format(COST_NOT_FOUND, id)));
+        return costMapper.toDto(cost);
+    }
+
+    // Los acumulados mensuales se actualizan en CostRollupListener dentro de la misma transacción
+    @Override
+    @Transactional
+    public CostRequestDto createCost(CostRequestDto costRequest) {
+        CostModel cost = new CostModel();
+        cost.setUser(findUser(costRequest.getUserId()));
+        cost.setType(costRequest.getType());
+        cost.setDescription(costRequest.getDescription());
+        cost.setCategory(costRequest.getCategory());
+        cost.setAmount(costRequest.getAmount());
+        return costMapper.toDto(costRepository.save(cost));
+    }
+
+    @Override
+    @Transactional
+    public CostRequestDto updateCost(Long id, CostRequestDto costRequest) {
+        CostModel cost = costRepository.findById(id)
+                .orElseThrow(() -> new CostNotFoundException(String.format(COST_NOT_FOUND, id)));
+
+        if (costRequest.getUserId() != null) {
+            cost.setUser(findUser(costRequest.getUserId()));
+        }
+        if (costRequest.getType() != null) {
+            cost.setType(costRequest.getType());
+        }
+        if (costRequest.getDescription() != null) {
+            cost.setDescription(costRequest.getDescription());
+        }
+        if (costRequest.getCategory() != null) {
+            cost.setCategory(costRequest.getCategory());
+        }
+        if (costRequest.getAmount() != null) {
+            cost.setAmount(costRequest.getAmount());
+        }
+        cost.setUpdateDate(LocalDateTime.now());
+        return costMapper.toDto(costRepository.save(cost));
+    }
+
+    @Override
+    @Transactional
+    public void deleteCost(Long id) {
+        CostModel cost = costRepository.findById(id)
+                .orElseThrow(() -> new CostNotFoundException(String.format(COST_NOT_FOUND, id)));
+        costRepository.delete(cost);
+    }
+
+    private UserModel findUser(Long userId) {
+        if (userId == null) {
+            throw new UserNotFoundException("El gasto debe tener un usuario");
+        }
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException(String.format(USER_NOT_FOUND, userId)));
+    }
 }
@@ -1,42 +1,196 @@
 package com.practice.Django;
 import com.practice.Django.Recommendation.UserRecommendationsResponse;
+import com.practice.Django.client.CircuitBreaker;
+import com.practice.Django.client.DjangoClientSettings;
+import com.practice.exceptions.DjangoUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Cliente del recomendador Django.
+ *
+ * <p>Todas las llamadas tienen un plazo máximo y pasan por un circuito que corta cuando
+ * Django falla de forma repetida. Las recomendaciones se cachean por usuario: las llamadas
+ * concurrentes del mismo usuario comparten una única petición, la petición se replica si
+ * tarda más de {@code hedgeDelay} y, ante un fallo o con el circuito abierto, se sirve la
+ * última respuesta conocida aunque esté vencida.</p>
+ */
 @Service
 @Slf4j
 public class DjangoClientService {
+    private static final String UNAVAILABLE = "El recomendador no respondió y no hay recomendaciones previas para el usuario %d";
+    private static final String CIRCUIT_OPEN = "El recomendador está temporalmente fuera de servicio";
+
     private final WebClient webClient;
+    private final DjangoClientSettings settings;
+    private final CircuitBreaker circuitBreaker;
+
+    private final ConcurrentHashMap<Long, CachedRecommendations> cache = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Mono<UserRecommendationsResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final Counter staleServed;
+    private final Counter hedges;
 
-    public DjangoClientService(WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.baseUrl("https://iupi-abf3.onrender.com").build();
+    public DjangoClientService(WebClient djangoWebClient, DjangoClientSettings settings, MeterRegistry meterRegistry) {
+        this.webClient = djangoWebClient;
+        this.settings = settings;
+        this.circuitBreaker = new CircuitBreaker(settings.failureThreshold(), settings.openDuration());
+        this.cacheHits = meterRegistry.counter("django.recommendations.cache.hits");
+        this.cacheMisses = meterRegistry.counter("django.recommendations.cache.misses");
+        this.staleServed = meterRegistry.counter("django.recommendations.stale");
+        this.hedges = meterRegistry.counter("django.recommendations.hedges");
+        meterRegistry.gauge("django.circuit.open", circuitBreaker, breaker -> breaker.state() == CircuitBreaker.State.CLOSED ? 0 : 1);
     }
 
     public Mono<UserOnboardingResponse> onboardUser(UserOnboardingRequest request) {
         log.info("📤 Enviando datos a Django: {}", request);
-        return webClient.post()
+        return guarded(webClient.post()
                 .uri("/api/onboarding/")
                 .bodyValue(request)
                 .retrieve()
-                .bodyToMono(UserOnboardingResponse.class)
+                .bodyToMono(UserOnboardingResponse.class))
                 .doOnError(error -> log.error("❌ Error en la respuesta de Django: {}", error.getMessage()));
     }
 
     public Mono<UserRecommendationsResponse> getRecommendations(Long userId) {
-        return webClient.get()
-                .uri("/api/recommendations/{userId}/", userId)
-                .retrieve()
-                .bodyToMono(UserRecommendationsResponse.class);
+        CachedRecommendations cached = cache.get(userId);
+        if (cached != null && cached.isFresh(System.nanoTime(), settings.cacheTtl().toNanos())) {
+            cacheHits.increment();
+            return Mono.just(cached.response());
+        }
+        cacheMisses.increment();
+        // Las llamadas concurrentes del mismo usuario se suscriben a la misma petición
+        return inFlight.computeIfAbsent(userId, this::sharedLoad);
     }
 
     public Mono<UserInvestmentResponse> invest(UserInvestmentRequest request) {
-        return webClient.post()
+        return guarded(webClient.post()
                 .uri("/api/invest/")
                 .bodyValue(request)
                 .retrieve()
-                .bodyToMono(UserInvestmentResponse.class);
+                .bodyToMono(UserInvestmentResponse.class));
+    }
+
+    private Mono<UserRecommendationsResponse> sharedLoad(Long userId) {
+        AtomicReference<Mono<UserRecommendationsResponse>> self = new AtomicReference<>();
+        Runnable leave = () -> inFlight.remove(userId, self.get());
+        Mono<UserRecommendationsResponse> shared = loadRecommendations(userId)
+                // Se quita antes de entregar el resultado: quien llegue después no recibe una respuesta ya cerrada.
+                // Solo se quita a sí misma: una petición posterior del mismo usuario pudo ocupar la entrada
+                .doOnTerminate(leave)
+                .doOnCancel(leave)
+                .cache();
+        self.set(shared);
+        return shared;
+    }
+
+    // El permiso del circuito se pide al suscribirse, no al armar el Mono
+    private Mono<UserRecommendationsResponse> loadRecommendations(Long userId) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                return staleOrError(userId, new DjangoUnavailableException(CIRCUIT_OPEN));
+            }
+            return requestRecommendations(userId);
+        });
+    }
+
+    private Mono<UserRecommendationsResponse> requestRecommendations(Long userId) {
+
+        Mono<UserRecommendationsResponse> call = Mono.defer(() -> webClient.get()
+                .uri("/api/recommendations/{userId}/", userId)
+                .retrieve()
+                .bodyToMono(UserRecommendationsResponse.class));
+
+        // GET idempotente: si la primera petición se demora, se lanza otra y gana la primera en responder
+        Mono<UserRecommendationsResponse> hedged = settings.hedgeDelay().isZero()
+                ? call
+                : Mono.firstWithValue(call, Mono.delay(settings.hedgeDelay()).doOnNext(tick -> hedges.increment()).then(call));
+
+        return hedged
+                .timeout(settings.deadline())
+                // Un cuerpo vacío también es una respuesta de Django: libera el permiso como éxito
+                .doOnSuccess(response -> {
+                    circuitBreaker.onSuccess();
+                    if (response != null) {
+                        store(userId, response);
+                    }
+                })
+                .doOnCancel(circuitBreaker::release)
+                .onErrorResume(error -> {
+                    WebClientResponseException clientError = clientError(error);
+                    if (clientError != null) {
+                        // Django respondió: el error es de la petición, no de disponibilidad
+                        circuitBreaker.onSuccess();
+                        return Mono.error(clientError);
+                    }
+                    circuitBreaker.onFailure();
+                    log.warn("Fallo al obtener recomendaciones de Django para el usuario {}: {}", userId, error.toString());
+                    return staleOrError(userId, new DjangoUnavailableException(String.format(UNAVAILABLE, userId), error));
+                });
+    }
+
+    private Mono<UserRecommendationsResponse> staleOrError(Long userId, DjangoUnavailableException error) {
+        CachedRecommendations cached = cache.get(userId);
+        if (cached == null) {
+            return Mono.error(error);
+        }
+        staleServed.increment();
+        return Mono.just(cached.response());
+    }
+
+    private <T> Mono<T> guarded(Mono<T> call) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                return Mono.error(new DjangoUnavailableException(CIRCUIT_OPEN));
+            }
+            return call.timeout(settings.deadline())
+                    .doOnSuccess(value -> circuitBreaker.onSuccess())
+                    .doOnError(error -> {
+                        if (clientError(error) != null) {
+                            circuitBreaker.onSuccess();
+                        } else {
+                            circuitBreaker.onFailure();
+                        }
+                    })
+                    .doOnCancel(circuitBreaker::release);
+        });
+    }
+
+    private void store(Long userId, UserRecommendationsResponse response) {
+        if (cache.size() >= settings.cacheMaxEntries() && !cache.containsKey(userId)) {
+            return;
+        }
+        cache.put(userId, new CachedRecommendations(response, System.nanoTime()));
+    }
+
+    // Con réplica, los errores de ambas peticiones llegan como suprimidos de firstWithValue
+    private static WebClientResponseException clientError(Throwable error) {
+        if (error instanceof WebClientResponseException responseException && responseException.getStatusCode().is4xxClientError()) {
+            return responseException;
+        }
+        for (Throwable suppressed : error.getSuppressed()) {
+            WebClientResponseException found = clientError(suppressed);
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    private record CachedRecommendations(UserRecommendationsResponse response, long loadedAtNanos) {
+        boolean isFresh(long nowNanos, long ttlNanos) {
+            return nowNanos - loadedAtNanos < ttlNanos;
+        }
     }
 }
@@ -1,6 +1,7 @@
 package com.practice.Django;
 
 import com.practice.Django.Recommendation.UserRecommendationsResponse;
+import com.practice.Recommendation.service.RecommendationServiceImpl;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
@@ -10,9 +11,11 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class DjangoController {
     private final DjangoClientService djangoClientService;
+    private final RecommendationServiceImpl recommendationServiceImpl;
 
-    public DjangoController(DjangoClientService djangoClientService) {
+    public DjangoController(DjangoClientService djangoClientService, RecommendationServiceImpl recommendationServiceImpl) {
         this.djangoClientService = djangoClientService;
+        this.recommendationServiceImpl = recommendationServiceImpl;
     }
 
 //    @PostMapping("/onboarding")
@@ -25,10 +28,10 @@ public class DjangoController {
     public Mono<UserRecommendationsResponse> getRecommendations(@PathVariable Long userId) {
         log.info("🟢 Recibida solicitud de recomendaciones para userId: {}", userId);
 
-        return djangoClientService.getRecommendations(userId)
-                .doOnSubscribe(subscription -> log.info("🔵 Llamando a Django para obtener recomendaciones..."))
-                .doOnSuccess(response -> log.info("✅ Respuesta recibida de Django (raw): {}", response))
-                .doOnError(error -> log.error("❌ Error al obtener recomendaciones de Django: ", error));
+        // Se resuelve en proceso con el motor local; Django solo se consulta como respaldo
+        return recommendationServiceImpl.recommendForUser(userId)
+                .doOnSuccess(response -> log.info("✅ Recomendaciones obtenidas para userId: {}", userId))
+                .doOnError(error -> log.error("❌ Error al obtener recomendaciones: ", error));
     }
 
     @PostMapping("/invest")
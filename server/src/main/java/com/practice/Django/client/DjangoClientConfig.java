@@ -0,0 +1,90 @@
+package com.practice.Django.client;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class DjangoClientConfig {
+
+    @Value("${django.base-url:https://iupi-abf3.onrender.com}")
+    private String baseUrl;
+
+    @Value("${django.pool.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${django.pool.pending-acquire-timeout-ms:500}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${django.pool.max-idle-time-seconds:30}")
+    private long maxIdleTimeSeconds;
+
+    @Value("${django.connect-timeout-ms:1000}")
+    private int connectTimeoutMs;
+
+    @Value("${django.response-timeout-ms:2500}")
+    private long responseTimeoutMs;
+
+    @Value("${django.deadline-ms:3000}")
+    private long deadlineMs;
+
+    @Value("${django.hedge-delay-ms:400}")
+    private long hedgeDelayMs;
+
+    @Value("${django.cache.ttl-seconds:300}")
+    private long cacheTtlSeconds;
+
+    @Value("${django.cache.max-entries:10000}")
+    private int cacheMaxEntries;
+
+    @Value("${django.circuit.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${django.circuit.open-seconds:30}")
+    private long openSeconds;
+
+    @Bean
+    public DjangoClientSettings djangoClientSettings() {
+        return new DjangoClientSettings(
+                Duration.ofMillis(deadlineMs),
+                Duration.ofMillis(hedgeDelayMs),
+                Duration.ofSeconds(cacheTtlSeconds),
+                cacheMaxEntries,
+                failureThreshold,
+                Duration.ofSeconds(openSeconds));
+    }
+
+    // Pool propio: las conexiones ociosas se cierran antes de que Render las corte del otro lado
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider djangoConnectionProvider() {
+        return ConnectionProvider.builder("django")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(maxIdleTimeSeconds))
+                .evictInBackground(Duration.ofSeconds(maxIdleTimeSeconds))
+                .build();
+    }
+
+    @Bean
+    public WebClient djangoWebClient(WebClient.Builder webClientBuilder, ConnectionProvider djangoConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(djangoConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs))
+                .doOnConnected(connection -> connection.addHandlerLast(
+                        new ReadTimeoutHandler(responseTimeoutMs, TimeUnit.MILLISECONDS)));
+
+        return webClientBuilder
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.practice.Django.client;
+
+import java.time.Duration;
+
+/**
+ * Parámetros del cliente del recomendador Django.
+ *
+ * @param deadline         tiempo máximo total de una llamada, incluida la réplica
+ * @param hedgeDelay       espera antes de lanzar una segunda petición idéntica; cero la desactiva
+ * @param cacheTtl         vigencia de las recomendaciones cacheadas por usuario
+ * @param cacheMaxEntries  máximo de usuarios en la cache
+ * @param failureThreshold fallos consecutivos que abren el circuito
+ * @param openDuration     tiempo que el circuito permanece abierto antes de probar de nuevo
+ */
+public record DjangoClientSettings(Duration deadline,
+                                   Duration hedgeDelay,
+                                   Duration cacheTtl,
+                                   int cacheMaxEntries,
+                                   int failureThreshold,
+                                   Duration openDuration) {
+}
@@ -0,0 +1,7 @@
+package com.practice.FinancingProfile.event;
+
+/**
+ * Se publica cuando se crea, modifica o elimina el perfil financiero de un usuario.
+ */
+public record FinancingProfileChangedEvent(Long userId) {
+}
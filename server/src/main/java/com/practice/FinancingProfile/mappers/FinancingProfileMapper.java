@@ -1,21 +1,71 @@
 package com.practice.FinancingProfile.mappers;
 
 import com.practice.FinancingProfile.dtoRequest.FinancingProfileRequestDto;
+import com.practice.FinancingProfile.dtoResponse.FinancingProfileResponseDto;
 import com.practice.FinancingProfile.model.FinancingProfileModel;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * Mapeo del perfil financiero. Con {@code mapping.compiled.financing-profile=true} usa asignaciones
+ * directas equivalentes a los type maps de {@code ModelMapperConfig}; con {@code false}, ModelMapper.
+ */
 @Component
 public class FinancingProfileMapper {
     private final ModelMapper modelMapper;
+    private final boolean compiled;
 
-    public FinancingProfileMapper(ModelMapper modelMapper) {
+    public FinancingProfileMapper(ModelMapper modelMapper,
+                                  @Value("${mapping.compiled.financing-profile:true}") boolean compiled) {
         this.modelMapper = modelMapper;
+        this.compiled = compiled;
     }
 
     public FinancingProfileRequestDto toDto(FinancingProfileModel profileModel) {
         return modelMapper.map(profileModel, FinancingProfileRequestDto.class);
     }
 
+    public FinancingProfileResponseDto toResponse(FinancingProfileModel profile) {
+        if (!compiled) {
+            return modelMapper.map(profile, FinancingProfileResponseDto.class);
+        }
+        requireSource(profile);
+        return new FinancingProfileResponseDto(
+                profile.getId(),
+                profile.getKnowledgeLevel(),
+                profile.getRiskProfile(),
+                profile.getIncomeMonthly(),
+                profile.getExpensesMonthly(),
+                profile.getPercentageSave(),
+                profile.getTotalDebt(),
+                profile.getSavingsTotal(),
+                profile.getPatrimonyTotal(),
+                profile.getUser() != null ? profile.getUser().getId() : null
+        );
+    }
+
+    /** Copia el request sobre una entidad existente; el ID nunca se modifica. */
+    public void updateEntity(FinancingProfileRequestDto dto, FinancingProfileModel profile) {
+        if (!compiled) {
+            modelMapper.map(dto, profile);
+            return;
+        }
+        requireSource(dto);
+        profile.setKnowledgeLevel(dto.getKnowledgeLevel());
+        profile.setRiskProfile(dto.getRiskProfile());
+        profile.setIncomeMonthly(dto.getIncomeMonthly());
+        profile.setExpensesMonthly(dto.getExpensesMonthly());
+        profile.setPercentageSave(dto.getPercentageSave());
+        profile.setTotalDebt(dto.getTotalDebt());
+        profile.setSavingsTotal(dto.getSavingsTotal());
+        profile.setPatrimonyTotal(dto.getPatrimonyTotal());
+    }
 
+    // Mismo contrato que ModelMapper.map con origen nulo
+    private static void requireSource(Object source) {
+        if (source == null) {
+            throw new IllegalArgumentException("source cannot be null");
+        }
+    }
 }
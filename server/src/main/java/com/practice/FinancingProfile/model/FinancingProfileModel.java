@@ -8,7 +8,9 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 
@@ -40,6 +42,10 @@ public class FinancingProfileModel {
     @Column(name = "patrimony_total")
     private Double patrimonyTotal;
 
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     @OneToOne
     @JoinColumn(name = "user_id")
     private UserModel user;
@@ -0,0 +1,7 @@
+package com.practice.FinancingProfile.model;
+
+public record ScoringProfileView(
+        Long userId,
+        String riskProfile
+) {
+}
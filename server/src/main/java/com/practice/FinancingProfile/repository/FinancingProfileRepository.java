@@ -1,13 +1,37 @@
 package com.practice.FinancingProfile.repository;
 
 import com.practice.FinancingProfile.model.FinancingProfileModel;
+import com.practice.FinancingProfile.model.ScoringProfileView;
 import com.practice.User.model.UserModel;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface FinancingProfileRepository extends JpaRepository<FinancingProfileModel, Long> {
     Optional<FinancingProfileModel> findByUser(UserModel user);
+    Optional<FinancingProfileModel> findByUserId(Long userId);
+
+    // Keyset por user_id: sin count ni offset, apto para recorrer todos los perfiles por bloques
+    @Query("select f.user.id from FinancingProfileModel f where f.user.id > :afterUserId order by f.user.id")
+    List<Long> findUserIdsAfter(@Param("afterUserId") Long afterUserId, Pageable pageable);
+
+    @Query("select f.user.id from FinancingProfileModel f where f.user.id > :afterUserId and " +
+            "(f.updatedAt is null or f.updatedAt >= :since or exists (" +
+            "select p.id from PortfolioModel p where p.user.id = f.user.id and p.updatedAt >= :since)) " +
+            "order by f.user.id")
+    List<Long> findChangedUserIdsAfter(@Param("afterUserId") Long afterUserId,
+                                       @Param("since") LocalDateTime since,
+                                       Pageable pageable);
+
+    @Query("select new com.practice.FinancingProfile.model.ScoringProfileView(f.user.id, f.riskProfile) " +
+            "from FinancingProfileModel f where f.user.id in :userIds")
+    List<ScoringProfileView> findScoringViews(@Param("userIds") Collection<Long> userIds);
 }
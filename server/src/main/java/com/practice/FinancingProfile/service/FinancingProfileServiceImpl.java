@@ -4,6 +4,8 @@ import com.practice.FinancingProfile.dtoRequest.FinancingProfileOnboardingDto;
 import com.practice.FinancingProfile.dtoRequest.FinancingProfileRequestDto;
 import com.practice.FinancingProfile.dtoResponse.FinancingProfilePageResponse;
 import com.practice.FinancingProfile.dtoResponse.FinancingProfileResponseDto;
+import com.practice.FinancingProfile.event.FinancingProfileChangedEvent;
+import com.practice.FinancingProfile.mappers.FinancingProfileMapper;
 import com.practice.FinancingProfile.model.FinancingProfileModel;
 import com.practice.FinancingProfile.repository.FinancingProfileRepository;
 import com.practice.User.model.UserModel;
@@ -13,6 +15,7 @@ import com.practice.exceptions.UserNotFoundException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -25,8 +28,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class FinancingProfileServiceImpl implements FinancingProfileService {
     private final FinancingProfileRepository financingProfileRepository;
-    private final ModelMapper financingProfileMapper;
+    private final ModelMapper modelMapper;
+    private final FinancingProfileMapper financingProfileMapper;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final String USER_NOT_FOUND = "El usuario con ID %d no fue encontrado";
     private static final String FINANCING_PROFILE_NOT_FOUND = "El perfil financiero con ID %d no fue encontrado";
@@ -38,7 +43,7 @@ public class FinancingProfileServiceImpl implements FinancingProfileService {
 
         List<FinancingProfileResponseDto> financingProfileDtos = financingPage.getContent()
                 .stream()
-                .map(financing -> financingProfileMapper.map(financing, FinancingProfileResponseDto.class))
+                .map(financing -> financingProfileMapper.toResponse(financing))
                 .collect(Collectors.toList());
 
         return new FinancingProfilePageResponse(
@@ -51,7 +56,7 @@ public class FinancingProfileServiceImpl implements FinancingProfileService {
     public FinancingProfileResponseDto findFinancingProfileById(Long id) {
         FinancingProfileModel financingProfileModel = financingProfileRepository.findById(id)
                 .orElseThrow(() -> new FinancingProfileNotFoundException(String.format(FINANCING_PROFILE_NOT_FOUND, id)));
-        return financingProfileMapper.map(financingProfileModel, FinancingProfileResponseDto.class);
+        return financingProfileMapper.toResponse(financingProfileModel);
     }
 
     @Override
@@ -59,12 +64,13 @@ public class FinancingProfileServiceImpl implements FinancingProfileService {
         UserModel userModel = userRepository.findById(onboardingDto.getUserId()).orElseThrow(() ->
                 new UserNotFoundException("El usuario con ID " + onboardingDto.getUserId() + " no fue encontrado."));
 
-        FinancingProfileModel financingProfileModel = financingProfileMapper.map(onboardingDto, FinancingProfileModel.class);
+        FinancingProfileModel financingProfileModel = modelMapper.map(onboardingDto, FinancingProfileModel.class);
         financingProfileModel.setUser(userModel);
 
         FinancingProfileModel savedFinancingProfile = financingProfileRepository.save(financingProfileModel);
+        publishChanged(userModel.getId());
 
-        return financingProfileMapper.map(savedFinancingProfile, FinancingProfileResponseDto.class);
+        return financingProfileMapper.toResponse(savedFinancingProfile);
     }
 
     @Override
@@ -72,7 +78,8 @@ public class FinancingProfileServiceImpl implements FinancingProfileService {
         FinancingProfileModel financingProfileModel = financingProfileRepository.findById(id)
                 .orElseThrow(() -> new FinancingProfileNotFoundException(String.format(FINANCING_PROFILE_NOT_FOUND, id)));
 
-        financingProfileMapper.map(financingProfileRequest, financingProfileModel);
+        Long previousUserId = financingProfileModel.getUser() != null ? financingProfileModel.getUser().getId() : null;
+        financingProfileMapper.updateEntity(financingProfileRequest, financingProfileModel);
 
         if (financingProfileRequest.getUserId() != null) {
             UserModel user = userRepository.findById(financingProfileRequest.getUserId())
@@ -81,8 +88,12 @@ public class FinancingProfileServiceImpl implements FinancingProfileService {
         }
 
         FinancingProfileModel savedFinancingProfile = financingProfileRepository.save(financingProfileModel);
+        publishChanged(previousUserId);
+        if (savedFinancingProfile.getUser() != null && !savedFinancingProfile.getUser().getId().equals(previousUserId)) {
+            publishChanged(savedFinancingProfile.getUser().getId());
+        }
 
-        return financingProfileMapper.map(savedFinancingProfile, FinancingProfileResponseDto.class);
+        return financingProfileMapper.toResponse(savedFinancingProfile);
     }
 
     @Override
@@ -90,14 +101,21 @@ public class FinancingProfileServiceImpl implements FinancingProfileService {
         FinancingProfileModel financingProfileModel = financingProfileRepository.findById(id)
                 .orElseThrow(() -> new FinancingProfileNotFoundException(String.format(FINANCING_PROFILE_NOT_FOUND, id)));
         financingProfileRepository.delete(financingProfileModel);
+        if (financingProfileModel.getUser() != null) {
+            publishChanged(financingProfileModel.getUser().getId());
+        }
     }
 
     @Override
     public FinancingProfileResponseDto findFinancingProfileByUserId(Long userId) {
         UserModel user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(String.format(USER_NOT_FOUND, userId)));
         FinancingProfileModel financingProfile = financingProfileRepository.findByUser(user).orElse(null);
-        return financingProfileMapper.map(financingProfile, FinancingProfileResponseDto.class);
+        return financingProfileMapper.toResponse(financingProfile);
     }
 
-
+    private void publishChanged(Long userId) {
+        if (userId != null) {
+            eventPublisher.publishEvent(new FinancingProfileChangedEvent(userId));
+        }
+    }
 }
@@ -0,0 +1,61 @@
+package com.practice.Instrument.cache;
+
+import com.practice.Instrument.event.QuoteChangedEvent;
+import com.practice.Instrument.model.InstrumentModel;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+
+/**
+ * Mantiene {@link QuoteCache} sincronizado con los cambios de {@link InstrumentModel}
+ * hechos a través del repositorio y publica un {@link QuoteChangedEvent} al confirmar.
+ */
+@Component
+@RequiredArgsConstructor
+public class InstrumentCacheListener {
+    private final QuoteCache quoteCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(InstrumentModel instrument) {
+        long id = instrument.getId();
+        // Se invalida ya para que nadie lea el valor anterior; el nuevo se publica al confirmar
+        quoteCache.invalidate(id);
+
+        Double quotes = instrument.getQuotes();
+        if (quotes == null) {
+            return;
+        }
+        double price = quotes;
+        boolean active = !Boolean.FALSE.equals(instrument.getState());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(id, price, active);
+                }
+            });
+        } else {
+            publish(id, price, active);
+        }
+    }
+
+    private void publish(long id, double price, boolean active) {
+        quoteCache.refresh(id, price, active);
+        eventPublisher.publishEvent(new QuoteChangedEvent(id, price, active, Instant.now()));
+    }
+
+    @PostRemove
+    public void onRemove(InstrumentModel instrument) {
+        quoteCache.invalidate(instrument.getId());
+    }
+}
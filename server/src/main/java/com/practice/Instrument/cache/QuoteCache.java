@@ -0,0 +1,216 @@
+package com.practice.Instrument.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Cache en memoria de cotizaciones por ID de instrumento.
+ *
+ * <p>Tabla de direccionamiento abierto con claves {@code long} y precios {@code double}
+ * (sin boxing), más dos bitsets: {@code valid} (la entrada puede servirse) y {@code active}
+ * (derivado de {@code InstrumentModel.state}). Cada entrada guarda la versión de su última
+ * escritura o invalidación, de modo que una carga iniciada antes de una invalidación
+ * no pueda reinstalar un precio viejo.</p>
+ */
+@Component
+public class QuoteCache {
+    /** Devuelto por {@link #get(long)} cuando no hay entrada válida. */
+    public static final double MISS = Double.NaN;
+    /** Devuelto por {@link #get(long)} cuando el instrumento está inactivo. */
+    public static final double INACTIVE = Double.NEGATIVE_INFINITY;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    // Los IDs son IDENTITY y empiezan en 1, así que 0 marca un slot libre
+    private static final long EMPTY = 0L;
+
+    private final StampedLock lock = new StampedLock();
+    private volatile Table table = new Table(INITIAL_CAPACITY);
+    private volatile long version;
+    private int size;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter staleLoads;
+    private final Counter invalidations;
+
+    public QuoteCache(MeterRegistry meterRegistry) {
+        this.hits = meterRegistry.counter("instrument.quote.cache.hits");
+        this.misses = meterRegistry.counter("instrument.quote.cache.misses");
+        this.staleLoads = meterRegistry.counter("instrument.quote.cache.stale");
+        this.invalidations = meterRegistry.counter("instrument.quote.cache.invalidations");
+        Gauge.builder("instrument.quote.cache.size", this, cache -> cache.size).register(meterRegistry);
+    }
+
+    /**
+     * Devuelve la cotización cacheada, {@link #MISS} si no hay entrada válida
+     * o {@link #INACTIVE} si el instrumento está inactivo.
+     */
+    public double get(long instrumentId) {
+        long stamp = lock.tryOptimisticRead();
+        double result = probe(table, instrumentId);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = probe(table, instrumentId);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        if (Double.isNaN(result)) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return result;
+    }
+
+    /** Versión actual; debe leerse antes de ir a la base de datos. */
+    public long currentVersion() {
+        return version;
+    }
+
+    /**
+     * Instala un valor leído de la base de datos, salvo que la entrada haya sido
+     * invalidada o refrescada después de {@code loadedAtVersion}.
+     */
+    public boolean putIfFresh(long instrumentId, double price, boolean active, long loadedAtVersion) {
+        long stamp = lock.writeLock();
+        try {
+            Table t = table;
+            int slot = findOrInsert(t, instrumentId);
+            t = table;
+            if (t.versions[slot] > loadedAtVersion) {
+                staleLoads.increment();
+                return false;
+            }
+            write(t, slot, price, active, loadedAtVersion);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** Publica un valor nuevo (por ejemplo, tras guardar el instrumento). */
+    public void refresh(long instrumentId, double price, boolean active) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = findOrInsert(table, instrumentId);
+            write(table, slot, price, active, ++version);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** Descarta la entrada; las cargas en curso anteriores a esta llamada serán rechazadas. */
+    public void invalidate(long instrumentId) {
+        long stamp = lock.writeLock();
+        try {
+            Table t = table;
+            int slot = findOrInsert(t, instrumentId);
+            t = table;
+            t.valid.clear(slot);
+            t.versions[slot] = ++version;
+            invalidations.increment();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private static double probe(Table t, long key) {
+        int i = t.slotOf(key);
+        // El límite de iteraciones evita ciclos si la lectura optimista ve un estado intermedio
+        for (int n = 0; n <= t.mask; n++) {
+            long k = t.keys[i];
+            if (k == EMPTY) {
+                return MISS;
+            }
+            if (k == key) {
+                if (!t.valid.get(i)) {
+                    return MISS;
+                }
+                return t.active.get(i) ? t.prices[i] : INACTIVE;
+            }
+            i = (i + 1) & t.mask;
+        }
+        return MISS;
+    }
+
+    // Debe llamarse con el write lock tomado; puede reemplazar la tabla
+    private int findOrInsert(Table t, long key) {
+        int i = t.slotOf(key);
+        while (t.keys[i] != EMPTY) {
+            if (t.keys[i] == key) {
+                return i;
+            }
+            i = (i + 1) & t.mask;
+        }
+
+        if ((size + 1) * 2 > t.keys.length) {
+            table = t = t.grow();
+            i = t.slotOf(key);
+            while (t.keys[i] != EMPTY) {
+                i = (i + 1) & t.mask;
+            }
+        }
+        // Clave nueva: nunca fue invalidada, cualquier carga es válida
+        t.keys[i] = key;
+        t.versions[i] = 0L;
+        size++;
+        return i;
+    }
+
+    private static void write(Table t, int slot, double price, boolean active, long entryVersion) {
+        t.prices[slot] = price;
+        t.versions[slot] = entryVersion;
+        t.active.set(slot, active);
+        t.valid.set(slot);
+    }
+
+    private static final class Table {
+        final long[] keys;
+        final double[] prices;
+        final long[] versions;
+        final BitSet valid;
+        final BitSet active;
+        final int mask;
+
+        Table(int capacity) {
+            this.keys = new long[capacity];
+            this.prices = new double[capacity];
+            this.versions = new long[capacity];
+            this.valid = new BitSet(capacity);
+            this.active = new BitSet(capacity);
+            this.mask = capacity - 1;
+        }
+
+        int slotOf(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+
+        Table grow() {
+            Table bigger = new Table(keys.length * 2);
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == EMPTY) {
+                    continue;
+                }
+                int j = bigger.slotOf(keys[i]);
+                while (bigger.keys[j] != EMPTY) {
+                    j = (j + 1) & bigger.mask;
+                }
+                bigger.keys[j] = keys[i];
+                bigger.prices[j] = prices[i];
+                bigger.versions[j] = versions[i];
+                bigger.valid.set(j, valid.get(i));
+                bigger.active.set(j, active.get(i));
+            }
+            return bigger;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.practice.Instrument.event;
+
+import java.time.Instant;
+
+/**
+ * Se publica después de confirmar un cambio en la cotización o el estado de un instrumento.
+ */
+public record QuoteChangedEvent(Long instrumentId, double price, boolean active, Instant timestamp) {
+}
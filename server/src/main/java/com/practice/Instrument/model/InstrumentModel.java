@@ -1,6 +1,7 @@
 package com.practice.Instrument.model;
 
 import com.practice.Instrument.Enum.EnumInvestmentType;
+import com.practice.Instrument.cache.InstrumentCacheListener;
 import com.practice.Portfolio.model.PortfolioModel;
 import com.practice.Recommendation.model.RecommendationModel;
 import jakarta.persistence.*;
@@ -16,6 +17,7 @@ import java.util.Set;
 @NoArgsConstructor
 @Entity
 @Table(name = "instruments")
+@EntityListeners(InstrumentCacheListener.class)
 public class InstrumentModel {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
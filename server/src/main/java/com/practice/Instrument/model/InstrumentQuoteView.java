@@ -0,0 +1,8 @@
+package com.practice.Instrument.model;
+
+public record InstrumentQuoteView(
+        Long id,
+        Double quotes,
+        Boolean state
+) {
+}
@@ -0,0 +1,9 @@
+package com.practice.Instrument.model;
+
+import com.practice.Instrument.Enum.EnumInvestmentType;
+
+public record InstrumentRiskView(
+        Long id,
+        EnumInvestmentType investmentType
+) {
+}
@@ -0,0 +1,7 @@
+package com.practice.Instrument.model;
+
+public record InstrumentTickerView(
+        Long id,
+        String ticker
+) {
+}
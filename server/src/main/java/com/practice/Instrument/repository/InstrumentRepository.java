@@ -1,9 +1,29 @@
 package com.practice.Instrument.repository;
 
 import com.practice.Instrument.model.InstrumentModel;
+import com.practice.Instrument.model.InstrumentQuoteView;
+import com.practice.Instrument.model.InstrumentRiskView;
+import com.practice.Instrument.model.InstrumentTickerView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface InstrumentRepository extends JpaRepository<InstrumentModel,Long> {
+
+    @Query("select new com.practice.Instrument.model.InstrumentQuoteView(i.id, i.quotes, i.state) " +
+            "from InstrumentModel i where i.id in :ids")
+    List<InstrumentQuoteView> findQuotesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.practice.Instrument.model.InstrumentRiskView(i.id, i.enumInvestmentType) " +
+            "from InstrumentModel i where i.state is null or i.state = true order by i.id")
+    List<InstrumentRiskView> findActiveRiskViews();
+
+    @Query("select new com.practice.Instrument.model.InstrumentTickerView(i.id, i.ticker) " +
+            "from InstrumentModel i where i.id in :ids")
+    List<InstrumentTickerView> findTickersByIdIn(@Param("ids") Collection<Long> ids);
 }
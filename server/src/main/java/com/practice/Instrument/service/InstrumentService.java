@@ -2,8 +2,13 @@ package com.practice.Instrument.service;
 
 import com.practice.Instrument.dtoResponse.InstrumentPageResponseDto;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface InstrumentService {
     InstrumentPageResponseDto findAllInstrument(int page, int size);
 
     double getCurrentPrice(Long id);
+
+    Map<Long, Double> getCurrentPrices(Collection<Long> ids);
 }
@@ -1,9 +1,11 @@
 package com.practice.Instrument.service;
 
+import com.practice.Instrument.cache.QuoteCache;
 import com.practice.Instrument.dtoRequest.InstrumentRequestDto;
 import com.practice.Instrument.dtoResponse.InstrumentPageResponseDto;
 import com.practice.Instrument.mappers.InstrumentMapper;
 import com.practice.Instrument.model.InstrumentModel;
+import com.practice.Instrument.model.InstrumentQuoteView;
 import com.practice.Instrument.repository.InstrumentRepository;
 import com.practice.exceptions.InstrumentNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -12,14 +14,24 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class InstrumentServiceImpl implements InstrumentService {
+    // Límite de ids por consulta IN para no generar sentencias demasiado grandes
+    private static final int QUOTE_BATCH_SIZE = 500;
+
     private final InstrumentRepository instrumentRepository;
     private final InstrumentMapper instrumentMapper;
+    private final QuoteCache quoteCache;
 
     @Override
     public InstrumentPageResponseDto findAllInstrument(int page, int size) {
@@ -37,12 +49,23 @@ public class InstrumentServiceImpl implements InstrumentService {
 
     @Override
     public double getCurrentPrice(Long instrumentId) {
+        double cached = quoteCache.get(instrumentId);
+        if (!Double.isNaN(cached)) {
+            return requireActive(instrumentId, cached);
+        }
+
+        long loadVersion = quoteCache.currentVersion();
         InstrumentModel instrument = instrumentRepository.findById(instrumentId)
                 .orElseThrow(() -> new InstrumentNotFoundException(
                         String.format("El instrumento con ID %d no fue encontrado", instrumentId)
                 ));
 
-        if (Boolean.FALSE.equals(instrument.getState())) {
+        boolean active = !Boolean.FALSE.equals(instrument.getState());
+        if (instrument.getQuotes() != null) {
+            quoteCache.putIfFresh(instrumentId, instrument.getQuotes(), active, loadVersion);
+        }
+
+        if (!active) {
             throw new InstrumentNotFoundException(
                     String.format("El instrumento con ID %d está inactivo", instrumentId)
             );
@@ -50,4 +73,56 @@ public class InstrumentServiceImpl implements InstrumentService {
 
         return instrument.getQuotes();
     }
+
+    @Override
+    public Map<Long, Double> getCurrentPrices(Collection<Long> instrumentIds) {
+        Set<Long> ids = new LinkedHashSet<>(instrumentIds);
+        Map<Long, Double> prices = new HashMap<>(ids.size() * 2);
+        List<Long> missing = new ArrayList<>();
+
+        for (Long id : ids) {
+            double cached = quoteCache.get(id);
+            if (Double.isNaN(cached)) {
+                missing.add(id);
+            } else {
+                prices.put(id, requireActive(id, cached));
+            }
+        }
+
+        long loadVersion = quoteCache.currentVersion();
+        for (int from = 0; from < missing.size(); from += QUOTE_BATCH_SIZE) {
+            List<Long> batch = missing.subList(from, Math.min(from + QUOTE_BATCH_SIZE, missing.size()));
+            for (InstrumentQuoteView quote : instrumentRepository.findQuotesByIdIn(batch)) {
+                boolean active = !Boolean.FALSE.equals(quote.state());
+                if (quote.quotes() != null) {
+                    quoteCache.putIfFresh(quote.id(), quote.quotes(), active, loadVersion);
+                }
+                if (!active) {
+                    throw new InstrumentNotFoundException(
+                            String.format("El instrumento con ID %d está inactivo", quote.id())
+                    );
+                }
+                prices.put(quote.id(), quote.quotes());
+            }
+        }
+
+        for (Long id : missing) {
+            if (!prices.containsKey(id)) {
+                throw new InstrumentNotFoundException(
+                        String.format("El instrumento con ID %d no fue encontrado", id)
+                );
+            }
+        }
+
+        return prices;
+    }
+
+    private double requireActive(Long instrumentId, double cached) {
+        if (cached == QuoteCache.INACTIVE) {
+            throw new InstrumentNotFoundException(
+                    String.format("El instrumento con ID %d está inactivo", instrumentId)
+            );
+        }
+        return cached;
+    }
 }
@@ -0,0 +1,126 @@
+package com.practice.Notification.cache;
+
+import com.practice.Notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contador en memoria de notificaciones no leídas por usuario.
+ *
+ * <p>Cada usuario tiene un {@link LongAdder} que se carga con un COUNT la primera vez y luego
+ * se ajusta con los cambios confirmados. Mientras haya escrituras entre el antes y el después
+ * de su commit ({@code inFlight}) o alguna haya terminado durante la carga ({@code version}),
+ * el COUNT puede haber visto o no el cambio, así que su resultado se devuelve sin cachear.</p>
+ */
+@Component
+public class UnreadNotificationCounter {
+    private final NotificationRepository notificationRepository;
+    private final Map<Long, LongAdder> counters = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final int maxUsers;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public UnreadNotificationCounter(NotificationRepository notificationRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${notification.unread.max-users:100000}") int maxUsers) {
+        this.notificationRepository = notificationRepository;
+        this.maxUsers = maxUsers;
+        this.hits = meterRegistry.counter("notification.unread.cache.hits");
+        this.misses = meterRegistry.counter("notification.unread.cache.misses");
+        Gauge.builder("notification.unread.cache.size", counters, Map::size).register(meterRegistry);
+    }
+
+    public long unreadCount(Long userId) {
+        LongAdder cached = counters.get(userId);
+        if (cached != null) {
+            hits.increment();
+            return Math.max(0L, cached.sum());
+        }
+        misses.increment();
+
+        long startVersion = version.get();
+        boolean quiet = inFlight.get() == 0;
+        long count = notificationRepository.countUnreadByUserId(userId);
+        if (quiet && counters.size() < maxUsers) {
+            counters.compute(userId, (id, existing) -> {
+                if (existing != null || inFlight.get() != 0 || version.get() != startVersion) {
+                    return existing;
+                }
+                LongAdder adder = new LongAdder();
+                adder.add(count);
+                return adder;
+            });
+        }
+        return count;
+    }
+
+    /**
+     * Suma {@code delta} a los no leídos del usuario cuando la transacción en curso confirma.
+     */
+    public void adjust(Long userId, long delta) {
+        if (delta != 0) {
+            onCommit(() -> counters.computeIfPresent(userId, (id, adder) -> {
+                adder.add(delta);
+                return adder;
+            }));
+        }
+    }
+
+    /**
+     * Descarta el contador del usuario al confirmar; el siguiente acceso lo recalcula.
+     */
+    public void invalidate(Long userId) {
+        onCommit(() -> counters.remove(userId));
+    }
+
+    public void clear() {
+        counters.clear();
+    }
+
+    private void onCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            version.incrementAndGet();
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean started;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                started = true;
+                inFlight.incrementAndGet();
+                version.incrementAndGet();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (!started) {
+                    return;
+                }
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        action.run();
+                    }
+                } finally {
+                    version.incrementAndGet();
+                    inFlight.decrementAndGet();
+                }
+            }
+        });
+    }
+}
@@ -4,6 +4,8 @@ import com.practice.Notification.dtoRequest.NotificationCreateRequestDto;
 import com.practice.Notification.dtoRequest.NotificationUpdateRequestDto;
 import com.practice.Notification.dtoResponse.NotificationCreateResponseDto;
 import com.practice.Notification.dtoResponse.NotificationPageResponseDto;
+import com.practice.Notification.dtoResponse.NotificationReadAllResponseDto;
+import com.practice.Notification.dtoResponse.NotificationUnreadCountResponseDto;
 
 import com.practice.Notification.dtoResponse.NotificationResponseDto;
 import com.practice.Notification.dtoResponse.NotificationUserRequestDto;
@@ -14,10 +16,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 
 @RestController
@@ -39,6 +43,46 @@ public class NotificationController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Recibir notificaciones en tiempo real",
+            description = "Abre un flujo SSE con las notificaciones nuevas del usuario autenticado. Al reconectar con el " +
+                    "encabezado Last-Event-ID se reenvían primero las que se perdieron")
+    @ApiResponse(responseCode = "200", description = "Flujo de notificaciones abierto")
+    @ApiResponse(responseCode = "403", description = "Se requiere un usuario autenticado")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return notificationServiceImpl.openStream(lastEventId);
+    }
+
+    @Operation(summary = "Obtener las notificaciones de un usuario",
+            description = "Devuelve la bandeja del usuario ordenada de la más reciente a la más antigua; con unread=true solo las no leídas")
+    @ApiResponse(responseCode = "200", description = "Notificaciones obtenidas correctamente")
+    @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<NotificationPageResponseDto> findUserNotifications(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "false") boolean unread,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(notificationServiceImpl.findUserNotifications(userId, unread, page, size));
+    }
+
+    @Operation(summary = "Contar notificaciones no leídas", description = "Devuelve la cantidad de notificaciones no leídas del usuario")
+    @ApiResponse(responseCode = "200", description = "Cantidad obtenida correctamente")
+    @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
+    @GetMapping("/user/{userId}/unread-count")
+    public ResponseEntity<NotificationUnreadCountResponseDto> countUnread(@PathVariable Long userId) {
+        return ResponseEntity.ok(notificationServiceImpl.countUnread(userId));
+    }
+
+    @Operation(summary = "Marcar todas como leídas", description = "Marca como leídas todas las notificaciones del usuario")
+    @ApiResponse(responseCode = "200", description = "Notificaciones marcadas como leídas")
+    @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
+    @PatchMapping("/user/{userId}/read-all")
+    public ResponseEntity<NotificationReadAllResponseDto> markAllRead(@PathVariable Long userId) {
+        return ResponseEntity.ok(notificationServiceImpl.markAllRead(userId));
+    }
+
     @Operation(summary = "Obtener notificacion por ID", description = "Devuelve una notificacion por ID")
     @ApiResponse(responseCode = "200", description = "Notificación obtenida correctamente")
     @ApiResponse(responseCode = "404", description = "Notificación no encontrada")
@@ -0,0 +1,7 @@
+package com.practice.Notification.dtoResponse;
+
+public record NotificationUnreadCountResponseDto(
+        Long idUser,
+        long unread
+) {
+}
@@ -0,0 +1,9 @@
+package com.practice.Notification.event;
+
+import com.practice.Notification.dtoResponse.NotificationCreateResponseDto;
+
+/**
+ * Se publica al crear una notificación; el hub de streaming la entrega tras confirmar la transacción.
+ */
+public record NotificationCreatedEvent(Long userId, NotificationCreateResponseDto notification) {
+}
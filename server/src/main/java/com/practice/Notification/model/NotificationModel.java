@@ -13,16 +13,23 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Builder
 @AllArgsConstructor
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_read_date", columnList = "user_id, is_read, date_create"),
+        @Index(name = "idx_notifications_user_date_id", columnList = "user_id, date_create, id"),
+        @Index(name = "idx_notifications_user_id", columnList = "user_id, id")
+})
 public class NotificationModel {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_seq")
+    @SequenceGenerator(name = "notifications_seq", sequenceName = "notifications_seq", allocationSize = 50)
     private Long id;
     @Enumerated(EnumType.STRING)
     @Column(name = "type_notification")
     private EnumTypeNotification type;
     private String message;
+    @Column(name = "date_create")
     private LocalDateTime dateCreate = LocalDateTime.now();
+    @Column(name = "is_read")
     private Boolean isRead;
 
     @ManyToOne(targetEntity = UserModel.class)
@@ -1,9 +1,38 @@
 package com.practice.Notification.repository;
 
 import com.practice.Notification.model.NotificationModel;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface NotificationRepository extends JpaRepository<NotificationModel, Long> {
+
+    // Las más recientes primero: si se perdieron más de las que caben, se reenvían las últimas
+    @Query("select n from NotificationModel n where n.user.id = :userId and n.id > :afterId order by n.id desc")
+    List<NotificationModel> findByUserIdAfterId(@Param("userId") Long userId, @Param("afterId") Long afterId,
+                                                Pageable pageable);
+
+    // Bandeja del usuario: usan el índice (user_id, is_read, date_create)
+    @Query(value = "select n from NotificationModel n where n.user.id = :userId order by n.dateCreate desc, n.id desc",
+            countQuery = "select count(n) from NotificationModel n where n.user.id = :userId")
+    Page<NotificationModel> findInbox(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(value = "select n from NotificationModel n where n.user.id = :userId and n.isRead = false " +
+            "order by n.dateCreate desc, n.id desc",
+            countQuery = "select count(n) from NotificationModel n where n.user.id = :userId and n.isRead = false")
+    Page<NotificationModel> findUnreadInbox(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select count(n) from NotificationModel n where n.user.id = :userId and n.isRead = false")
+    long countUnreadByUserId(@Param("userId") Long userId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update NotificationModel n set n.isRead = true where n.user.id = :userId and n.isRead = false")
+    int markAllRead(@Param("userId") Long userId);
 }
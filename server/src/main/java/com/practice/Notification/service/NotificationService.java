@@ -4,8 +4,11 @@ import com.practice.Notification.dtoRequest.NotificationCreateRequestDto;
 import com.practice.Notification.dtoRequest.NotificationUpdateRequestDto;
 import com.practice.Notification.dtoResponse.NotificationCreateResponseDto;
 import com.practice.Notification.dtoResponse.NotificationPageResponseDto;
+import com.practice.Notification.dtoResponse.NotificationReadAllResponseDto;
 import com.practice.Notification.dtoResponse.NotificationResponseDto;
+import com.practice.Notification.dtoResponse.NotificationUnreadCountResponseDto;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface NotificationService {
     NotificationPageResponseDto findAllNotification(int page, int size);
@@ -18,4 +21,12 @@ public interface NotificationService {
 
     void deleteNotification(Long id);
 
+    SseEmitter openStream(Long lastEventId);
+
+    NotificationPageResponseDto findUserNotifications(Long userId, boolean unreadOnly, int page, int size);
+
+    NotificationUnreadCountResponseDto countUnread(Long userId);
+
+    NotificationReadAllResponseDto markAllRead(Long userId);
+
 }
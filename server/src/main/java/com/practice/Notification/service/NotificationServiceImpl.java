@@ -1,22 +1,35 @@
 package com.practice.Notification.service;
 
 import com.practice.Notification.Enum.EnumTypeNotification;
+import com.practice.Notification.cache.UnreadNotificationCounter;
 import com.practice.Notification.dtoRequest.NotificationCreateRequestDto;
 import com.practice.Notification.dtoRequest.NotificationRequestDto;
 import com.practice.Notification.dtoRequest.NotificationUpdateRequestDto;
 import com.practice.Notification.dtoResponse.NotificationCreateResponseDto;
 import com.practice.Notification.dtoResponse.NotificationPageResponseDto;
+import com.practice.Notification.dtoResponse.NotificationReadAllResponseDto;
 import com.practice.Notification.dtoResponse.NotificationResponseDto;
+import com.practice.Notification.dtoResponse.NotificationUnreadCountResponseDto;
+import com.practice.Notification.event.NotificationCreatedEvent;
 import com.practice.Notification.mappers.NotificationMapper;
 import com.practice.Notification.model.NotificationModel;
 import com.practice.Notification.repository.NotificationRepository;
+import com.practice.Notification.stream.NotificationStreamHub;
 import com.practice.User.model.UserModel;
 import com.practice.User.repository.UserRepository;
+import com.practice.exceptions.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -30,6 +43,9 @@ public class NotificationServiceImpl implements NotificationService {
     private final NotificationRepository notificationRepository;
     private final NotificationMapper notificationMapper;
     private final UserRepository userRepository;
+    private final NotificationStreamHub notificationStreamHub;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public NotificationPageResponseDto findAllNotification(int page, int size) {
@@ -67,26 +83,36 @@ public class NotificationServiceImpl implements NotificationService {
                 .type(typeNotification)
                 .message(notificationCreateRequestDto.message())
                 .dateCreate(LocalDateTime.now())
-                .isRead(notificationCreateRequestDto.isRead())
+                .isRead(Boolean.TRUE.equals(notificationCreateRequestDto.isRead()))
                 .user(userEntity)
                 .build();
         notificationRepository.save(notificationModel);
-        return new NotificationCreateResponseDto(
+        if (!notificationModel.getIsRead()) {
+            unreadNotificationCounter.adjust(userEntity.getId(), 1);
+        }
+        NotificationCreateResponseDto response = new NotificationCreateResponseDto(
                 notificationModel.getId(), notificationCreateRequestDto.typeNotification(),
                 notificationModel.getMessage(), notificationModel.getIsRead(), notificationCreateRequestDto.idUser());
+        // Los suscriptores la reciben al confirmar, sin tener que consultar
+        eventPublisher.publishEvent(new NotificationCreatedEvent(userEntity.getId(), response));
+        return response;
     }
 
     @Override
     public NotificationResponseDto updateNotification(Long id, NotificationUpdateRequestDto notificationUpdateRequestDto) {
         return notificationRepository.findById(id)
                 .map(notification -> {
+                    Long previousUserId = notification.getUser() == null ? null : notification.getUser().getId();
+                    boolean wasUnread = !Boolean.TRUE.equals(notification.getIsRead());
                     if(notificationUpdateRequestDto.getTypeNotification()!= null){
                     EnumTypeNotification typeNotification = EnumTypeNotification.valueOf(notificationUpdateRequestDto.getTypeNotification());
                     notification.setType(typeNotification);
 
                     }
                     notification.setMessage(notificationUpdateRequestDto.getMessage());
-                    notification.setIsRead(notificationUpdateRequestDto.getIsRead());
+                    if (notificationUpdateRequestDto.getIsRead() != null) {
+                        notification.setIsRead(notificationUpdateRequestDto.getIsRead());
+                    }
                     if (notificationUpdateRequestDto.getIdUser() != null) {
                         UserModel userUpdate = userRepository.findById(
                                 notificationUpdateRequestDto.getIdUser()
@@ -94,15 +120,73 @@ public class NotificationServiceImpl implements NotificationService {
                         notification.setUser(userUpdate);
                     }
                     NotificationModel updateNotification = notificationRepository.save(notification);
+                    if (wasUnread && previousUserId != null) {
+                        unreadNotificationCounter.adjust(previousUserId, -1);
+                    }
+                    if (!Boolean.TRUE.equals(updateNotification.getIsRead()) && updateNotification.getUser() != null) {
+                        unreadNotificationCounter.adjust(updateNotification.getUser().getId(), 1);
+                    }
                     return notificationMapper.toDtoNotification(updateNotification);
                 }).orElseThrow(() -> new NoSuchElementException("Notification con id " + notificationUpdateRequestDto.getId() + "no se pudo encontrar"));
     }
 
     @Override
     public void deleteNotification(Long id) {
-        if (!notificationRepository.existsById(id)) {
-            throw new IllegalArgumentException("La notification con id " + id + "no existe");
+        NotificationModel notification = notificationRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("La notification con id " + id + "no existe"));
+        notificationRepository.delete(notification);
+        if (!Boolean.TRUE.equals(notification.getIsRead()) && notification.getUser() != null) {
+            unreadNotificationCounter.adjust(notification.getUser().getId(), -1);
+        }
+    }
+
+    @Override
+    public NotificationPageResponseDto findUserNotifications(Long userId, boolean unreadOnly, int page, int size) {
+        requireUser(userId);
+        Pageable pageable = PageRequest.of(page, size);
+        Page<NotificationModel> notificationPage = unreadOnly
+                ? notificationRepository.findUnreadInbox(userId, pageable)
+                : notificationRepository.findInbox(userId, pageable);
+
+        List<NotificationRequestDto> notificationDtos = notificationPage.getContent()
+                .stream()
+                .map(notificationMapper::toDto)
+                .collect(Collectors.toList());
+
+        return new NotificationPageResponseDto(notificationDtos, notificationPage.getTotalPages(), notificationPage.getTotalElements());
+    }
+
+    @Override
+    public NotificationUnreadCountResponseDto countUnread(Long userId) {
+        requireUser(userId);
+        return new NotificationUnreadCountResponseDto(userId, unreadNotificationCounter.unreadCount(userId));
+    }
+
+    @Override
+    @Transactional
+    public NotificationReadAllResponseDto markAllRead(Long userId) {
+        requireUser(userId);
+        // Un solo UPDATE; el contador se descarta y se recalcula en la próxima lectura
+        int updated = notificationRepository.markAllRead(userId);
+        unreadNotificationCounter.invalidate(userId);
+        return new NotificationReadAllResponseDto(userId, updated);
+    }
+
+    @Override
+    public SseEmitter openStream(Long lastEventId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            throw new AccessDeniedException("Se requiere un usuario autenticado para recibir notificaciones");
+        }
+        UserModel user = userRepository.findByEmail(authentication.getName())
+                .orElseThrow(() -> new UserNotFoundException("Usuario " + authentication.getName() + " no encontrado."));
+        return notificationStreamHub.subscribe(user.getId(), lastEventId);
+    }
+
+    private void requireUser(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException("Usuario con ID " + userId + " no encontrado.");
         }
-        notificationRepository.deleteById(id);
     }
-}
\ No newline at end of file
+}
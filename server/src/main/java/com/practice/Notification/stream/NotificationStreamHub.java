@@ -0,0 +1,185 @@
+package com.practice.Notification.stream;
+
+import com.practice.Notification.dtoResponse.NotificationCreateResponseDto;
+import com.practice.Notification.event.NotificationCreatedEvent;
+import com.practice.Notification.model.NotificationModel;
+import com.practice.Notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reparte las notificaciones nuevas entre las conexiones SSE abiertas de cada usuario.
+ */
+@Slf4j
+@Component
+public class NotificationStreamHub {
+    private final NotificationRepository notificationRepository;
+    private final Map<Long, List<NotificationSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ExecutorService dispatcher;
+    private final Counter dropped;
+    private final long timeoutMillis;
+    private final int queueCapacity;
+    private final int replayMax;
+    private final int maxPerUser;
+
+    public NotificationStreamHub(NotificationRepository notificationRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${notification.stream.timeout-ms:1800000}") long timeoutMillis,
+                                 @Value("${notification.stream.queue-capacity:256}") int queueCapacity,
+                                 @Value("${notification.stream.replay-max:100}") int replayMax,
+                                 @Value("${notification.stream.max-per-user:5}") int maxPerUser,
+                                 @Value("${notification.stream.dispatcher-threads:4}") int dispatcherThreads,
+                                 @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.notificationRepository = notificationRepository;
+        this.timeoutMillis = timeoutMillis;
+        this.queueCapacity = queueCapacity;
+        this.replayMax = replayMax;
+        this.maxPerUser = Math.max(1, maxPerUser);
+
+        // Cada suscriptor tiene como mucho una tarea de envío en cola, así que la cola queda acotada por las conexiones
+        if (virtualThreads) {
+            // Un hilo virtual por envío: un cliente lento bloquea solo su propio hilo
+            this.dispatcher = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("notification-stream-", 1).factory());
+        } else {
+            AtomicInteger threadIds = new AtomicInteger();
+            int threads = Math.max(1, dispatcherThreads);
+            this.dispatcher = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "notification-stream-" + threadIds.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+
+        meterRegistry.gauge("notification.stream.connections", connections);
+        this.dropped = meterRegistry.counter("notification.stream.dropped");
+    }
+
+    /**
+     * Abre una conexión para el usuario. Con {@code lastEventId} se reenvían primero las notificaciones
+     * posteriores a ese id (como máximo las {@code replay-max} más recientes).
+     */
+    public SseEmitter subscribe(Long userId, Long lastEventId) {
+        SseEmitter emitter = newEmitter(timeoutMillis);
+        NotificationSubscriber subscriber = new NotificationSubscriber(emitter, queueCapacity, dispatcher);
+
+        emitter.onCompletion(() -> unregister(userId, subscriber));
+        emitter.onTimeout(() -> unregister(userId, subscriber));
+        emitter.onError(e -> unregister(userId, subscriber));
+
+        // Se registra antes de consultar lo perdido para no dejar huecos; start() ordena y quita repetidos
+        List<NotificationSubscriber> evicted = new ArrayList<>();
+        subscribers.compute(userId, (id, list) -> {
+            List<NotificationSubscriber> current = list == null ? new CopyOnWriteArrayList<>() : list;
+            current.add(subscriber);
+            while (current.size() > maxPerUser) {
+                evicted.add(current.remove(0));
+            }
+            return current;
+        });
+        connections.incrementAndGet();
+        evicted.forEach(this::closeEvicted);
+
+        subscriber.start(lastEventId == null ? Collections.emptyList() : replay(userId, lastEventId));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        List<NotificationSubscriber> list = subscribers.get(event.userId());
+        if (list == null) {
+            return;
+        }
+        StreamEvent streamEvent = new StreamEvent(event.notification().id(), event.notification());
+        for (NotificationSubscriber subscriber : list) {
+            offer(event.userId(), subscriber, streamEvent);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.forEach((userId, list) -> {
+            for (NotificationSubscriber subscriber : list) {
+                offer(userId, subscriber, StreamEvent.HEARTBEAT);
+            }
+        });
+    }
+
+    public int connectionCount() {
+        return connections.get();
+    }
+
+    // Punto de extensión para los tests, que necesitan ver lo que se envía por cada conexión
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(list -> list.forEach(NotificationSubscriber::close));
+        subscribers.clear();
+        dispatcher.shutdownNow();
+    }
+
+    private void offer(Long userId, NotificationSubscriber subscriber, StreamEvent event) {
+        if (!subscriber.offer(event)) {
+            log.warn("Se desconecta un cliente lento del stream de notificaciones del usuario {}", userId);
+            dropped.increment();
+            unregister(userId, subscriber);
+            subscriber.close();
+        }
+    }
+
+    private List<StreamEvent> replay(Long userId, Long lastEventId) {
+        List<NotificationModel> missed = notificationRepository.findByUserIdAfterId(
+                userId, lastEventId, PageRequest.of(0, Math.min(replayMax, queueCapacity)));
+        List<StreamEvent> events = new ArrayList<>(missed.size());
+        for (NotificationModel notification : missed) {
+            NotificationCreateResponseDto payload = new NotificationCreateResponseDto(
+                    notification.getId(), notification.getType() != null ? notification.getType().name() : null,
+                    notification.getMessage(), notification.getIsRead(), userId);
+            events.add(new StreamEvent(notification.getId(), payload));
+        }
+        return events;
+    }
+
+    private void closeEvicted(NotificationSubscriber subscriber) {
+        connections.decrementAndGet();
+        subscriber.close();
+    }
+
+    private void unregister(Long userId, NotificationSubscriber subscriber) {
+        boolean[] removed = new boolean[1];
+        subscribers.computeIfPresent(userId, (id, list) -> {
+            removed[0] = list.remove(subscriber);
+            return list.isEmpty() ? null : list;
+        });
+        if (removed[0]) {
+            connections.decrementAndGet();
+        }
+    }
+}
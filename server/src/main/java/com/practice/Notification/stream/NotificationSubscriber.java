@@ -0,0 +1,114 @@
+package com.practice.Notification.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Una conexión SSE con su cola acotada. Un solo hilo del dispatcher escribe a la vez en el
+ * emitter, así un cliente lento no bloquea a quien publica: si la cola se llena, el hub lo desconecta
+ * y el cliente recupera lo perdido al reconectar con Last-Event-ID.
+ */
+final class NotificationSubscriber {
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final Executor dispatcher;
+    private final ArrayDeque<StreamEvent> queue = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private boolean ready;
+    private volatile boolean closed;
+
+    NotificationSubscriber(SseEmitter emitter, int capacity, Executor dispatcher) {
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Encola primero lo perdido y luego lo recibido mientras se consultaba, ordenado y sin repetidos.
+     */
+    void start(List<StreamEvent> replay) {
+        synchronized (this) {
+            TreeMap<Long, StreamEvent> ordered = new TreeMap<>();
+            replay.forEach(event -> ordered.put(event.id(), event));
+            queue.forEach(event -> ordered.put(event.id(), event));
+            queue.clear();
+            queue.addAll(ordered.values());
+            ready = true;
+        }
+        schedule();
+    }
+
+    /**
+     * @return {@code false} si la cola está llena y el suscriptor debe descartarse
+     */
+    boolean offer(StreamEvent event) {
+        synchronized (this) {
+            if (closed) {
+                return true;
+            }
+            if (event.isHeartbeat() && (!ready || !queue.isEmpty())) {
+                // Con eventos en cola el heartbeat sobra; antes de arrancar no se envía nada
+                return true;
+            }
+            if (queue.size() >= capacity) {
+                return false;
+            }
+            queue.add(event);
+            if (!ready) {
+                return true;
+            }
+        }
+        schedule();
+        return true;
+    }
+
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        synchronized (this) {
+            queue.clear();
+        }
+        emitter.complete();
+    }
+
+    private void schedule() {
+        if (!closed && draining.compareAndSet(false, true)) {
+            dispatcher.execute(this::drain);
+        }
+    }
+
+    private synchronized StreamEvent poll() {
+        return queue.poll();
+    }
+
+    private synchronized boolean hasPending() {
+        return !queue.isEmpty();
+    }
+
+    private void drain() {
+        try {
+            StreamEvent event;
+            while (!closed && (event = poll()) != null) {
+                emitter.send(event.toSse());
+            }
+        } catch (IOException | IllegalStateException e) {
+            // El cliente cerró la conexión; completeWithError dispara el onError que lo da de baja en el hub
+            closed = true;
+            emitter.completeWithError(e);
+            return;
+        } finally {
+            draining.set(false);
+        }
+        if (hasPending()) {
+            schedule();
+        }
+    }
+}
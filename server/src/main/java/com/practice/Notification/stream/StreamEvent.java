@@ -0,0 +1,28 @@
+package com.practice.Notification.stream;
+
+import com.practice.Notification.dtoResponse.NotificationCreateResponseDto;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Evento pendiente de envío a un suscriptor. El id es el de la notificación, que el cliente
+ * devuelve en Last-Event-ID al reconectar; el heartbeat no lleva id.
+ */
+record StreamEvent(long id, NotificationCreateResponseDto payload) {
+
+    static final StreamEvent HEARTBEAT = new StreamEvent(0L, null);
+
+    boolean isHeartbeat() {
+        return payload == null;
+    }
+
+    SseEmitter.SseEventBuilder toSse() {
+        if (isHeartbeat()) {
+            return SseEmitter.event().comment("ping");
+        }
+        return SseEmitter.event()
+                .id(String.valueOf(id))
+                .name("notification")
+                .data(payload, MediaType.APPLICATION_JSON);
+    }
+}
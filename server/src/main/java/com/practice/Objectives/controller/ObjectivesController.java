@@ -3,6 +3,7 @@ package com.practice.Objectives.controller;
 import com.practice.Objectives.dtoRequest.ObjectivesCreateRequestDto;
 import com.practice.Objectives.dtoRequest.ObjectivesUpdateRequestDto;
 import com.practice.Objectives.dtoResponse.ObjectivePageResponse;
+import com.practice.Objectives.dtoResponse.ObjectiveProjectionResponseDto;
 import com.practice.Objectives.dtoResponse.ObjectivesResponseCreateDto;
 import com.practice.Objectives.dtoResponse.ObjectivesResponseDto;
 import com.practice.Objectives.service.ObjectivesServiceImpl;
@@ -47,6 +48,16 @@ public class ObjectivesController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    @Operation(summary = "Proyección de un objetivo", description = "Simula la evolución del patrimonio del usuario y devuelve la probabilidad de alcanzar el objetivo y los percentiles 10, 50 y 90")
+    @ApiResponse(responseCode = "200", description = "Proyección calculada correctamente")
+    @ApiResponse(responseCode = "400", description = "El objetivo no tiene usuario, monto o fecha objetivo")
+    @ApiResponse(responseCode = "404", description = "No se encontró el objetivo o el perfil financiero del usuario")
+    @GetMapping("/{id}/projection")
+    public ResponseEntity<ObjectiveProjectionResponseDto> projectObjective(@PathVariable Long id) {
+        ObjectiveProjectionResponseDto response = objectivesServiceImpl.projectObjective(id);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "Actualiza un objetivo", description = "Actualiza  un objetivo por ID")
     @ApiResponse(responseCode = "200", description = "Objetivos actualizado correctamente")
     @ApiResponse(responseCode = "404", description = "No se pudo actualizar el objetivo")
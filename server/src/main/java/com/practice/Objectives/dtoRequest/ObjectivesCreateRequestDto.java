@@ -12,6 +12,7 @@ public record ObjectivesCreateRequestDto(
          String frequency,
 //         Long  idFinancingProfile
          LocalDateTime startDate,
-         LocalDateTime targetDate
+         LocalDateTime targetDate,
+         Long idUser
 ) {
 }
@@ -16,8 +16,9 @@ public class ObjectivesUpdateRequestDto {
     private Double annualProgress;
     private String priority;
     private String frequency;
-    private LocalDateTime startDate = LocalDateTime.now();
-    private LocalDateTime targetDate = LocalDateTime.now();
+    private LocalDateTime startDate;
+    private LocalDateTime targetDate;
+    private Long idUser;
 //    private Long idFinancingProfile;
 
 }
@@ -0,0 +1,19 @@
+package com.practice.Objectives.dtoResponse;
+
+import java.time.LocalDateTime;
+
+public record ObjectiveProjectionResponseDto(
+        Long objectiveId,
+        Long userId,
+        double probability,
+        Double targetAmount,
+        int months,
+        double initialWealth,
+        double monthlyContribution,
+        double p10,
+        double p50,
+        double p90,
+        int simulations,
+        LocalDateTime computedAt
+) {
+}
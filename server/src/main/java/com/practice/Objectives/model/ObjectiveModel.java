@@ -4,6 +4,7 @@ import com.practice.FinancingProfile.model.FinancingProfileModel;
 import com.practice.Objectives.Enum.EnumFrequency;
 import com.practice.Objectives.Enum.EnumObjectiveType;
 import com.practice.Objectives.Enum.EnumPriority;
+import com.practice.User.model.UserModel;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,7 +18,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Builder
 @AllArgsConstructor
-@Table(name = "objectives")
+@Table(name = "objectives", indexes = {
+        @Index(name = "idx_objectives_user", columnList = "user_id")
+})
 public class ObjectiveModel {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -40,6 +43,10 @@ public class ObjectiveModel {
     private LocalDateTime startDate;
     @Column(name = "target_date")
     private LocalDateTime targetDate;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private UserModel user;
 //    @ManyToOne(targetEntity = FinancingProfileModel.class)
 //    @JoinColumn(name = "financing_profile_id")
 //    private FinancingProfileModel financingProfile;
@@ -0,0 +1,120 @@
+package com.practice.Objectives.projection;
+
+import com.practice.FinancingProfile.event.FinancingProfileChangedEvent;
+import com.practice.Objectives.dtoResponse.ObjectiveProjectionResponseDto;
+import com.practice.Portfolio.event.PortfolioChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Proyecciones calculadas por objetivo.
+ *
+ * <p>Se descartan cuando cambia el portafolio o el perfil financiero del usuario y cuando se edita
+ * el objetivo; el TTL cubre los movimientos de cotizaciones, que no generan eventos. Un cálculo que
+ * empezó antes de una invalidación no se guarda ({@code generation}).</p>
+ */
+@Component
+public class ObjectiveProjectionCache {
+    private final Map<Long, Entry> byObjective = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> objectivesByUser = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long ttlMillis;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public ObjectiveProjectionCache(MeterRegistry meterRegistry,
+                                    @Value("${objective.projection.ttl-seconds:600}") long ttlSeconds) {
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.hits = meterRegistry.counter("objective.projection.cache.hits");
+        this.misses = meterRegistry.counter("objective.projection.cache.misses");
+        Gauge.builder("objective.projection.cache.size", byObjective, Map::size).register(meterRegistry);
+    }
+
+    public ObjectiveProjectionResponseDto get(Long objectiveId, Supplier<ObjectiveProjectionResponseDto> loader) {
+        long now = System.currentTimeMillis();
+        Entry cached = byObjective.get(objectiveId);
+        if (cached != null && cached.expiresAt() > now) {
+            hits.increment();
+            return cached.projection();
+        }
+        misses.increment();
+
+        long startGeneration = generation.get();
+        ObjectiveProjectionResponseDto projection = loader.get();
+        Long userId = projection.userId();
+        objectivesByUser.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(objectiveId);
+        byObjective.compute(objectiveId, (id, existing) ->
+                generation.get() == startGeneration ? new Entry(projection, now + ttlMillis) : existing);
+        return projection;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        evictUser(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFinancingProfileChanged(FinancingProfileChangedEvent event) {
+        evictUser(event.userId());
+    }
+
+    /**
+     * Descarta la proyección del objetivo ahora y otra vez al confirmar la transacción en curso,
+     * para no quedarse con un cálculo hecho entre la escritura y el commit.
+     */
+    public void invalidate(Long objectiveId) {
+        evictObjective(objectiveId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictObjective(objectiveId);
+                }
+            });
+        }
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        byObjective.clear();
+        objectivesByUser.clear();
+    }
+
+    private void evictUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        generation.incrementAndGet();
+        Set<Long> objectiveIds = objectivesByUser.remove(userId);
+        if (objectiveIds != null) {
+            objectiveIds.forEach(byObjective::remove);
+        }
+    }
+
+    private void evictObjective(Long objectiveId) {
+        generation.incrementAndGet();
+        Entry removed = byObjective.remove(objectiveId);
+        if (removed != null && removed.projection().userId() != null) {
+            objectivesByUser.computeIfPresent(removed.projection().userId(), (id, ids) -> {
+                ids.remove(objectiveId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private record Entry(ObjectiveProjectionResponseDto projection, long expiresAt) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.practice.Objectives.projection;
+
+/**
+ * Parámetros de una simulación. Los aportes se hacen cada {@code contributionEveryMonths} meses
+ * (0 = sin aportes) y los rendimientos son anuales.
+ */
+public record ProjectionInput(
+        double initialWealth,
+        double contribution,
+        int contributionEveryMonths,
+        int months,
+        double target,
+        double annualReturn,
+        double annualVolatility,
+        long seed
+) {
+}
@@ -0,0 +1,10 @@
+package com.practice.Objectives.projection;
+
+public record ProjectionResult(
+        double probability,
+        double p10,
+        double p50,
+        double p90,
+        int simulations
+) {
+}
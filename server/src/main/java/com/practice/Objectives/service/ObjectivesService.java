@@ -3,6 +3,7 @@ package com.practice.Objectives.service;
 import com.practice.Objectives.dtoRequest.ObjectivesCreateRequestDto;
 import com.practice.Objectives.dtoRequest.ObjectivesUpdateRequestDto;
 import com.practice.Objectives.dtoResponse.ObjectivePageResponse;
+import com.practice.Objectives.dtoResponse.ObjectiveProjectionResponseDto;
 import com.practice.Objectives.dtoResponse.ObjectivesResponseCreateDto;
 import com.practice.Objectives.dtoResponse.ObjectivesResponseDto;
 import org.springframework.validation.annotation.Validated;
@@ -13,4 +14,5 @@ public interface ObjectivesService {
     ObjectivesResponseCreateDto createObjective(ObjectivesCreateRequestDto objectivesCreateRequestDto);
     ObjectivesResponseDto updateObjective(Long id , @Validated ObjectivesUpdateRequestDto objectivesUpdateRequestDto);
     void deleteObjective(Long id);
+    ObjectiveProjectionResponseDto projectObjective(Long id);
 }
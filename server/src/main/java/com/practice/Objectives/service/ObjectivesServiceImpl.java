@@ -2,6 +2,7 @@ package com.practice.Objectives.service;
 
 import com.practice.FinancingProfile.model.FinancingProfileModel;
 import com.practice.FinancingProfile.repository.FinancingProfileRepository;
+import com.practice.Objectives.dtoResponse.ObjectiveProjectionResponseDto;
 import com.practice.Objectives.Enum.EnumFrequency;
 import com.practice.Objectives.Enum.EnumObjectiveType;
 import com.practice.Objectives.Enum.EnumPriority;
@@ -13,13 +14,27 @@ import com.practice.Objectives.dtoResponse.ObjectivesResponseCreateDto;
 import com.practice.Objectives.dtoResponse.ObjectivesResponseDto;
 import com.practice.Objectives.mappers.ObjectiveMapper;
 import com.practice.Objectives.model.ObjectiveModel;
+import com.practice.Objectives.projection.ObjectiveProjectionCache;
+import com.practice.Objectives.projection.ObjectiveProjectionEngine;
+import com.practice.Objectives.projection.ProjectionInput;
+import com.practice.Objectives.projection.ProjectionResult;
 import com.practice.Objectives.repository.ObjectiveRepository;
+import com.practice.Portfolio.service.PortfolioValuationEngine;
+import com.practice.Recommendation.engine.RecommendationEngine;
+import com.practice.User.model.UserModel;
+import com.practice.User.repository.UserRepository;
+import com.practice.exceptions.FinancingProfileNotFoundException;
+import com.practice.exceptions.InvalidObjectiveException;
+import com.practice.exceptions.ObjectiveNotFoundException;
+import com.practice.exceptions.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,6 +44,14 @@ public class ObjectivesServiceImpl implements ObjectivesService {
     private final ObjectiveRepository objectiveRepository;
     private final ObjectiveMapper objectiveMapper;
     private final FinancingProfileRepository financingProfileRepository;
+    private final UserRepository userRepository;
+    private final PortfolioValuationEngine portfolioValuationEngine;
+    private final ObjectiveProjectionEngine objectiveProjectionEngine;
+    private final ObjectiveProjectionCache objectiveProjectionCache;
+
+    private static final String OBJECTIVE_NOT_FOUND = "El objetivo con ID %d no fue encontrado";
+    private static final String USER_NOT_FOUND = "El usuario con ID %d no fue encontrado";
+    private static final int MAX_PROJECTION_MONTHS = 600;
 
     @Override
     public ObjectivePageResponse findAllObjectives(int page, int size) {
@@ -44,7 +67,8 @@ public class ObjectivesServiceImpl implements ObjectivesService {
 
     @Override
     public ObjectivesResponseDto findObjectiveById(Long id) {
-        ObjectiveModel objective = objectiveRepository.findById(id).orElseThrow();
+        ObjectiveModel objective = objectiveRepository.findById(id)
+                .orElseThrow(() -> new ObjectiveNotFoundException(String.format(OBJECTIVE_NOT_FOUND, id)));
         return objectiveMapper.toDtoObjective(objective);
     }
 
@@ -71,6 +95,9 @@ public class ObjectivesServiceImpl implements ObjectivesService {
                 .annualProgress(objectivesCreateRequestDto.annualProgress())
                 .enumPriority(priority)
                 .enumFrequency(frequency)
+                .startDate(objectivesCreateRequestDto.startDate())
+                .targetDate(objectivesCreateRequestDto.targetDate())
+                .user(findUser(objectivesCreateRequestDto.idUser()))
 //                .financingProfile(financingProfileEntity)
                 .build();
         objectiveRepository.save(objectiveModel);
@@ -82,8 +109,9 @@ public class ObjectivesServiceImpl implements ObjectivesService {
                 objectiveModel.getAnnualProgress(),
                 objectivesCreateRequestDto.priority(),
                 objectivesCreateRequestDto.frequency(),
-                objectivesCreateRequestDto.startDate(),
-                objectivesCreateRequestDto.targetDate()
+                objectiveModel.getStartDate(),
+                objectiveModel.getTargetDate(),
+                objectivesCreateRequestDto.idUser()
         );
     }
 
@@ -119,17 +147,99 @@ public class ObjectivesServiceImpl implements ObjectivesService {
                     if (objectivesUpdateRequestDto.getTargetDate() != null) {
                         objective.setTargetDate(objectivesUpdateRequestDto.getTargetDate());
                     }
+                    if (objectivesUpdateRequestDto.getIdUser() != null) {
+                        objective.setUser(findUser(objectivesUpdateRequestDto.getIdUser()));
+                    }
                     ObjectiveModel updateObjective = objectiveRepository.save(objective);
+                    objectiveProjectionCache.invalidate(id);
                     return objectiveMapper.toDtoObjective(updateObjective);
-                }).orElseThrow(() -> new IllegalArgumentException("No se encontro el objetivo con id" + objectivesUpdateRequestDto.getId()));
+                }).orElseThrow(() -> new ObjectiveNotFoundException(String.format(OBJECTIVE_NOT_FOUND, id)));
     }
 
     @Override
     public void deleteObjective(Long id) {
         if (!objectiveRepository.existsById(id)) {
-            throw new IllegalArgumentException("Objectivo con id" + id + "no existe");
-
+            throw new ObjectiveNotFoundException(String.format(OBJECTIVE_NOT_FOUND, id));
         }
         objectiveRepository.deleteById(id);
+        objectiveProjectionCache.invalidate(id);
+    }
+
+    @Override
+    public ObjectiveProjectionResponseDto projectObjective(Long id) {
+        return objectiveProjectionCache.get(id, () -> computeProjection(id));
+    }
+
+    private ObjectiveProjectionResponseDto computeProjection(Long id) {
+        ObjectiveModel objective = objectiveRepository.findById(id)
+                .orElseThrow(() -> new ObjectiveNotFoundException(String.format(OBJECTIVE_NOT_FOUND, id)));
+        if (objective.getUser() == null || objective.getAmountObjective() == null || objective.getTargetDate() == null) {
+            throw new InvalidObjectiveException(String.format(
+                    "El objetivo con ID %d necesita usuario, monto y fecha objetivo para proyectarse", id));
+        }
+        Long userId = objective.getUser().getId();
+        FinancingProfileModel profile = financingProfileRepository.findByUserId(userId)
+                .orElseThrow(() -> new FinancingProfileNotFoundException(String.format(
+                        "El usuario con ID %d no tiene perfil financiero", userId)));
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = objective.getStartDate() != null && objective.getStartDate().isAfter(now)
+                ? objective.getStartDate() : now;
+        int months = (int) Math.max(0, ChronoUnit.MONTHS.between(from, objective.getTargetDate()));
+        if (months > MAX_PROJECTION_MONTHS) {
+            throw new InvalidObjectiveException(String.format(
+                    "La fecha objetivo no puede superar los %d meses", MAX_PROJECTION_MONTHS));
+        }
+
+        Double portfolioValue = portfolioValuationEngine.valuate(userId).getTotalValue();
+        double initialWealth = (portfolioValue != null ? portfolioValue : 0.0)
+                + (profile.getSavingsTotal() != null ? profile.getSavingsTotal() : 0.0);
+        double monthlyContribution = monthlyContribution(profile);
+
+        // Rendimiento y volatilidad anuales esperados según el perfil de riesgo
+        int risk = RecommendationEngine.riskTolerance(profile.getRiskProfile());
+        double annualReturn = risk == 1 ? 0.04 : risk == 2 ? 0.07 : 0.10;
+        double annualVolatility = risk == 1 ? 0.05 : risk == 2 ? 0.12 : 0.20;
+
+        EnumFrequency frequency = objective.getEnumFrequency() != null ? objective.getEnumFrequency() : EnumFrequency.MENSUAL;
+        int every = switch (frequency) {
+            case UNICO -> 0;
+            case MENSUAL -> 1;
+            case ANUAL -> 12;
+        };
+        ProjectionResult result = objectiveProjectionEngine.simulate(new ProjectionInput(
+                initialWealth, monthlyContribution * Math.max(1, every), every, months,
+                objective.getAmountObjective(), annualReturn, annualVolatility, objective.getId()));
+
+        return new ObjectiveProjectionResponseDto(
+                objective.getId(),
+                userId,
+                result.probability(),
+                objective.getAmountObjective(),
+                months,
+                initialWealth,
+                every > 0 ? monthlyContribution : 0.0,
+                result.p10(),
+                result.p50(),
+                result.p90(),
+                result.simulations(),
+                now
+        );
+    }
+
+    private static double monthlyContribution(FinancingProfileModel profile) {
+        double income = profile.getIncomeMonthly() != null ? profile.getIncomeMonthly() : 0.0;
+        double percentage = profile.getPercentageSave() != null ? profile.getPercentageSave() : 0.0;
+        // El porcentaje de ahorro puede venir como 0-100 o como fracción
+        double rate = percentage > 1 ? percentage / 100.0 : percentage;
+        return Math.max(0.0, income * rate);
+    }
+
+    private UserModel findUser(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException(String.format(USER_NOT_FOUND, userId)));
     }
 }
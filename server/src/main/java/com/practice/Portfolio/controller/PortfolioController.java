@@ -2,6 +2,7 @@ package com.practice.Portfolio.controller;
 
 import com.practice.Portfolio.dtoRequest.InvestmentRequestDto;
 import com.practice.Portfolio.dtoRequest.PortfolioRequestDto;
+import com.practice.Portfolio.dtoResponse.BatchInvestmentResponseDto;
 import com.practice.Portfolio.dtoResponse.PortfolioListResponseDto;
 import com.practice.Portfolio.dtoResponse.PortfolioPageResponseDto;
 import com.practice.Portfolio.dtoResponse.PortfolioResponseDto;
@@ -17,12 +18,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @Validated
 @RequiredArgsConstructor
@@ -82,14 +87,34 @@ public class PortfolioController {
     }
 
     @Operation(summary = "Calcular valor total del portafolio",
-            description = "Este endpoint calcula el valor total de los instrumentos en el portafolio de un usuario dado su ID.")
+            description = "Este endpoint calcula el valor total de los instrumentos en el portafolio de un usuario dado su ID, " +
+                    "junto con el valor de mercado y la ganancia o pérdida no realizada de cada posición.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Valor total calculado con éxito.",
                     content = @Content(
                             mediaType = "application/json",
                             examples = @ExampleObject(
                                     name = "Ejemplo de respuesta exitosa",
-                                    value = "{\n  \"userId\": 1,\n  \"totalValue\": 15750.50\n}"
+                                    value = """
+                {
+                    "userId": 1,
+                    "totalValue": 15750.50,
+                    "totalCost": 15000.00,
+                    "totalUnrealizedPnl": 750.50,
+                    "positions": [
+                        {
+                            "portfolioId": 3,
+                            "instrumentId": 101,
+                            "ticker": "ACC789",
+                            "quantity": 100,
+                            "purchasePrice": 150.00,
+                            "currentPrice": 157.505,
+                            "marketValue": 15750.50,
+                            "unrealizedPnl": 750.50
+                        }
+                    ]
+                }
+                """
                             )
                     )),
             @ApiResponse(responseCode = "404", description = "El usuario no fue encontrado.")
@@ -187,6 +212,34 @@ public class PortfolioController {
     }
 
 
+    @Operation(
+            summary = "Registrar un lote de inversiones para un usuario",
+            description = """
+        Aplica varias órdenes de compra o venta en una sola operación.
+
+        ### Reglas de negocio:
+        - Las órdenes se validan en el orden recibido, con las mismas reglas que una inversión individual.
+        - El lote es todo o nada: si alguna orden es inválida no se aplica ninguna y se devuelve un 400
+          con el resultado de cada orden.
+        - Si todas son válidas se registran las transacciones y se actualizan las posiciones en una única transacción.
+    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lote aplicado; incluye el resultado de cada orden"),
+            @ApiResponse(responseCode = "400", description = "Lote rechazado; incluye el motivo de cada orden rechazada"),
+            @ApiResponse(responseCode = "404", description = "Usuario no encontrado"),
+            @ApiResponse(responseCode = "409", description = "Las posiciones fueron modificadas por otra operación")
+    })
+    @PostMapping("/users/{userId}/investments/batch")
+    public ResponseEntity<BatchInvestmentResponseDto> addInvestmentsBatch(
+            @PathVariable @Parameter(description = "ID del usuario que realiza las inversiones", example = "1") Long userId,
+            @RequestBody @NotEmpty @Size(max = 500) List<@Valid InvestmentRequestDto> orders
+    ) {
+        BatchInvestmentResponseDto response = portfolioServiceImpl.addInvestmentsBatch(userId, orders);
+        return new ResponseEntity<>(response, response.accepted() ? HttpStatus.OK : HttpStatus.BAD_REQUEST);
+    }
+
+
     @Operation(summary = "Eliminar una inversión",
             description = "Este endpoint elimina una inversión específica en el portafolio de un usuario dado su ID.")
     @ApiResponses(value = {
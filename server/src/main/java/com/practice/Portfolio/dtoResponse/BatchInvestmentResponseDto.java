@@ -0,0 +1,10 @@
+package com.practice.Portfolio.dtoResponse;
+
+import java.util.List;
+
+public record BatchInvestmentResponseDto(
+        Long userId,
+        boolean accepted,
+        List<OrderResultDto> results
+) {
+}
@@ -0,0 +1,13 @@
+package com.practice.Portfolio.dtoResponse;
+
+public record OrderResultDto(
+        int index,
+        Long instrumentId,
+        String transactionType,
+        int quantity,
+        boolean accepted,
+        String message,
+        Integer resultingQuantity,
+        Double resultingPurchasePrice
+) {
+}
@@ -1,11 +1,12 @@
 package com.practice.Portfolio.dtoResponse;
 
-import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.List;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -14,4 +15,7 @@ public class PortfolioValueResponseDto {
 
     private Long userId;
     private Double totalValue;
+    private Double totalCost;
+    private Double totalUnrealizedPnl;
+    private List<PositionValueResponseDto> positions;
 }
@@ -0,0 +1,21 @@
+package com.practice.Portfolio.dtoResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PositionValueResponseDto {
+    private Long portfolioId;
+    private Long instrumentId;
+    private String ticker;
+    private Integer quantity;
+    private Double purchasePrice;
+    private Double currentPrice;
+    private Double marketValue;
+    private Double unrealizedPnl;
+}
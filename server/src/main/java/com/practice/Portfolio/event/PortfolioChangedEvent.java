@@ -0,0 +1,7 @@
+package com.practice.Portfolio.event;
+
+/**
+ * Se publica cuando cambian las posiciones de un usuario (compras, ventas o edición directa).
+ */
+public record PortfolioChangedEvent(Long userId) {
+}
@@ -4,12 +4,23 @@ import com.practice.Portfolio.dtoRequest.PortfolioRequestDto;
 import com.practice.Portfolio.dtoResponse.PortfolioResponseDto;
 import com.practice.Portfolio.model.PortfolioModel;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 
-
+/**
+ * Mapeo de Portfolio. Con {@code mapping.compiled.portfolio=true} usa asignaciones directas
+ * equivalentes a los type maps de {@code ModelMapperConfig}; con {@code false}, ModelMapper.
+ */
 @Component
 public class PortfolioMapper {
+    private final ModelMapper modelMapper;
+    private final boolean compiled;
+
+    public PortfolioMapper(ModelMapper modelMapper, @Value("${mapping.compiled.portfolio:true}") boolean compiled) {
+        this.modelMapper = modelMapper;
+        this.compiled = compiled;
+    }
 
     public static PortfolioResponseDto toDto(PortfolioModel portfolio, ModelMapper modelMapper) {
         return modelMapper.map(portfolio, PortfolioResponseDto.class);
@@ -18,4 +29,52 @@ public class PortfolioMapper {
     public static PortfolioModel toEntity(PortfolioRequestDto dto, ModelMapper modelMapper) {
         return modelMapper.map(dto, PortfolioModel.class);
     }
-}
\ No newline at end of file
+
+    public PortfolioResponseDto toResponse(PortfolioModel portfolio) {
+        if (!compiled) {
+            return modelMapper.map(portfolio, PortfolioResponseDto.class);
+        }
+        requireSource(portfolio);
+        return new PortfolioResponseDto(
+                portfolio.getId(),
+                portfolio.getQuantity(),
+                portfolio.getPurchasePrice(),
+                portfolio.getPurchaseDate(),
+                portfolio.getUser() != null ? portfolio.getUser().getId() : null
+        );
+    }
+
+    public PortfolioModel toEntity(PortfolioRequestDto dto) {
+        if (!compiled) {
+            return modelMapper.map(dto, PortfolioModel.class);
+        }
+        requireSource(dto);
+        PortfolioModel portfolio = new PortfolioModel();
+        copy(dto, portfolio);
+        return portfolio;
+    }
+
+    /** Copia el request sobre una entidad existente; el ID nunca se modifica. */
+    public void updateEntity(PortfolioRequestDto dto, PortfolioModel portfolio) {
+        if (!compiled) {
+            modelMapper.map(dto, portfolio);
+            return;
+        }
+        requireSource(dto);
+        copy(dto, portfolio);
+    }
+
+    // El usuario lo resuelve el servicio a partir de userId
+    private static void copy(PortfolioRequestDto dto, PortfolioModel portfolio) {
+        portfolio.setQuantity(dto.getQuantity());
+        portfolio.setPurchasePrice(dto.getPurchasePrice());
+        portfolio.setPurchaseDate(dto.getPurchaseDate());
+    }
+
+    // Mismo contrato que ModelMapper.map con origen nulo
+    private static void requireSource(Object source) {
+        if (source == null) {
+            throw new IllegalArgumentException("source cannot be null");
+        }
+    }
+}
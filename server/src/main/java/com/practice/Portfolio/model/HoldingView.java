@@ -0,0 +1,7 @@
+package com.practice.Portfolio.model;
+
+public record HoldingView(
+        Long userId,
+        Long instrumentId
+) {
+}
@@ -0,0 +1,13 @@
+package com.practice.Portfolio.model;
+
+import java.time.LocalDate;
+
+public record PortfolioLedgerView(
+        Long id,
+        Long instrumentId,
+        Integer quantity,
+        Double purchasePrice,
+        LocalDate purchaseDate,
+        Long version
+) {
+}
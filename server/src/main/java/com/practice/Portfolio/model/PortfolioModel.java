@@ -6,6 +6,7 @@ import com.practice.User.model.UserModel;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -17,7 +18,11 @@ import java.util.Set;
 @Data
 @NoArgsConstructor
 @Entity
-@Table(name = "portfolio")
+@Table(name = "portfolio", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_portfolio_user_instrument", columnNames = {"user_id", "instrument_id"})
+}, indexes = {
+        @Index(name = "idx_portfolio_instrument", columnList = "instrument_id")
+})
 public class PortfolioModel {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -28,6 +33,14 @@ public class PortfolioModel {
     @Column(name = "purchase_date")
     private LocalDate purchaseDate = LocalDate.now();
 
+    @Version
+    private Long version;
+
+    // Lo usa el precálculo incremental de recomendaciones para detectar posiciones modificadas
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     @OneToMany(mappedBy = "portfolio", targetEntity = TransactionModel.class, fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     private List<TransactionModel> transactionModels = new ArrayList<>();
 
@@ -0,0 +1,10 @@
+package com.practice.Portfolio.model;
+
+public record PortfolioPositionView(
+        Long portfolioId,
+        Long instrumentId,
+        String ticker,
+        Integer quantity,
+        Double purchasePrice
+) {
+}
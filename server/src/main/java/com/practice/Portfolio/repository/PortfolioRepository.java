@@ -1,11 +1,18 @@
 package com.practice.Portfolio.repository;
 
 import com.practice.Instrument.model.InstrumentModel;
+import com.practice.Portfolio.model.HoldingView;
+import com.practice.Portfolio.model.PortfolioLedgerView;
 import com.practice.Portfolio.model.PortfolioModel;
+import com.practice.Portfolio.model.PortfolioPositionView;
 import com.practice.User.model.UserModel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +21,33 @@ public interface PortfolioRepository extends JpaRepository<PortfolioModel, Long>
     List<PortfolioModel> findByUserId(Long userId);
     Optional<PortfolioModel> findByUserAndInstrument(UserModel user, InstrumentModel instrument);
 
+    // Proyección plana de las posiciones del usuario, sin cargar entidades ni transacciones
+    @Query("select new com.practice.Portfolio.model.PortfolioPositionView(p.id, i.id, i.ticker, p.quantity, p.purchasePrice) " +
+            "from PortfolioModel p join p.instrument i where p.user.id = :userId")
+    List<PortfolioPositionView> findPositionViewsByUserId(@Param("userId") Long userId);
+
+    @Query("select new com.practice.Portfolio.model.PortfolioLedgerView(p.id, p.instrument.id, " +
+            "coalesce(p.quantity, 0), coalesce(p.purchasePrice, 0.0), p.purchaseDate, p.version) " +
+            "from PortfolioModel p where p.user.id = :userId and p.instrument.id = :instrumentId")
+    Optional<PortfolioLedgerView> findLedgerView(@Param("userId") Long userId, @Param("instrumentId") Long instrumentId);
+
+    @Query("select new com.practice.Portfolio.model.PortfolioLedgerView(p.id, p.instrument.id, " +
+            "coalesce(p.quantity, 0), coalesce(p.purchasePrice, 0.0), p.purchaseDate, p.version) " +
+            "from PortfolioModel p where p.user.id = :userId and p.instrument.id in :instrumentIds")
+    List<PortfolioLedgerView> findLedgerViews(@Param("userId") Long userId, @Param("instrumentIds") Collection<Long> instrumentIds);
+
+    // Actualización condicionada a la versión leída: devuelve 0 si otra operación modificó la posición
+    @Modifying
+    @Query("update PortfolioModel p set p.quantity = :quantity, p.purchasePrice = :purchasePrice, " +
+            "p.version = p.version + 1, p.updatedAt = current_timestamp " +
+            "where p.id = :id and p.version = :version")
+    int applyPositionChange(@Param("id") Long id,
+                            @Param("quantity") int quantity,
+                            @Param("purchasePrice") double purchasePrice,
+                            @Param("version") Long version);
+
+
+    @Query("select new com.practice.Portfolio.model.HoldingView(p.user.id, p.instrument.id) " +
+            "from PortfolioModel p where p.user.id in :userIds and p.quantity > 0")
+    List<HoldingView> findHoldings(@Param("userIds") Collection<Long> userIds);
 }
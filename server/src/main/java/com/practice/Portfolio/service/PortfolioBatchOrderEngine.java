@@ -0,0 +1,208 @@
+package com.practice.Portfolio.service;
+
+import com.practice.Instrument.repository.InstrumentRepository;
+import com.practice.Portfolio.dtoRequest.InvestmentRequestDto;
+import com.practice.Portfolio.dtoResponse.BatchInvestmentResponseDto;
+import com.practice.Portfolio.dtoResponse.OrderResultDto;
+import com.practice.Portfolio.model.PortfolioLedgerView;
+import com.practice.Portfolio.model.PortfolioModel;
+import com.practice.Portfolio.repository.PortfolioRepository;
+import com.practice.Transactions.Enum.EnumTransactionType;
+import com.practice.User.repository.UserRepository;
+import com.practice.exceptions.ConcurrentPortfolioUpdateException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Aplica un lote de órdenes de un usuario: valida todo el lote contra las posiciones
+ * actuales y, solo si todas las órdenes son válidas, lo persiste con sentencias JDBC en lote.
+ * Debe ejecutarse dentro de una transacción y con los locks de las posiciones tomados.
+ */
+@Component
+@RequiredArgsConstructor
+public class PortfolioBatchOrderEngine {
+    // Con el optimizador pooled-lo cada nextval reserva el bloque [valor, valor + allocationSize), igual que
+    // Hibernate: se pide un bloque por cada 50 filas en lugar de gastar uno por fila
+    private static final String NEXT_TRANSACTION_BLOCK_SQL = "select nextval('transactions_seq')";
+    private static final int TRANSACTION_ID_BLOCK = 50;
+    private static final String INSERT_TRANSACTION_SQL =
+            "insert into transactions (id, transaction_type, unit_price, quantity, commission, operation_date, portfolio_id) " +
+            "values (?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_POSITION_SQL =
+            "update portfolio set quantity = ?, purchase_price = ?, version = version + 1, " +
+            "updated_at = current_timestamp where id = ? and version = ?";
+
+    private static final String INSTRUMENT_NOT_FOUND = "El instrumento con ID %d no fue encontrado";
+    private static final String INSUFFICIENT_INSTRUMENTS = "No hay suficientes instrumentos para vender. Disponible: %d, Solicitado: %d";
+    private static final String BATCH_REJECTED = "Orden válida, no aplicada porque el lote fue rechazado";
+
+    private final PortfolioRepository portfolioRepository;
+    private final InstrumentRepository instrumentRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public BatchInvestmentResponseDto execute(Long userId, List<InvestmentRequestDto> orders, Set<Long> knownInstrumentIds) {
+        Map<Long, PositionState> positions = new LinkedHashMap<>();
+        for (PortfolioLedgerView view : portfolioRepository.findLedgerViews(userId, knownInstrumentIds)) {
+            positions.put(view.instrumentId(), new PositionState(view));
+        }
+
+        // Simulación: se aplica cada orden sobre el estado en memoria, en el orden recibido
+        List<OrderResultDto> results = new ArrayList<>(orders.size());
+        PositionState[] orderPositions = new PositionState[orders.size()];
+        boolean allValid = true;
+
+        for (int i = 0; i < orders.size(); i++) {
+            InvestmentRequestDto order = orders.get(i);
+            Long instrumentId = order.getInstrumentId();
+
+            if (!knownInstrumentIds.contains(instrumentId)) {
+                results.add(rejected(i, order, String.format(INSTRUMENT_NOT_FOUND, instrumentId)));
+                allValid = false;
+                continue;
+            }
+
+            PositionState position = positions.computeIfAbsent(instrumentId, id -> new PositionState(null));
+            boolean buy = order.getTransactionType() == EnumTransactionType.COMPRA;
+            if (!buy && position.quantity < order.getQuantity()) {
+                results.add(rejected(i, order, String.format(INSUFFICIENT_INSTRUMENTS, position.quantity, order.getQuantity())));
+                allValid = false;
+                continue;
+            }
+
+            if (buy) {
+                position.purchasePrice = PositionMath.averagePrice(
+                        position.quantity, position.purchasePrice, order.getQuantity(), order.getUnitPrice());
+                position.quantity += order.getQuantity();
+            } else {
+                position.quantity -= order.getQuantity();
+            }
+            position.touched = true;
+            orderPositions[i] = position;
+            results.add(new OrderResultDto(i, instrumentId, order.getTransactionType().name(), order.getQuantity(),
+                    true, null, position.quantity, position.purchasePrice));
+        }
+
+        if (!allValid) {
+            return new BatchInvestmentResponseDto(userId, false, withoutApplied(results));
+        }
+
+        persistNewPositions(userId, positions);
+        persistUpdatedPositions(positions);
+        persistTransactions(orders, orderPositions);
+
+        return new BatchInvestmentResponseDto(userId, true, results);
+    }
+
+    private void persistNewPositions(Long userId, Map<Long, PositionState> positions) {
+        Map<Long, PortfolioModel> created = new HashMap<>();
+        for (Map.Entry<Long, PositionState> entry : positions.entrySet()) {
+            PositionState position = entry.getValue();
+            if (position.original != null || !position.touched) {
+                continue;
+            }
+            PortfolioModel portfolio = new PortfolioModel();
+            portfolio.setUser(userRepository.getReferenceById(userId));
+            portfolio.setInstrument(instrumentRepository.getReferenceById(entry.getKey()));
+            portfolio.setQuantity(position.quantity);
+            portfolio.setPurchasePrice(position.purchasePrice);
+            portfolio.setPurchaseDate(LocalDate.now());
+            created.put(entry.getKey(), portfolio);
+        }
+        if (created.isEmpty()) {
+            return;
+        }
+
+        // Se fuerza el flush para que los inserts JDBC de transacciones vean las nuevas filas
+        portfolioRepository.saveAllAndFlush(created.values());
+        created.forEach((instrumentId, portfolio) -> positions.get(instrumentId).portfolioId = portfolio.getId());
+    }
+
+    private void persistUpdatedPositions(Map<Long, PositionState> positions) {
+        List<Object[]> updates = new ArrayList<>();
+        for (PositionState position : positions.values()) {
+            if (position.original != null && position.touched) {
+                updates.add(new Object[]{position.quantity, position.purchasePrice, position.portfolioId, position.original.version()});
+            }
+        }
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_POSITION_SQL, updates);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                throw new ConcurrentPortfolioUpdateException(String.format(
+                        "La posición ID %d fue modificada por otra operación, intente nuevamente", updates.get(i)[2]));
+            }
+        }
+    }
+
+    private void persistTransactions(List<InvestmentRequestDto> orders, PositionState[] orderPositions) {
+        Date operationDate = Date.valueOf(LocalDate.now());
+        List<Object[]> rows = new ArrayList<>(orders.size());
+        long nextId = 0;
+        int idsLeft = 0;
+        for (int i = 0; i < orders.size(); i++) {
+            if (idsLeft == 0) {
+                nextId = jdbcTemplate.queryForObject(NEXT_TRANSACTION_BLOCK_SQL, Long.class);
+                idsLeft = TRANSACTION_ID_BLOCK;
+            }
+            InvestmentRequestDto order = orders.get(i);
+            rows.add(new Object[]{
+                    nextId++,
+                    order.getTransactionType().name(),
+                    order.getUnitPrice(),
+                    order.getQuantity(),
+                    order.getCommission(),
+                    operationDate,
+                    orderPositions[i].portfolioId
+            });
+            idsLeft--;
+        }
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, rows);
+    }
+
+    private static OrderResultDto rejected(int index, InvestmentRequestDto order, String message) {
+        String type = order.getTransactionType() != null ? order.getTransactionType().name() : null;
+        return new OrderResultDto(index, order.getInstrumentId(), type, order.getQuantity(), false, message, null, null);
+    }
+
+    private static List<OrderResultDto> withoutApplied(List<OrderResultDto> results) {
+        List<OrderResultDto> rejected = new ArrayList<>(results.size());
+        for (OrderResultDto result : results) {
+            rejected.add(result.accepted()
+                    ? new OrderResultDto(result.index(), result.instrumentId(), result.transactionType(), result.quantity(),
+                    false, BATCH_REJECTED, null, null)
+                    : result);
+        }
+        return rejected;
+    }
+
+    private static final class PositionState {
+        private final PortfolioLedgerView original;
+        private Long portfolioId;
+        private int quantity;
+        private double purchasePrice;
+        private boolean touched;
+
+        private PositionState(PortfolioLedgerView original) {
+            this.original = original;
+            if (original != null) {
+                this.portfolioId = original.id();
+                this.quantity = original.quantity();
+                this.purchasePrice = original.purchasePrice();
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.practice.Portfolio.service;
 
 import com.practice.Portfolio.dtoRequest.InvestmentRequestDto;
 import com.practice.Portfolio.dtoRequest.PortfolioRequestDto;
+import com.practice.Portfolio.dtoResponse.BatchInvestmentResponseDto;
 import com.practice.Portfolio.dtoResponse.PortfolioListResponseDto;
 import com.practice.Portfolio.dtoResponse.PortfolioPageResponseDto;
 import com.practice.Portfolio.dtoResponse.PortfolioResponseDto;
@@ -9,6 +10,8 @@ import com.practice.Portfolio.dtoResponse.PortfolioValueResponseDto;
 import com.practice.Portfolio.model.PortfolioModel;
 import jakarta.validation.Valid;
 
+import java.util.List;
+
 public interface PortfolioService {
     PortfolioPageResponseDto findAllPortfolio(int page, int size);
 
@@ -26,5 +29,7 @@ public interface PortfolioService {
 
     PortfolioResponseDto addOrUpdateInvestment(Long userId, @Valid InvestmentRequestDto investmentRequest);
 
+    BatchInvestmentResponseDto addInvestmentsBatch(Long userId, List<@Valid InvestmentRequestDto> orders);
+
     void deleteInvestment(Long userId, Long instrumentId);
 }
@@ -1,47 +1,69 @@
 package com.practice.Portfolio.service;
 
-import com.practice.Instrument.model.InstrumentModel;
 import com.practice.Instrument.repository.InstrumentRepository;
-import com.practice.Instrument.service.InstrumentService;
+import com.practice.Instrument.model.InstrumentModel;
 import com.practice.Portfolio.dtoRequest.InvestmentRequestDto;
 import com.practice.Portfolio.dtoRequest.PortfolioRequestDto;
+import com.practice.Portfolio.dtoResponse.BatchInvestmentResponseDto;
 import com.practice.Portfolio.dtoResponse.PortfolioListResponseDto;
 import com.practice.Portfolio.dtoResponse.PortfolioPageResponseDto;
 import com.practice.Portfolio.dtoResponse.PortfolioResponseDto;
 import com.practice.Portfolio.dtoResponse.PortfolioValueResponseDto;
+import com.practice.Portfolio.event.PortfolioChangedEvent;
+import com.practice.Portfolio.mappers.PortfolioMapper;
+import com.practice.Portfolio.model.PortfolioLedgerView;
 import com.practice.Portfolio.model.PortfolioModel;
 import com.practice.Portfolio.repository.PortfolioRepository;
 import com.practice.Transactions.Enum.EnumTransactionType;
 import com.practice.Transactions.model.TransactionModel;
+import com.practice.Transactions.repository.TransactionsRepository;
 import com.practice.User.model.UserModel;
 import com.practice.User.repository.UserRepository;
 import com.practice.exceptions.*;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.validation.annotation.Validated;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Validated
 public class PortfolioServiceImpl implements PortfolioService {
     private final PortfolioRepository portfolioRepository;
-    private final ModelMapper modelMapper;
+    private final PortfolioMapper portfolioMapper;
     private final UserRepository userRepository;
-    private final InstrumentService instrumentService;
     private final InstrumentRepository instrumentRepository;
+    private final TransactionsRepository transactionsRepository;
+    private final PortfolioValuationEngine portfolioValuationEngine;
+    private final PositionLockStripes positionLockStripes;
+    private final PortfolioBatchOrderEngine portfolioBatchOrderEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PortfolioSettlement portfolioSettlement;
 
     private static final String PORTFOLIO_NOT_FOUND = "El portafolio con ID %d no fue encontrado";
     private static final String USER_NOT_FOUND = "El usuario con ID %d no fue encontrado";
+    private static final int MAX_INVESTMENT_ATTEMPTS = 3;
+    private static final String POSITION_UNIQUE_KEY = "uk_portfolio_user_instrument";
 
     @Override
     public PortfolioPageResponseDto findAllPortfolio(int page, int size) {
@@ -50,7 +72,7 @@ public class PortfolioServiceImpl implements PortfolioService {
 
         List<PortfolioResponseDto> portfolioDtos = portfolioPage.getContent()
                 .stream()
-                .map(portfolio -> modelMapper.map(portfolio, PortfolioResponseDto.class))
+                .map(portfolio -> portfolioMapper.toResponse(portfolio))
                 .collect(Collectors.toList());
 
         return new PortfolioPageResponseDto(
@@ -64,7 +86,7 @@ public class PortfolioServiceImpl implements PortfolioService {
     public PortfolioResponseDto findPortfolioById(Long id) {
         PortfolioModel portfolioModel = portfolioRepository.findById(id)
                 .orElseThrow(() -> new PortfolioNotFoundException(String.format(PORTFOLIO_NOT_FOUND, id)));
-        return modelMapper.map(portfolioModel, PortfolioResponseDto.class);
+        return portfolioMapper.toResponse(portfolioModel);
     }
 
     @Override
@@ -74,12 +96,13 @@ public class PortfolioServiceImpl implements PortfolioService {
                 .orElseThrow(() -> new UserNotFoundException(String.format(USER_NOT_FOUND, portfolioRequest.getUserId())));
 
 
-        PortfolioModel portfolio = modelMapper.map(portfolioRequest, PortfolioModel.class);
+        PortfolioModel portfolio = portfolioMapper.toEntity(portfolioRequest);
         portfolio.setUser(user);
 
         PortfolioModel savedPortfolio = portfolioRepository.save(portfolio);
+        publishChanged(user.getId());
 
-        return modelMapper.map(savedPortfolio, PortfolioResponseDto.class);
+        return portfolioMapper.toResponse(savedPortfolio);
     }
 
     @Override
@@ -87,7 +110,8 @@ public class PortfolioServiceImpl implements PortfolioService {
         PortfolioModel portfolioModel = portfolioRepository.findById(id)
                 .orElseThrow(() -> new PortfolioNotFoundException(String.format(PORTFOLIO_NOT_FOUND, id)));
 
-        modelMapper.map(portfolioRequest, portfolioModel);
+        Long previousUserId = portfolioModel.getUser() != null ? portfolioModel.getUser().getId() : null;
+        portfolioMapper.updateEntity(portfolioRequest, portfolioModel);
 
         if (portfolioRequest.getUserId() != null) {
             UserModel user = userRepository.findById(portfolioRequest.getUserId())
@@ -96,8 +120,12 @@ public class PortfolioServiceImpl implements PortfolioService {
         }
 
         PortfolioModel savedPortfolio = portfolioRepository.save(portfolioModel);
+        publishChanged(previousUserId);
+        if (savedPortfolio.getUser() != null && !savedPortfolio.getUser().getId().equals(previousUserId)) {
+            publishChanged(savedPortfolio.getUser().getId());
+        }
 
-        return modelMapper.map(savedPortfolio, PortfolioResponseDto.class);
+        return portfolioMapper.toResponse(savedPortfolio);
     }
 
     @Override
@@ -105,22 +133,18 @@ public class PortfolioServiceImpl implements PortfolioService {
         PortfolioModel portfolioModel = portfolioRepository.findById(id)
                 .orElseThrow(() -> new PortfolioNotFoundException(String.format(PORTFOLIO_NOT_FOUND, id)));
         portfolioRepository.delete(portfolioModel);
+        if (portfolioModel.getUser() != null) {
+            publishChanged(portfolioModel.getUser().getId());
+        }
     }
 
     @Override
     public PortfolioValueResponseDto calculateTotalValue(Long userId) {
-        UserModel user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(String.format(USER_NOT_FOUND, userId)));
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException(String.format(USER_NOT_FOUND, userId));
+        }
 
-        List<PortfolioModel> portfolios = portfolioRepository.findByUserId(userId);
-        double totalValue = portfolios.stream()
-                .mapToDouble(portfolio -> {
-                    double currentPrice = instrumentService.getCurrentPrice(portfolio.getInstrument().getId());
-                    return portfolio.getQuantity() * currentPrice;
-                })
-                .sum();
-
-        return new PortfolioValueResponseDto(userId, totalValue);
+        return portfolioValuationEngine.valuate(userId);
     }
 
     @Override
@@ -130,7 +154,7 @@ public class PortfolioServiceImpl implements PortfolioService {
 
         List<PortfolioModel> portfolios = portfolioRepository.findByUserId(userId);
         List<PortfolioResponseDto> portfolioDtos = portfolios.stream()
-                .map(portfolio -> modelMapper.map(portfolio, PortfolioResponseDto.class))
+                .map(portfolio -> portfolioMapper.toResponse(portfolio))
                 .collect(Collectors.toList());
 
         return new PortfolioListResponseDto(portfolioDtos);
@@ -138,50 +162,142 @@ public class PortfolioServiceImpl implements PortfolioService {
 
     @Override
     public PortfolioResponseDto addOrUpdateInvestment(Long userId, @Valid InvestmentRequestDto investmentRequest) {
-        UserModel user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(String.format(USER_NOT_FOUND, userId)));
+        // El lock se libera después del commit, así la siguiente operación sobre la posición ya ve la versión nueva
+        Lock lock = positionLockStripes.lockFor(userId, investmentRequest.getInstrumentId());
+        lock.lock();
+        try {
+            return portfolioSettlement.timeSingle(() -> executeWithRetry(userId,
+                    () -> transactionTemplate.execute(status -> applyInvestment(userId, investmentRequest))));
+        } finally {
+            lock.unlock();
+        }
+    }
 
-        InstrumentModel instrument = instrumentRepository.findById(investmentRequest.getInstrumentId())
-                .orElseThrow(() -> new InstrumentNotFoundException(
-                        String.format("El instrumento con ID %d no fue encontrado", investmentRequest.getInstrumentId())));
+    @Override
+    public BatchInvestmentResponseDto addInvestmentsBatch(Long userId, List<@Valid InvestmentRequestDto> orders) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException(String.format(USER_NOT_FOUND, userId));
+        }
 
-        PortfolioModel portfolio = portfolioRepository
-                .findByUserAndInstrument(user, instrument)
-                .orElse(new PortfolioModel());
+        Set<Long> instrumentIds = orders.stream()
+                .map(InvestmentRequestDto::getInstrumentId)
+                .collect(Collectors.toSet());
+        Set<Long> knownInstrumentIds = instrumentRepository.findAllById(instrumentIds).stream()
+                .map(InstrumentModel::getId)
+                .collect(Collectors.toSet());
+
+        List<Lock> locks = positionLockStripes.lockAll(userId, instrumentIds);
+        try {
+            return portfolioSettlement.timeBatch(() -> executeWithRetry(userId, () -> transactionTemplate.execute(
+                    status -> {
+                        BatchInvestmentResponseDto response = portfolioBatchOrderEngine.execute(userId, orders, knownInstrumentIds);
+                        // Un lote rechazado no toca ninguna posición: no hay nada que avisar
+                        if (response.accepted()) {
+                            portfolioSettlement.settleBatch(userId, orders);
+                            publishChanged(userId);
+                        }
+                        return response;
+                    })));
+        } finally {
+            positionLockStripes.unlockAll(locks);
+        }
+    }
 
-        if (portfolio.getId() == null) {
-            portfolio.setUser(user);
-            portfolio.setInstrument(instrument);
-            portfolio.setQuantity(0);
-            portfolio.setPurchasePrice(0.0);
-            portfolio.setPurchaseDate(LocalDate.now());
-            portfolio.setTransactionModels(new ArrayList<>());
+    private <T> T executeWithRetry(Long userId, Supplier<T> work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return work.get();
+            } catch (ConcurrentPortfolioUpdateException e) {
+                // Otra instancia modificó la posición entre la lectura y la escritura
+                if (attempt >= MAX_INVESTMENT_ATTEMPTS) {
+                    throw e;
+                }
+            } catch (DataIntegrityViolationException e) {
+                // Solo se reintenta si otra instancia creó la misma posición; el resto de las violaciones se propaga
+                if (!isPositionInsertRace(e)) {
+                    throw e;
+                }
+                if (attempt >= MAX_INVESTMENT_ATTEMPTS) {
+                    throw new ConcurrentPortfolioUpdateException(String.format(
+                            "Las posiciones del usuario %d están siendo modificadas, intente nuevamente", userId));
+                }
+            }
+            log.debug("Conflicto en posiciones del usuario {}, reintento {}", userId, attempt);
         }
+    }
 
-        // Actualizar cantidad y precio promedio según el tipo de transacción
-        int quantityChange = investmentRequest.getTransactionType() == EnumTransactionType.COMPRA ?
-                investmentRequest.getQuantity() : -investmentRequest.getQuantity();
+    // Hibernate informa el nombre de la restricción; por JDBC (lote) solo queda el mensaje del driver
+    private static boolean isPositionInsertRace(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String detail = cause instanceof ConstraintViolationException violation ? violation.getConstraintName()
+                    : cause instanceof SQLException ? cause.getMessage() : null;
+            if (detail != null && detail.toLowerCase(Locale.ROOT).contains(POSITION_UNIQUE_KEY)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private PortfolioResponseDto applyInvestment(Long userId, InvestmentRequestDto investmentRequest) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException(String.format(USER_NOT_FOUND, userId));
+        }
+
+        Long instrumentId = investmentRequest.getInstrumentId();
+        if (!instrumentRepository.existsById(instrumentId)) {
+            throw new InstrumentNotFoundException(
+                    String.format("El instrumento con ID %d no fue encontrado", instrumentId));
+        }
+
+        // Solo se leen las columnas de la posición; la colección de transacciones nunca se inicializa
+        PortfolioLedgerView position = portfolioRepository.findLedgerView(userId, instrumentId).orElse(null);
+        int currentQuantity = position != null ? position.quantity() : 0;
+        double currentPrice = position != null ? position.purchasePrice() : 0.0;
 
         // Validar que haya suficientes instrumentos para vender
         if (investmentRequest.getTransactionType() == EnumTransactionType.VENTA &&
-                portfolio.getQuantity() < investmentRequest.getQuantity()) {
+                currentQuantity < investmentRequest.getQuantity()) {
             throw new InsufficientInstrumentsException(
                     String.format("No hay suficientes instrumentos para vender. Disponible: %d, Solicitado: %d",
-                            portfolio.getQuantity(), investmentRequest.getQuantity()));
+                            currentQuantity, investmentRequest.getQuantity()));
         }
 
-        int newQuantity = portfolio.getQuantity() + quantityChange;
+        // Actualizar cantidad y precio promedio según el tipo de transacción
+        int quantityChange = investmentRequest.getTransactionType() == EnumTransactionType.COMPRA ?
+                investmentRequest.getQuantity() : -investmentRequest.getQuantity();
+        int newQuantity = currentQuantity + quantityChange;
 
         // Solo actualizar precio promedio en compras
         double newPurchasePrice = investmentRequest.getTransactionType() == EnumTransactionType.COMPRA ?
-                calculateNewAveragePrice(
-                        portfolio.getQuantity(),
-                        portfolio.getPurchasePrice(),
+                PositionMath.averagePrice(
+                        currentQuantity,
+                        currentPrice,
                         investmentRequest.getQuantity(),
                         investmentRequest.getUnitPrice()
-                ) : portfolio.getPurchasePrice();
+                ) : currentPrice;
+
+        PortfolioModel portfolio;
+        LocalDate purchaseDate;
+        if (position == null) {
+            portfolio = new PortfolioModel();
+            portfolio.setUser(userRepository.getReferenceById(userId));
+            portfolio.setInstrument(instrumentRepository.getReferenceById(instrumentId));
+            portfolio.setQuantity(newQuantity);
+            portfolio.setPurchasePrice(newPurchasePrice);
+            portfolio.setPurchaseDate(LocalDate.now());
+            portfolio = portfolioRepository.save(portfolio);
+            purchaseDate = portfolio.getPurchaseDate();
+        } else {
+            int updated = portfolioRepository.applyPositionChange(position.id(), newQuantity, newPurchasePrice, position.version());
+            if (updated == 0) {
+                throw new ConcurrentPortfolioUpdateException(
+                        String.format("La posición ID %d fue modificada por otra operación, intente nuevamente", position.id()));
+            }
+            portfolio = portfolioRepository.getReferenceById(position.id());
+            purchaseDate = position.purchaseDate();
+        }
 
-        // Crear nueva transacción
+        // Crear nueva transacción (append-only)
         TransactionModel transaction = new TransactionModel();
         transaction.setPortfolio(portfolio);
         transaction.setQuantity(investmentRequest.getQuantity());
@@ -189,57 +305,46 @@ public class PortfolioServiceImpl implements PortfolioService {
         transaction.setCommission(investmentRequest.getCommission());
         transaction.setEnumTransactionType(investmentRequest.getTransactionType());
         transaction.setOperationDate(LocalDate.now());
+        transactionsRepository.save(transaction);
+        // El efectivo se mueve en la misma transacción: si la billetera no alcanza se revierte la posición
+        portfolioSettlement.settleOrder(userId, investmentRequest);
+        publishChanged(userId);
 
-        portfolio.setQuantity(newQuantity);
-        portfolio.setPurchasePrice(newPurchasePrice);
-        portfolio.getTransactionModels().add(transaction);
-
-        PortfolioModel savedPortfolio = portfolioRepository.save(portfolio);
-        return modelMapper.map(savedPortfolio, PortfolioResponseDto.class);
+        return new PortfolioResponseDto(portfolio.getId(), newQuantity, newPurchasePrice, purchaseDate, userId);
     }
 
 
     @Override
+    @Transactional
     public void deleteInvestment(Long userId, Long instrumentId) {
-        UserModel user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(String.format(USER_NOT_FOUND, userId)));
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException(String.format(USER_NOT_FOUND, userId));
+        }
 
-        InstrumentModel instrument = instrumentRepository.findById(instrumentId)
-                .orElseThrow(() -> new InstrumentNotFoundException(
-                        String.format("El instrumento con ID %d no fue encontrado", instrumentId)));
+        if (!instrumentRepository.existsById(instrumentId)) {
+            throw new InstrumentNotFoundException(
+                    String.format("El instrumento con ID %d no fue encontrado", instrumentId));
+        }
 
-        PortfolioModel portfolio = portfolioRepository
-                .findByUserAndInstrument(user, instrument)
+        PortfolioLedgerView position = portfolioRepository.findLedgerView(userId, instrumentId)
                 .orElseThrow(() -> new PortfolioNotFoundException(
                         String.format("La inversión para el usuario %d e instrumento %d no fue encontrada",
                                 userId, instrumentId)));
 
         // Verificar si hay transacciones pendientes antes de eliminar
-        if (!portfolio.getTransactionModels().isEmpty()) {
+        if (transactionsRepository.existsByPortfolioId(position.id())) {
             throw new PortfolioHasTransactionsException(
                     String.format("No se puede eliminar el portafolio ID %d porque tiene transacciones asociadas",
-                            portfolio.getId()));
+                            position.id()));
         }
 
-        portfolioRepository.delete(portfolio);
+        portfolioRepository.deleteById(position.id());
+        publishChanged(userId);
     }
 
-    private double calculateNewAveragePrice(int oldQuantity, double oldPrice, int addedQuantity, double newPrice) {
-        // Si es la primera compra, retornar el nuevo precio directamente
-        if (oldQuantity == 0) {
-            return newPrice;
+    private void publishChanged(Long userId) {
+        if (userId != null) {
+            eventPublisher.publishEvent(new PortfolioChangedEvent(userId));
         }
-
-        // Calcular el valor total de la posición anterior
-        double oldPosition = oldQuantity * oldPrice;
-
-        // Calcular el valor de la nueva compra
-        double newPosition = addedQuantity * newPrice;
-
-        // Calcular la cantidad total de instrumentos
-        int totalQuantity = oldQuantity + addedQuantity;
-
-        // Calcular el nuevo precio promedio: (valor total) / (cantidad total)
-        return (oldPosition + newPosition) / totalQuantity;
     }
-}
\ No newline at end of file
+}
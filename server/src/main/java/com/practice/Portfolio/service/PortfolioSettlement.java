@@ -0,0 +1,107 @@
+package com.practice.Portfolio.service;
+
+import com.practice.Portfolio.dtoRequest.InvestmentRequestDto;
+import com.practice.Transactions.Enum.EnumTransactionType;
+import com.practice.Wallet.Enum.EnumWalletOperationType;
+import com.practice.Wallet.ledger.WalletLedger;
+import com.practice.Wallet.repository.WalletRepository;
+import com.practice.exceptions.WalletNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Liquida en la billetera del usuario el efectivo de sus órdenes, dentro de la misma transacción
+ * que actualiza la posición: una compra debita cantidad × precio + comisión y una venta acredita
+ * cantidad × precio − comisión. Un lote se liquida con una sola operación por el neto.
+ *
+ * <p>Si el usuario no tiene billetera la orden solo mueve la posición, salvo que
+ * {@code portfolio.settlement.require-wallet} esté activo.</p>
+ */
+@Component
+public class PortfolioSettlement {
+    private final WalletRepository walletRepository;
+    private final WalletLedger walletLedger;
+    private final boolean requireWallet;
+    private final Timer singleTimer;
+    private final Timer batchTimer;
+
+    public PortfolioSettlement(WalletRepository walletRepository,
+                               WalletLedger walletLedger,
+                               MeterRegistry meterRegistry,
+                               @Value("${portfolio.settlement.require-wallet:false}") boolean requireWallet) {
+        this.walletRepository = walletRepository;
+        this.walletLedger = walletLedger;
+        this.requireWallet = requireWallet;
+        this.singleTimer = timer(meterRegistry, "single");
+        this.batchTimer = timer(meterRegistry, "batch");
+    }
+
+    public void settleOrder(Long userId, InvestmentRequestDto order) {
+        double cash = cashDelta(order);
+        EnumWalletOperationType type = order.getTransactionType() == EnumTransactionType.COMPRA
+                ? EnumWalletOperationType.COMPRA : EnumWalletOperationType.VENTA;
+        settle(userId, cash, type, String.format("%s de %d unidades del instrumento %d",
+                order.getTransactionType().name(), order.getQuantity(), order.getInstrumentId()));
+    }
+
+    public void settleBatch(Long userId, List<InvestmentRequestDto> orders) {
+        double cash = 0.0;
+        for (InvestmentRequestDto order : orders) {
+            cash += cashDelta(order);
+        }
+        settle(userId, cash, EnumWalletOperationType.LIQUIDACION, String.format("Lote de %d órdenes", orders.size()));
+    }
+
+    /**
+     * Mide la transacción completa (posición + efectivo) de una orden o de un lote.
+     */
+    public <T> T timeSingle(Supplier<T> work) {
+        return singleTimer.record(work);
+    }
+
+    public <T> T timeBatch(Supplier<T> work) {
+        return batchTimer.record(work);
+    }
+
+    // Positivo: entra efectivo a la billetera; negativo: sale
+    private static double cashDelta(InvestmentRequestDto order) {
+        double gross = order.getQuantity() * order.getUnitPrice();
+        return order.getTransactionType() == EnumTransactionType.COMPRA
+                ? -(gross + order.getCommission())
+                : gross - order.getCommission();
+    }
+
+    private void settle(Long userId, double cash, EnumWalletOperationType type, String description) {
+        Optional<Long> walletId = walletRepository.findSettlementWalletId(userId);
+        if (walletId.isEmpty()) {
+            if (requireWallet) {
+                throw new WalletNotFoundException(String.format("El usuario con ID %d no tiene billetera", userId));
+            }
+            return;
+        }
+        if (cash == 0.0) {
+            return;
+        }
+        String requestKey = "orden-" + UUID.randomUUID();
+        if (cash < 0) {
+            walletLedger.post(requestKey, type, -cash, walletId.get(), null, description);
+        } else {
+            walletLedger.post(requestKey, type, cash, null, walletId.get(), description);
+        }
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String mode) {
+        return Timer.builder("portfolio.settlement")
+                .description("Duración de la transacción que mueve posición y efectivo")
+                .tag("mode", mode)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,64 @@
+package com.practice.Portfolio.service;
+
+import com.practice.Instrument.service.InstrumentService;
+import com.practice.Portfolio.dtoResponse.PortfolioValueResponseDto;
+import com.practice.Portfolio.dtoResponse.PositionValueResponseDto;
+import com.practice.Portfolio.model.PortfolioPositionView;
+import com.practice.Portfolio.repository.PortfolioRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Valoriza el portafolio completo de un usuario con una consulta de posiciones
+ * y una consulta de cotizaciones por lote, en lugar de una consulta por posición.
+ */
+@Component
+@RequiredArgsConstructor
+public class PortfolioValuationEngine {
+    private final PortfolioRepository portfolioRepository;
+    private final InstrumentService instrumentService;
+
+    public PortfolioValueResponseDto valuate(Long userId) {
+        List<PortfolioPositionView> positions = portfolioRepository.findPositionViewsByUserId(userId);
+
+        Set<Long> instrumentIds = new HashSet<>(positions.size() * 2);
+        for (PortfolioPositionView position : positions) {
+            instrumentIds.add(position.instrumentId());
+        }
+        Map<Long, Double> prices = instrumentService.getCurrentPrices(instrumentIds);
+
+        // Una sola pasada: valor de mercado, costo y resultado no realizado por posición
+        List<PositionValueResponseDto> positionValues = new ArrayList<>(positions.size());
+        double totalValue = 0.0;
+        double totalCost = 0.0;
+        for (PortfolioPositionView position : positions) {
+            int quantity = position.quantity() != null ? position.quantity() : 0;
+            double purchasePrice = position.purchasePrice() != null ? position.purchasePrice() : 0.0;
+            double currentPrice = prices.get(position.instrumentId());
+
+            double marketValue = quantity * currentPrice;
+            double cost = quantity * purchasePrice;
+            totalValue += marketValue;
+            totalCost += cost;
+
+            positionValues.add(new PositionValueResponseDto(
+                    position.portfolioId(),
+                    position.instrumentId(),
+                    position.ticker(),
+                    quantity,
+                    purchasePrice,
+                    currentPrice,
+                    marketValue,
+                    marketValue - cost
+            ));
+        }
+
+        return new PortfolioValueResponseDto(userId, totalValue, totalCost, totalValue - totalCost, positionValues);
+    }
+}
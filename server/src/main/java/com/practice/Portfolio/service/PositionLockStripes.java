@@ -0,0 +1,71 @@
+package com.practice.Portfolio.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Locks en franjas por posición (usuario, instrumento). Serializa dentro del proceso las
+ * operaciones sobre una misma posición sin un lock por fila ni bloqueos en la base de datos.
+ * La consistencia entre instancias la sigue garantizando la versión de {@code PortfolioModel}.
+ */
+@Component
+public class PositionLockStripes {
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    public PositionLockStripes(@Value("${portfolio.lock.stripes:256}") int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(stripeCount, 1) * 2 - 1);
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    public Lock lockFor(long userId, long instrumentId) {
+        return stripes[indexOf(userId, instrumentId)];
+    }
+
+    /**
+     * Toma los locks de varias posiciones en orden ascendente de franja, para que dos
+     * lotes con posiciones en común no puedan bloquearse mutuamente.
+     */
+    public List<Lock> lockAll(long userId, Iterable<Long> instrumentIds) {
+        BitSet indexes = new BitSet(stripes.length);
+        for (Long instrumentId : instrumentIds) {
+            indexes.set(indexOf(userId, instrumentId));
+        }
+
+        List<Lock> acquired = new ArrayList<>(indexes.cardinality());
+        try {
+            for (int i = indexes.nextSetBit(0); i >= 0; i = indexes.nextSetBit(i + 1)) {
+                stripes[i].lock();
+                acquired.add(stripes[i]);
+            }
+        } catch (RuntimeException e) {
+            unlockAll(acquired);
+            throw e;
+        }
+        return acquired;
+    }
+
+    public void unlockAll(List<Lock> locks) {
+        for (int i = locks.size() - 1; i >= 0; i--) {
+            locks.get(i).unlock();
+        }
+    }
+
+    private int indexOf(long userId, long instrumentId) {
+        long h = userId * 0x9E3779B97F4A7C15L + instrumentId;
+        h ^= h >>> 33;
+        h *= 0xC2B2AE3D27D4EB4FL;
+        h ^= h >>> 29;
+        return (int) h & mask;
+    }
+}
@@ -0,0 +1,26 @@
+package com.practice.Portfolio.service;
+
+public final class PositionMath {
+
+    private PositionMath() {
+    }
+
+    public static double averagePrice(int oldQuantity, double oldPrice, int addedQuantity, double newPrice) {
+        // Si es la primera compra, retornar el nuevo precio directamente
+        if (oldQuantity == 0) {
+            return newPrice;
+        }
+
+        // Calcular el valor total de la posición anterior
+        double oldPosition = oldQuantity * oldPrice;
+
+        // Calcular el valor de la nueva compra
+        double newPosition = addedQuantity * newPrice;
+
+        // Calcular la cantidad total de instrumentos
+        int totalQuantity = oldQuantity + addedQuantity;
+
+        // Calcular el nuevo precio promedio: (valor total) / (cantidad total)
+        return (oldPosition + newPosition) / totalQuantity;
+    }
+}
@@ -0,0 +1,83 @@
+package com.practice.PriceHistory.controller;
+
+import com.practice.PriceHistory.dtoRequest.TickRequestDto;
+import com.practice.PriceHistory.dtoResponse.OhlcSeriesResponseDto;
+import com.practice.PriceHistory.dtoResponse.PriceSeriesResponseDto;
+import com.practice.PriceHistory.service.PriceHistoryServiceImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@Validated
+@RequiredArgsConstructor
+@RequestMapping
+@Tag(name = "Historial de precios", description = "Historial de precios API")
+public class PriceHistoryController {
+    private final PriceHistoryServiceImpl priceHistoryServiceImpl;
+
+
+    @Operation(summary = "Registrar ticks", description = "Agrega cotizaciones al historial de un instrumento. Los ticks no pueden ser anteriores al último registrado")
+    @ApiResponse(responseCode = "201", description = "Ticks registrados correctamente")
+    @ApiResponse(responseCode = "400", description = "Ticks inválidos o fuera de orden")
+    @ApiResponse(responseCode = "404", description = "Instrumento no encontrado")
+    @PostMapping("/instrument/{id}/history")
+    public ResponseEntity<Integer> appendTicks(@PathVariable Long id, @RequestBody @NotEmpty List<@Valid TickRequestDto> ticks) {
+        int appended = priceHistoryServiceImpl.appendTicks(id, ticks);
+        return new ResponseEntity<>(appended, HttpStatus.CREATED);
+    }
+
+
+    @Operation(summary = "Obtener ticks por rango", description = "Devuelve los ticks entre from (incluido) y to (excluido)")
+    @ApiResponse(responseCode = "200", description = "Ticks obtenidos correctamente")
+    @ApiResponse(responseCode = "404", description = "Instrumento no encontrado")
+    @GetMapping("/instrument/{id}/history")
+    public ResponseEntity<PriceSeriesResponseDto> findRange(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "10000") @Min(1) @Max(100000) int limit
+    ) {
+        return ResponseEntity.ok(priceHistoryServiceImpl.findRange(id, from, to, limit));
+    }
+
+
+    @Operation(summary = "Obtener últimos ticks", description = "Devuelve los últimos N ticks en orden cronológico")
+    @ApiResponse(responseCode = "200", description = "Ticks obtenidos correctamente")
+    @ApiResponse(responseCode = "404", description = "Instrumento no encontrado")
+    @GetMapping("/instrument/{id}/history/last")
+    public ResponseEntity<PriceSeriesResponseDto> findLast(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(100000) int count
+    ) {
+        return ResponseEntity.ok(priceHistoryServiceImpl.findLast(id, count));
+    }
+
+
+    @Operation(summary = "Obtener velas OHLC", description = "Devuelve barras OHLC de intervalSeconds segundos (hasta 366 días) alineadas a epoch (UTC)")
+    @ApiResponse(responseCode = "200", description = "Barras obtenidas correctamente")
+    @ApiResponse(responseCode = "400", description = "Rango o intervalo inválido")
+    @ApiResponse(responseCode = "404", description = "Instrumento no encontrado")
+    @GetMapping("/instrument/{id}/history/ohlc")
+    public ResponseEntity<OhlcSeriesResponseDto> findBars(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "86400") @Min(1) @Max(31622400) long intervalSeconds
+    ) {
+        return ResponseEntity.ok(priceHistoryServiceImpl.findBars(id, from, to, intervalSeconds));
+    }
+}
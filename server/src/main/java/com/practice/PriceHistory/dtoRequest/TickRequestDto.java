@@ -0,0 +1,23 @@
+package com.practice.PriceHistory.dtoRequest;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TickRequestDto {
+    @NotNull(message = "El timestamp no puede ser nulo")
+    private Instant timestamp;
+
+    @DecimalMin(value = "0.0", inclusive = false, message = "El precio debe ser mayor a 0")
+    @NotNull(message = "El precio no puede ser nulo")
+    private Double price;
+}
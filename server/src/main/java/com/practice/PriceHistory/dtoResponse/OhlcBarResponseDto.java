@@ -0,0 +1,11 @@
+package com.practice.PriceHistory.dtoResponse;
+
+public record OhlcBarResponseDto(
+        long start,
+        double open,
+        double high,
+        double low,
+        double close,
+        long ticks
+) {
+}
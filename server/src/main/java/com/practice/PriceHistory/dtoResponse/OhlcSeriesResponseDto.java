@@ -0,0 +1,10 @@
+package com.practice.PriceHistory.dtoResponse;
+
+import java.util.List;
+
+public record OhlcSeriesResponseDto(
+        Long instrumentId,
+        long intervalSeconds,
+        List<OhlcBarResponseDto> bars
+) {
+}
@@ -0,0 +1,8 @@
+package com.practice.PriceHistory.dtoResponse;
+
+public record PriceSeriesResponseDto(
+        Long instrumentId,
+        long[] timestamps,
+        double[] prices
+) {
+}
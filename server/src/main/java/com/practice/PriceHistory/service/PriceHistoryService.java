@@ -0,0 +1,18 @@
+package com.practice.PriceHistory.service;
+
+import com.practice.PriceHistory.dtoRequest.TickRequestDto;
+import com.practice.PriceHistory.dtoResponse.OhlcSeriesResponseDto;
+import com.practice.PriceHistory.dtoResponse.PriceSeriesResponseDto;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface PriceHistoryService {
+    int appendTicks(Long instrumentId, List<TickRequestDto> ticks);
+
+    PriceSeriesResponseDto findRange(Long instrumentId, Instant from, Instant to, int limit);
+
+    PriceSeriesResponseDto findLast(Long instrumentId, int count);
+
+    OhlcSeriesResponseDto findBars(Long instrumentId, Instant from, Instant to, long intervalSeconds);
+}
@@ -0,0 +1,112 @@
+package com.practice.PriceHistory.service;
+
+import com.practice.Instrument.event.QuoteChangedEvent;
+import com.practice.Instrument.repository.InstrumentRepository;
+import com.practice.PriceHistory.dtoRequest.TickRequestDto;
+import com.practice.PriceHistory.dtoResponse.OhlcBarResponseDto;
+import com.practice.PriceHistory.dtoResponse.OhlcSeriesResponseDto;
+import com.practice.PriceHistory.dtoResponse.PriceSeriesResponseDto;
+import com.practice.PriceHistory.store.TickSeries;
+import com.practice.PriceHistory.store.TickStore;
+import com.practice.exceptions.InstrumentNotFoundException;
+import com.practice.exceptions.InvalidTickException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceHistoryServiceImpl implements PriceHistoryService {
+    private static final int MAX_TICKS = 100_000;
+    private static final int MAX_BARS = 100_000;
+
+    private final TickStore tickStore;
+    private final InstrumentRepository instrumentRepository;
+
+    @Override
+    public int appendTicks(Long instrumentId, List<TickRequestDto> ticks) {
+        requireInstrument(instrumentId);
+
+        List<TickRequestDto> ordered = ticks.stream()
+                .sorted(Comparator.comparing(TickRequestDto::getTimestamp))
+                .toList();
+        long[] timestamps = new long[ordered.size()];
+        double[] prices = new double[ordered.size()];
+        for (int i = 0; i < ordered.size(); i++) {
+            timestamps[i] = ordered.get(i).getTimestamp().toEpochMilli();
+            prices[i] = ordered.get(i).getPrice();
+        }
+        // Todo o nada: si algún día no admite sus ticks no se escribe ninguno del lote
+        tickStore.appendAll(instrumentId, timestamps, prices);
+        return ordered.size();
+    }
+
+    @Override
+    public PriceSeriesResponseDto findRange(Long instrumentId, Instant from, Instant to, int limit) {
+        requireInstrument(instrumentId);
+        requireRange(from, to);
+
+        TickSeries series = tickStore.range(instrumentId, from.toEpochMilli(), to.toEpochMilli(), Math.min(limit, MAX_TICKS));
+        return new PriceSeriesResponseDto(instrumentId, series.timestamps(), series.prices());
+    }
+
+    @Override
+    public PriceSeriesResponseDto findLast(Long instrumentId, int count) {
+        requireInstrument(instrumentId);
+
+        TickSeries series = tickStore.last(instrumentId, Math.min(count, MAX_TICKS));
+        return new PriceSeriesResponseDto(instrumentId, series.timestamps(), series.prices());
+    }
+
+    @Override
+    public OhlcSeriesResponseDto findBars(Long instrumentId, Instant from, Instant to, long intervalSeconds) {
+        requireInstrument(instrumentId);
+        requireRange(from, to);
+
+        long intervalMillis = intervalSeconds * 1000L;
+        long span = to.toEpochMilli() - from.toEpochMilli();
+        if (span / intervalMillis > MAX_BARS) {
+            throw new InvalidTickException(String.format(
+                    "El rango pedido genera más de %d barras; usa un intervalo mayor", MAX_BARS));
+        }
+
+        List<OhlcBarResponseDto> bars = tickStore.bars(instrumentId, from.toEpochMilli(), to.toEpochMilli(), intervalMillis)
+                .stream()
+                .map(bar -> new OhlcBarResponseDto(bar.start(), bar.open(), bar.high(), bar.low(), bar.close(), bar.ticks()))
+                .toList();
+        return new OhlcSeriesResponseDto(instrumentId, intervalSeconds, bars);
+    }
+
+    @EventListener
+    public void onQuoteChanged(QuoteChangedEvent event) {
+        if (!event.active()) {
+            return;
+        }
+        try {
+            tickStore.append(event.instrumentId(), event.timestamp().toEpochMilli(), event.price());
+        } catch (RuntimeException e) {
+            // El historial no debe hacer fallar la actualización del instrumento
+            log.warn("No se pudo registrar el tick del instrumento {}: {}", event.instrumentId(), e.getMessage());
+        }
+    }
+
+    private void requireInstrument(Long instrumentId) {
+        if (!instrumentRepository.existsById(instrumentId)) {
+            throw new InstrumentNotFoundException(
+                    String.format("El instrumento con ID %d no fue encontrado", instrumentId)
+            );
+        }
+    }
+
+    private void requireRange(Instant from, Instant to) {
+        if (!from.isBefore(to)) {
+            throw new InvalidTickException("La fecha de inicio debe ser anterior a la fecha de fin");
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.practice.PriceHistory.store;
+
+public record OhlcBar(long start, double open, double high, double low, double close, long ticks) {
+}
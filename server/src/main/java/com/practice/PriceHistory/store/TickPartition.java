@@ -0,0 +1,220 @@
+package com.practice.PriceHistory.store;
+
+import com.practice.exceptions.InvalidTickException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ticks de un instrumento para un día (UTC), en un archivo mapeado en memoria. La partición
+ * conserva su canal hasta {@link #close()}; TickStore acota cuántas hay abiertas a la vez.
+ *
+ * <p>Formato: cabecera de 16 bytes (magic, capacidad, cantidad, reservado), luego la
+ * columna de timestamps ({@code long[capacidad]}) y la de precios ({@code double[capacidad]}).
+ * Los timestamps se agregan en orden no decreciente, lo que permite búsqueda binaria.</p>
+ */
+final class TickPartition implements AutoCloseable {
+    static final long DAY_MILLIS = 86_400_000L;
+
+    private static final int MAGIC = 0x5449434B;
+    private static final int HEADER_BYTES = 16;
+    private static final int CAPACITY_OFFSET = 4;
+    private static final int COUNT_OFFSET = 8;
+
+    private final long epochDay;
+    private final int capacity;
+    private final int pricesOffset;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    // Lecturas o escrituras en curso: TickStore solo descarta particiones sin usuarios
+    private final AtomicInteger users = new AtomicInteger();
+
+    // Se escribe después de los datos: quien lea count ve todos los ticks anteriores
+    private volatile int count;
+    private volatile DaySummary summary = DaySummary.EMPTY;
+
+    private TickPartition(long epochDay, int capacity, FileChannel channel, MappedByteBuffer buffer, int count) {
+        this.epochDay = epochDay;
+        this.capacity = capacity;
+        this.pricesOffset = HEADER_BYTES + capacity * Long.BYTES;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.count = count;
+    }
+
+    static TickPartition open(Path file, long epochDay, int defaultCapacity) {
+        try {
+            boolean exists = Files.exists(file);
+            if (!exists) {
+                Files.createDirectories(file.getParent());
+            }
+            MappedByteBuffer buffer;
+            int capacity = defaultCapacity;
+            FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                if (exists && channel.size() >= HEADER_BYTES) {
+                    MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+                    if (header.getInt(0) != MAGIC) {
+                        throw new IllegalStateException("Archivo de ticks inválido: " + file);
+                    }
+                    capacity = header.getInt(CAPACITY_OFFSET);
+                }
+
+                // Los índices de ByteBuffer son int: la partición no puede superar 2 GB
+                long size = HEADER_BYTES + (long) capacity * (Long.BYTES + Double.BYTES);
+                if (capacity <= 0 || size > Integer.MAX_VALUE) {
+                    throw new IllegalStateException("Capacidad de ticks inválida: " + capacity);
+                }
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+            int count = 0;
+            if (buffer.getInt(0) == MAGIC) {
+                count = buffer.getInt(COUNT_OFFSET);
+            } else {
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(CAPACITY_OFFSET, capacity);
+                buffer.putInt(COUNT_OFFSET, 0);
+            }
+            return new TickPartition(epochDay, capacity, channel, buffer, count);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el archivo de ticks " + file, e);
+        }
+    }
+
+    long epochDay() {
+        return epochDay;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long timestampAt(int index) {
+        return buffer.getLong(HEADER_BYTES + (index << 3));
+    }
+
+    double priceAt(int index) {
+        return buffer.getDouble(pricesOffset + (index << 3));
+    }
+
+    void append(long timestamp, double price) {
+        appendLock.lock();
+        try {
+            checkAppend(timestamp, 1);
+            write(timestamp, price);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    void lockAppends() {
+        appendLock.lock();
+    }
+
+    void unlockAppends() {
+        appendLock.unlock();
+    }
+
+    /**
+     * Verifica que entren {@code n} ticks a partir de {@code firstTimestamp}. Debe llamarse con
+     * {@link #lockAppends()} tomado, igual que {@link #write(long, double)}.
+     */
+    void checkAppend(long firstTimestamp, int n) {
+        int current = count;
+        if (current + n > capacity) {
+            throw new InvalidTickException(String.format(
+                    "Se alcanzó el máximo de %d ticks para el día %d", capacity, epochDay));
+        }
+        if (current > 0 && firstTimestamp < timestampAt(current - 1)) {
+            throw new InvalidTickException(String.format(
+                    "El tick %d es anterior al último registrado (%d)", firstTimestamp, timestampAt(current - 1)));
+        }
+    }
+
+    void write(long timestamp, double price) {
+        int n = count;
+        buffer.putLong(HEADER_BYTES + (n << 3), timestamp);
+        buffer.putDouble(pricesOffset + (n << 3), price);
+        buffer.putInt(COUNT_OFFSET, n + 1);
+        count = n + 1;
+    }
+
+    void retain() {
+        users.incrementAndGet();
+    }
+
+    void release() {
+        users.decrementAndGet();
+    }
+
+    boolean inUse() {
+        return users.get() > 0;
+    }
+
+    /** Primer índice con timestamp >= {@code timestamp}. */
+    int lowerBound(long timestamp) {
+        int lo = 0;
+        int hi = count;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (timestampAt(mid) < timestamp) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /** Resumen OHLC del día, extendido de forma incremental con los ticks nuevos. */
+    DaySummary summary() {
+        DaySummary current = summary;
+        int n = count;
+        if (current.count() == n) {
+            return current;
+        }
+
+        double open = current.count() == 0 ? priceAt(0) : current.open();
+        double high = current.count() == 0 ? Double.NEGATIVE_INFINITY : current.high();
+        double low = current.count() == 0 ? Double.POSITIVE_INFINITY : current.low();
+        for (int i = current.count(); i < n; i++) {
+            double price = priceAt(i);
+            if (price > high) {
+                high = price;
+            }
+            if (price < low) {
+                low = price;
+            }
+        }
+        DaySummary updated = new DaySummary(n, open, high, low, priceAt(n - 1));
+        summary = updated;
+        return updated;
+    }
+
+    // El mapeo se libera cuando el buffer deja de estar referenciado
+    @Override
+    public void close() {
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo cerrar la partición del día " + epochDay, e);
+        }
+    }
+
+    record DaySummary(int count, double open, double high, double low, double close) {
+        static final DaySummary EMPTY = new DaySummary(0, 0, 0, 0, 0);
+    }
+}
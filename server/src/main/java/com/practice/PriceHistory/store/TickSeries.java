@@ -0,0 +1,52 @@
+package com.practice.PriceHistory.store;
+
+import java.util.Arrays;
+
+/**
+ * Serie de ticks en columnas primitivas; crece a medida que se agregan valores.
+ */
+public final class TickSeries {
+    private long[] timestamps;
+    private double[] prices;
+    private int size;
+
+    TickSeries(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        this.timestamps = new long[capacity];
+        this.prices = new double[capacity];
+    }
+
+    void add(long timestamp, double price) {
+        if (size == timestamps.length) {
+            int capacity = size + (size >> 1);
+            timestamps = Arrays.copyOf(timestamps, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+        }
+        timestamps[size] = timestamp;
+        prices[size] = price;
+        size++;
+    }
+
+    void reverse() {
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            long t = timestamps[i];
+            timestamps[i] = timestamps[j];
+            timestamps[j] = t;
+            double p = prices[i];
+            prices[i] = prices[j];
+            prices[j] = p;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long[] timestamps() {
+        return Arrays.copyOf(timestamps, size);
+    }
+
+    public double[] prices() {
+        return Arrays.copyOf(prices, size);
+    }
+}
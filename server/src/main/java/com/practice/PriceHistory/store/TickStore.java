@@ -0,0 +1,332 @@
+package com.practice.PriceHistory.store;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Almacén append-only de ticks por instrumento, particionado por día en
+ * {@code <dir>/<instrumentId>/<yyyy-MM-dd>.ticks}. No depende de Postgres.
+ *
+ * <p>Los días existentes se conocen por el nombre de los archivos; cada partición se mapea
+ * recién cuando se lee o escribe, y como mucho quedan {@code max-open-partitions} mapeadas:
+ * se descartan las usadas hace más tiempo que no tengan lecturas ni escrituras en curso.</p>
+ */
+@Component
+public class TickStore {
+    private static final String SUFFIX = ".ticks";
+
+    private final Path root;
+    private final int ticksPerDay;
+    private final int maxOpenPartitions;
+    private final ConcurrentHashMap<Long, NavigableSet<Long>> knownDays = new ConcurrentHashMap<>();
+    // Orden de acceso: la primera entrada es la usada hace más tiempo
+    private final LinkedHashMap<PartitionKey, TickPartition> openPartitions = new LinkedHashMap<>(64, 0.75f, true);
+    private final ReentrantLock openLock = new ReentrantLock();
+
+    public TickStore(@Value("${price-history.dir:data/price-history}") String dir,
+                     @Value("${price-history.ticks-per-day:86400}") int ticksPerDay,
+                     @Value("${price-history.max-open-partitions:256}") int maxOpenPartitions) {
+        this.root = Paths.get(dir);
+        this.ticksPerDay = ticksPerDay;
+        this.maxOpenPartitions = Math.max(1, maxOpenPartitions);
+    }
+
+    public void append(long instrumentId, long timestamp, double price) {
+        TickPartition partition = acquire(instrumentId, Math.floorDiv(timestamp, TickPartition.DAY_MILLIS), true);
+        try {
+            partition.append(timestamp, price);
+        } finally {
+            partition.release();
+        }
+    }
+
+    /**
+     * Agrega un lote ordenado por timestamp de forma atómica: valida capacidad y orden en cada
+     * día afectado y recién entonces escribe, así un lote rechazado no deja ticks a medias.
+     */
+    public void appendAll(long instrumentId, long[] timestamps, double[] prices) {
+        List<TickPartition> partitions = new ArrayList<>();
+        List<int[]> spans = new ArrayList<>();
+        try {
+            int start = 0;
+            while (start < timestamps.length) {
+                long day = Math.floorDiv(timestamps[start], TickPartition.DAY_MILLIS);
+                int end = start + 1;
+                while (end < timestamps.length && Math.floorDiv(timestamps[end], TickPartition.DAY_MILLIS) == day) {
+                    end++;
+                }
+                partitions.add(acquire(instrumentId, day, true));
+                spans.add(new int[]{start, end});
+                start = end;
+            }
+
+            // Los días vienen ordenados, así que los locks se toman siempre en el mismo orden
+            int locked = 0;
+            try {
+                for (TickPartition partition : partitions) {
+                    partition.lockAppends();
+                    locked++;
+                }
+                for (int p = 0; p < partitions.size(); p++) {
+                    int[] span = spans.get(p);
+                    partitions.get(p).checkAppend(timestamps[span[0]], span[1] - span[0]);
+                }
+                for (int p = 0; p < partitions.size(); p++) {
+                    int[] span = spans.get(p);
+                    for (int i = span[0]; i < span[1]; i++) {
+                        partitions.get(p).write(timestamps[i], prices[i]);
+                    }
+                }
+            } finally {
+                for (int p = locked - 1; p >= 0; p--) {
+                    partitions.get(p).unlockAppends();
+                }
+            }
+        } finally {
+            partitions.forEach(TickPartition::release);
+        }
+    }
+
+    /** Ticks en {@code [from, to)}, hasta {@code limit}. */
+    public TickSeries range(long instrumentId, long from, long to, int limit) {
+        TickSeries series = new TickSeries(Math.min(limit, 1024));
+        for (long epochDay : daysBetween(instrumentId, from, to)) {
+            TickPartition partition = acquire(instrumentId, epochDay, false);
+            if (partition == null) {
+                continue;
+            }
+            try {
+                int end = partition.lowerBound(to);
+                for (int i = partition.lowerBound(from); i < end; i++) {
+                    if (series.size() == limit) {
+                        return series;
+                    }
+                    series.add(partition.timestampAt(i), partition.priceAt(i));
+                }
+            } finally {
+                partition.release();
+            }
+        }
+        return series;
+    }
+
+    /** Últimos {@code n} ticks en orden cronológico. */
+    public TickSeries last(long instrumentId, int n) {
+        TickSeries series = new TickSeries(n);
+        for (long epochDay : days(instrumentId).descendingSet()) {
+            TickPartition partition = acquire(instrumentId, epochDay, false);
+            if (partition == null) {
+                continue;
+            }
+            try {
+                for (int i = partition.count() - 1; i >= 0; i--) {
+                    if (series.size() == n) {
+                        series.reverse();
+                        return series;
+                    }
+                    series.add(partition.timestampAt(i), partition.priceAt(i));
+                }
+            } finally {
+                partition.release();
+            }
+        }
+        series.reverse();
+        return series;
+    }
+
+    /**
+     * Barras OHLC de {@code intervalMillis} alineadas a epoch sobre {@code [from, to)}.
+     * Si el intervalo es múltiplo de un día, los días completos se resuelven con el
+     * resumen de cada partición sin recorrer sus ticks.
+     */
+    public List<OhlcBar> bars(long instrumentId, long from, long to, long intervalMillis) {
+        List<OhlcBar> bars = new ArrayList<>();
+        boolean dailyBuckets = intervalMillis % TickPartition.DAY_MILLIS == 0;
+
+        long bucket = Long.MIN_VALUE;
+        double open = 0, high = 0, low = 0, close = 0;
+        long ticks = 0;
+
+        for (long epochDay : daysBetween(instrumentId, from, to)) {
+            TickPartition partition = acquire(instrumentId, epochDay, false);
+            if (partition == null) {
+                continue;
+            }
+            try {
+                long dayStart = epochDay * TickPartition.DAY_MILLIS;
+                boolean wholeDay = dayStart >= from && dayStart + TickPartition.DAY_MILLIS <= to;
+
+                if (dailyBuckets && wholeDay) {
+                    TickPartition.DaySummary day = partition.summary();
+                    if (day.count() == 0) {
+                        continue;
+                    }
+                    long dayBucket = dayStart - Math.floorMod(dayStart, intervalMillis);
+                    if (dayBucket != bucket) {
+                        if (ticks > 0) {
+                            bars.add(new OhlcBar(bucket, open, high, low, close, ticks));
+                        }
+                        bucket = dayBucket;
+                        open = day.open();
+                        high = day.high();
+                        low = day.low();
+                        ticks = 0;
+                    } else {
+                        high = Math.max(high, day.high());
+                        low = Math.min(low, day.low());
+                    }
+                    close = day.close();
+                    ticks += day.count();
+                    continue;
+                }
+
+                int end = partition.lowerBound(to);
+                for (int i = partition.lowerBound(from); i < end; i++) {
+                    long timestamp = partition.timestampAt(i);
+                    double price = partition.priceAt(i);
+                    long tickBucket = timestamp - Math.floorMod(timestamp, intervalMillis);
+                    if (tickBucket != bucket) {
+                        if (ticks > 0) {
+                            bars.add(new OhlcBar(bucket, open, high, low, close, ticks));
+                        }
+                        bucket = tickBucket;
+                        open = high = low = price;
+                        ticks = 0;
+                    } else if (price > high) {
+                        high = price;
+                    } else if (price < low) {
+                        low = price;
+                    }
+                    close = price;
+                    ticks++;
+                }
+            } finally {
+                partition.release();
+            }
+        }
+
+        if (ticks > 0) {
+            bars.add(new OhlcBar(bucket, open, high, low, close, ticks));
+        }
+        return bars;
+    }
+
+    int openPartitionCount() {
+        openLock.lock();
+        try {
+            return openPartitions.size();
+        } finally {
+            openLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        openLock.lock();
+        try {
+            openPartitions.values().forEach(TickPartition::close);
+            openPartitions.clear();
+        } finally {
+            openLock.unlock();
+        }
+    }
+
+    /**
+     * Partición del día con una referencia tomada (se libera con {@link TickPartition#release()}),
+     * o {@code null} si el día no existe y {@code create} es falso.
+     */
+    private TickPartition acquire(long instrumentId, long epochDay, boolean create) {
+        NavigableSet<Long> days = days(instrumentId);
+        if (!create && !days.contains(epochDay)) {
+            return null;
+        }
+        PartitionKey key = new PartitionKey(instrumentId, epochDay);
+        openLock.lock();
+        try {
+            TickPartition partition = openPartitions.get(key);
+            if (partition == null) {
+                partition = TickPartition.open(fileOf(instrumentId, epochDay), epochDay, ticksPerDay);
+                openPartitions.put(key, partition);
+                days.add(epochDay);
+            }
+            partition.retain();
+            evictIdle();
+            return partition;
+        } finally {
+            openLock.unlock();
+        }
+    }
+
+    // Con openLock tomado; las particiones en uso se saltean aunque sean las más viejas
+    private void evictIdle() {
+        Iterator<Map.Entry<PartitionKey, TickPartition>> entries = openPartitions.entrySet().iterator();
+        while (openPartitions.size() > maxOpenPartitions && entries.hasNext()) {
+            TickPartition partition = entries.next().getValue();
+            if (!partition.inUse()) {
+                partition.close();
+                entries.remove();
+            }
+        }
+    }
+
+    private NavigableSet<Long> daysBetween(long instrumentId, long from, long to) {
+        if (from >= to) {
+            return Collections.emptyNavigableSet();
+        }
+        long fromDay = Math.floorDiv(from, TickPartition.DAY_MILLIS);
+        long toDay = Math.floorDiv(to - 1, TickPartition.DAY_MILLIS);
+        return days(instrumentId).subSet(fromDay, true, toDay, true);
+    }
+
+    private NavigableSet<Long> days(long instrumentId) {
+        NavigableSet<Long> days = knownDays.get(instrumentId);
+        if (days != null) {
+            return days;
+        }
+        return knownDays.computeIfAbsent(instrumentId, this::scanDays);
+    }
+
+    // Lista los días ya escritos en disco la primera vez que se consulta el instrumento, sin abrirlos
+    private NavigableSet<Long> scanDays(long instrumentId) {
+        NavigableSet<Long> days = new ConcurrentSkipListSet<>();
+        Path dir = root.resolve(Long.toString(instrumentId));
+        if (!Files.isDirectory(dir)) {
+            return days;
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SUFFIX))
+                    .forEach(name -> days.add(
+                            LocalDate.parse(name.substring(0, name.length() - SUFFIX.length())).toEpochDay()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer el historial del instrumento " + instrumentId, e);
+        }
+        return days;
+    }
+
+    private Path fileOf(long instrumentId, long epochDay) {
+        return root.resolve(Long.toString(instrumentId)).resolve(LocalDate.ofEpochDay(epochDay) + SUFFIX);
+    }
+
+    private record PartitionKey(long instrumentId, long epochDay) {
+    }
+}
@@ -0,0 +1,348 @@
+package com.practice.Recommendation.batch;
+
+import com.practice.FinancingProfile.model.ScoringProfileView;
+import com.practice.FinancingProfile.repository.FinancingProfileRepository;
+import com.practice.Instrument.model.InstrumentRiskView;
+import com.practice.Instrument.repository.InstrumentRepository;
+import com.practice.Portfolio.model.HoldingView;
+import com.practice.Portfolio.repository.PortfolioRepository;
+import com.practice.Recommendation.dtoResponse.RecommendationBatchResponseDto;
+import com.practice.Recommendation.model.RecommendationJobCheckpointModel;
+import com.practice.Recommendation.repository.RecommendationJobCheckpointRepository;
+import com.practice.exceptions.RecommendationJobRunningException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Precalcula la tabla {@code recommendations}: recorre los usuarios con perfil financiero
+ * por bloques (keyset sobre user_id), los puntúa en paralelo y reemplaza sus filas con
+ * sentencias JDBC en lote.
+ *
+ * <p>Cada bloque se confirma junto con el checkpoint, de modo que una ejecución que falla
+ * se retoma desde el último bloque confirmado. Las ejecuciones incrementales solo procesan
+ * usuarios cuyo perfil o posiciones cambiaron desde el inicio de la última ejecución; pasa a
+ * ser completa si cambió el catálogo de instrumentos activos o si la última completa tiene más
+ * de {@code full-interval} (así se reflejan también las posiciones eliminadas).</p>
+ */
+@Slf4j
+@Component
+public class RecommendationBatchJob {
+    static final String JOB_NAME = "recommendations";
+
+    private static final String UPDATE_SQL =
+            "update recommendations set recommendation_type = ?, motion = ?, state = true, create_date = ? " +
+            "where user_id = ? and instrument_id = ?";
+    private static final String INSERT_SQL =
+            "insert into recommendations (recommendation_type, motion, state, create_date, user_id, instrument_id) " +
+            "values (?, ?, true, ?, ?, ?)";
+    // Las filas vigentes del bloque quedaron con create_date = scoredAt; el resto ya no aplica
+    private static final String DELETE_STALE_SQL =
+            "delete from recommendations where user_id = ? and create_date < ?";
+
+    private final FinancingProfileRepository financingProfileRepository;
+    private final PortfolioRepository portfolioRepository;
+    private final InstrumentRepository instrumentRepository;
+    private final RecommendationJobCheckpointRepository checkpointRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    // Ejecuta los precálculos pedidos por la API sin retener la petición HTTP
+    private final ExecutorService launcher;
+    private final int chunkSize;
+    private final int parallelism;
+    private final Duration fullInterval;
+    private final boolean scheduleEnabled;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public RecommendationBatchJob(FinancingProfileRepository financingProfileRepository,
+                                  PortfolioRepository portfolioRepository,
+                                  InstrumentRepository instrumentRepository,
+                                  RecommendationJobCheckpointRepository checkpointRepository,
+                                  JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${recommendation.batch.chunk-size:500}") int chunkSize,
+                                  @Value("${recommendation.batch.threads:4}") int threads,
+                                  @Value("${recommendation.batch.full-interval:P7D}") Duration fullInterval,
+                                  @Value("${recommendation.batch.enabled:true}") boolean scheduleEnabled) {
+        this.financingProfileRepository = financingProfileRepository;
+        this.portfolioRepository = portfolioRepository;
+        this.instrumentRepository = instrumentRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.parallelism = Math.max(1, threads);
+        this.fullInterval = fullInterval;
+        this.scheduleEnabled = scheduleEnabled;
+
+        // Cola acotada: si el pool está saturado, el hilo del job puntúa él mismo
+        AtomicInteger threadIds = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(parallelism * 2),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "recommendation-batch-" + threadIds.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.launcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "recommendation-batch-launcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(cron = "${recommendation.batch.cron:0 0 3 * * *}")
+    public void scheduledRun() {
+        if (!scheduleEnabled) {
+            return;
+        }
+        try {
+            RecommendationBatchResponseDto result = run(false);
+            log.info("Precálculo de recomendaciones terminado: {} usuarios ({})", result.processedUsers(),
+                    result.full() ? "completo" : "incremental");
+        } catch (RecommendationJobRunningException e) {
+            log.info("Precálculo de recomendaciones omitido: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Lanza el job en segundo plano y vuelve enseguida; el avance se consulta con {@link #status()}.
+     * Si ya hay una ejecución en curso lanza {@link RecommendationJobRunningException}.
+     */
+    public void start(boolean forceFull) {
+        acquire();
+        launcher.execute(() -> {
+            try {
+                RecommendationBatchResponseDto result = execute(forceFull);
+                log.info("Precálculo de recomendaciones terminado: {} usuarios ({})", result.processedUsers(),
+                        result.full() ? "completo" : "incremental");
+            } catch (RuntimeException e) {
+                log.error("Falló el precálculo de recomendaciones", e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    /**
+     * Ejecuta el job o retoma el que quedó a medias. Con {@code forceFull} se reprocesan
+     * todos los usuarios aunque no hayan cambiado.
+     */
+    public RecommendationBatchResponseDto run(boolean forceFull) {
+        acquire();
+        try {
+            return execute(forceFull);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /** Estado del último precálculo (o del que está en curso) según el checkpoint. */
+    public RecommendationBatchResponseDto status() {
+        return checkpointRepository.findById(JOB_NAME)
+                .map(RecommendationBatchJob::toResponse)
+                .orElseGet(() -> toResponse(new RecommendationJobCheckpointModel(JOB_NAME)));
+    }
+
+    private void acquire() {
+        if (!running.compareAndSet(false, true)) {
+            throw new RecommendationJobRunningException("El precálculo de recomendaciones ya está en ejecución");
+        }
+    }
+
+    private RecommendationBatchResponseDto execute(boolean forceFull) {
+        RecommendationJobCheckpointModel checkpoint = checkpointRepository.findById(JOB_NAME)
+                .orElseGet(() -> new RecommendationJobCheckpointModel(JOB_NAME));
+        List<InstrumentRiskView> catalog = instrumentRepository.findActiveRiskViews();
+        long catalogHash = catalogHash(catalog);
+
+        boolean resume = !RecommendationJobCheckpointModel.STATUS_COMPLETED.equals(checkpoint.getStatus())
+                && checkpoint.getRunStartedAt() != null && !forceFull;
+        if (resume) {
+            log.info("Retomando precálculo de recomendaciones desde el usuario {}", checkpoint.getCursorUserId());
+        } else {
+            LocalDateTime now = LocalDateTime.now();
+            checkpoint.setRunStartedAt(now);
+            checkpoint.setRunFull(forceFull || checkpoint.getWatermark() == null
+                    || !Long.valueOf(catalogHash).equals(checkpoint.getCatalogHash())
+                    || checkpoint.getLastFullRunAt() == null
+                    || checkpoint.getLastFullRunAt().plus(fullInterval).isBefore(now));
+            checkpoint.setCursorUserId(0L);
+            checkpoint.setProcessedUsers(0L);
+        }
+        checkpoint.setStatus(RecommendationJobCheckpointModel.STATUS_RUNNING);
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        checkpointRepository.save(checkpoint);
+
+        try {
+            process(checkpoint, catalog);
+        } catch (RuntimeException e) {
+            checkpoint.setStatus(RecommendationJobCheckpointModel.STATUS_FAILED);
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            checkpointRepository.save(checkpoint);
+            throw e;
+        }
+
+        checkpoint.setStatus(RecommendationJobCheckpointModel.STATUS_COMPLETED);
+        checkpoint.setWatermark(checkpoint.getRunStartedAt());
+        if (Boolean.TRUE.equals(checkpoint.getRunFull())) {
+            checkpoint.setLastFullRunAt(checkpoint.getRunStartedAt());
+            checkpoint.setCatalogHash(catalogHash);
+        }
+        checkpoint.setCursorUserId(null);
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        checkpointRepository.save(checkpoint);
+
+        return toResponse(checkpoint);
+    }
+
+    private static RecommendationBatchResponseDto toResponse(RecommendationJobCheckpointModel checkpoint) {
+        return new RecommendationBatchResponseDto(checkpoint.getStatus(), Boolean.TRUE.equals(checkpoint.getRunFull()),
+                checkpoint.getProcessedUsers() != null ? checkpoint.getProcessedUsers() : 0L,
+                checkpoint.getRunStartedAt(), checkpoint.getWatermark());
+    }
+
+    // Huella estable entre reinicios: el hashCode de un enum depende de la JVM, su nombre no
+    private static long catalogHash(List<InstrumentRiskView> catalog) {
+        long hash = 1;
+        for (InstrumentRiskView instrument : catalog) {
+            hash = 31 * hash + Long.hashCode(instrument.id());
+            hash = 31 * hash + (instrument.investmentType() != null ? instrument.investmentType().name().hashCode() : 0);
+        }
+        return hash;
+    }
+
+    private void process(RecommendationJobCheckpointModel checkpoint, List<InstrumentRiskView> catalog) {
+        RecommendationScorer scorer = new RecommendationScorer(catalog);
+        boolean full = Boolean.TRUE.equals(checkpoint.getRunFull());
+        LocalDateTime since = checkpoint.getWatermark();
+        long cursor = checkpoint.getCursorUserId() != null ? checkpoint.getCursorUserId() : 0L;
+
+        while (true) {
+            PageRequest chunk = PageRequest.of(0, chunkSize);
+            List<Long> userIds = full
+                    ? financingProfileRepository.findUserIdsAfter(cursor, chunk)
+                    : financingProfileRepository.findChangedUserIdsAfter(cursor, since, chunk);
+            if (userIds.isEmpty()) {
+                return;
+            }
+
+            List<RecommendationRow> rows = score(scorer, userIds);
+            long lastUserId = userIds.get(userIds.size() - 1);
+            LocalDateTime scoredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+            long processed = checkpoint.getProcessedUsers();
+            long previousCursor = cursor;
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    upsert(userIds, rows, scoredAt);
+                    checkpoint.setCursorUserId(lastUserId);
+                    checkpoint.setProcessedUsers(processed + userIds.size());
+                    checkpoint.setUpdatedAt(LocalDateTime.now());
+                    checkpointRepository.save(checkpoint);
+                });
+            } catch (RuntimeException e) {
+                // El bloque se revirtió: el checkpoint en memoria no debe avanzar
+                checkpoint.setCursorUserId(previousCursor);
+                checkpoint.setProcessedUsers(processed);
+                throw e;
+            }
+            cursor = lastUserId;
+        }
+    }
+
+    private List<RecommendationRow> score(RecommendationScorer scorer, List<Long> userIds) {
+        List<ScoringProfileView> profiles = financingProfileRepository.findScoringViews(userIds);
+        Map<Long, Set<Long>> holdings = new HashMap<>();
+        for (HoldingView holding : portfolioRepository.findHoldings(userIds)) {
+            holdings.computeIfAbsent(holding.userId(), id -> new HashSet<>()).add(holding.instrumentId());
+        }
+
+        int sliceSize = (profiles.size() + parallelism - 1) / parallelism;
+        List<Future<List<RecommendationRow>>> futures = new ArrayList<>(parallelism);
+        for (int from = 0; from < profiles.size(); from += sliceSize) {
+            List<ScoringProfileView> slice = profiles.subList(from, Math.min(from + sliceSize, profiles.size()));
+            futures.add(executor.submit(() -> {
+                List<RecommendationRow> rows = new ArrayList<>();
+                for (ScoringProfileView profile : slice) {
+                    rows.addAll(scorer.score(profile, holdings.getOrDefault(profile.userId(), Set.of())));
+                }
+                return rows;
+            }));
+        }
+
+        List<RecommendationRow> rows = new ArrayList<>();
+        try {
+            for (Future<List<RecommendationRow>> future : futures) {
+                rows.addAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Precálculo de recomendaciones interrumpido", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error al puntuar recomendaciones", e.getCause());
+        }
+        return rows;
+    }
+
+    // UPDATE en lote, INSERT de las filas que no existían y DELETE de las que ya no aplican
+    private void upsert(List<Long> userIds, List<RecommendationRow> rows, LocalDateTime scoredAt) {
+        Timestamp timestamp = Timestamp.valueOf(scoredAt);
+        if (!rows.isEmpty()) {
+            List<Object[]> values = new ArrayList<>(rows.size());
+            for (RecommendationRow row : rows) {
+                values.add(new Object[]{row.type().name(), row.motion(), timestamp, row.userId(), row.instrumentId()});
+            }
+            int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, values);
+
+            List<Object[]> inserts = new ArrayList<>();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    inserts.add(values.get(i));
+                }
+            }
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+            }
+        }
+
+        List<Object[]> deletes = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            deletes.add(new Object[]{userId, timestamp});
+        }
+        jdbcTemplate.batchUpdate(DELETE_STALE_SQL, deletes);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        launcher.shutdownNow();
+        executor.shutdownNow();
+    }
+}
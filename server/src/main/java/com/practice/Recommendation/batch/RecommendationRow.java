@@ -0,0 +1,11 @@
+package com.practice.Recommendation.batch;
+
+import com.practice.Recommendation.Enum.EnumRecommendationType;
+
+record RecommendationRow(
+        long userId,
+        long instrumentId,
+        EnumRecommendationType type,
+        String motion
+) {
+}
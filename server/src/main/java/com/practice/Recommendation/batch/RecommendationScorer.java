@@ -0,0 +1,68 @@
+package com.practice.Recommendation.batch;
+
+import com.practice.FinancingProfile.model.ScoringProfileView;
+import com.practice.Instrument.Enum.EnumInvestmentType;
+import com.practice.Instrument.model.InstrumentRiskView;
+import com.practice.Recommendation.Enum.EnumRecommendationType;
+import com.practice.Recommendation.engine.RecommendationEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reglas de recomendación por instrumento, con el mismo criterio que el motor k-means
+ * (riesgo del instrumento contra tolerancia del usuario):
+ * <ul>
+ *     <li>sin posición y riesgo aceptable: COMPRA</li>
+ *     <li>con posición y riesgo aceptable: MANTENER</li>
+ *     <li>con posición y riesgo mayor al del perfil: VENTA</li>
+ * </ul>
+ * Los instrumentos fuera de perfil que el usuario no tiene no generan fila.
+ */
+final class RecommendationScorer {
+    private static final String BUY = "El riesgo del instrumento (%d) está dentro de tu perfil %s";
+    private static final String HOLD = "Tu posición es acorde a tu perfil %s";
+    private static final String SELL = "El riesgo del instrumento (%d) supera tu perfil %s";
+
+    private final long[] instrumentIds;
+    private final int[] instrumentRisks;
+
+    RecommendationScorer(List<InstrumentRiskView> instruments) {
+        this.instrumentIds = new long[instruments.size()];
+        this.instrumentRisks = new int[instruments.size()];
+        for (int i = 0; i < instruments.size(); i++) {
+            instrumentIds[i] = instruments.get(i).id();
+            instrumentRisks[i] = riskOf(instruments.get(i).investmentType());
+        }
+    }
+
+    List<RecommendationRow> score(ScoringProfileView profile, Set<Long> heldInstruments) {
+        int tolerance = RecommendationEngine.riskTolerance(profile.riskProfile());
+        String riskProfile = profile.riskProfile() != null ? profile.riskProfile() : "MODERADO";
+        List<RecommendationRow> rows = new ArrayList<>();
+        for (int i = 0; i < instrumentIds.length; i++) {
+            boolean held = heldInstruments.contains(instrumentIds[i]);
+            boolean withinProfile = instrumentRisks[i] <= tolerance;
+            if (withinProfile) {
+                rows.add(held
+                        ? new RecommendationRow(profile.userId(), instrumentIds[i], EnumRecommendationType.MANTENER, String.format(HOLD, riskProfile))
+                        : new RecommendationRow(profile.userId(), instrumentIds[i], EnumRecommendationType.COMPRA, String.format(BUY, instrumentRisks[i], riskProfile)));
+            } else if (held) {
+                rows.add(new RecommendationRow(profile.userId(), instrumentIds[i], EnumRecommendationType.VENTA, String.format(SELL, instrumentRisks[i], riskProfile)));
+            }
+        }
+        return rows;
+    }
+
+    static int riskOf(EnumInvestmentType type) {
+        if (type == null) {
+            return 2;
+        }
+        return switch (type) {
+            case RENTA_FIJA -> 1;
+            case INMUEBLES -> 2;
+            case RENTA_VARIABLE -> 3;
+        };
+    }
+}
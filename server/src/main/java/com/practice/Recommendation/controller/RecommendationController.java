@@ -1,9 +1,13 @@
 package com.practice.Recommendation.controller;
 
+import com.practice.Recommendation.batch.RecommendationBatchJob;
 import com.practice.Recommendation.dtoRequest.RecommendationRequestPrueba;
+import com.practice.Recommendation.dtoResponse.RecommendationBatchResponseDto;
 import com.practice.Recommendation.dtoResponse.RecommendationPageResponseDto;
 import com.practice.Recommendation.dtoResponse.RecommendationResponsePrueba;
 import com.practice.Recommendation.service.RecommendationServiceImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +23,7 @@ import java.util.List;
 @Tag(name = "Recomendaciones", description = "Recommendation API")
 public class RecommendationController {
     private final RecommendationServiceImpl recommendationServiceImpl;
+    private final RecommendationBatchJob recommendationBatchJob;
 
     @GetMapping("/recommendation")
     public ResponseEntity<RecommendationPageResponseDto> findAllRecommendation(
@@ -28,4 +33,24 @@ public class RecommendationController {
         RecommendationPageResponseDto response = recommendationServiceImpl.findAllRecommendation(page, size);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "Precalcular recomendaciones",
+            description = "Lanza en segundo plano el precálculo por lotes (o retoma el interrumpido). Con full=true reprocesa todos los usuarios")
+    @ApiResponse(responseCode = "202", description = "Precálculo iniciado; el avance se consulta con GET /recommendation/batch")
+    @ApiResponse(responseCode = "409", description = "Ya hay un precálculo en curso")
+    @PostMapping("/recommendation/batch")
+    public ResponseEntity<Void> runRecommendationBatch(
+            @RequestParam(defaultValue = "false") boolean full
+    ) {
+        recommendationBatchJob.start(full);
+        return ResponseEntity.accepted().build();
+    }
+
+    @Operation(summary = "Estado del precálculo de recomendaciones",
+            description = "Devuelve el estado de la ejecución en curso o de la última terminada")
+    @ApiResponse(responseCode = "200", description = "Estado obtenido correctamente")
+    @GetMapping("/recommendation/batch")
+    public ResponseEntity<RecommendationBatchResponseDto> getRecommendationBatchStatus() {
+        return ResponseEntity.ok(recommendationBatchJob.status());
+    }
 }
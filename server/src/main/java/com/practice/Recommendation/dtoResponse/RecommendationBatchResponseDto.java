@@ -0,0 +1,12 @@
+package com.practice.Recommendation.dtoResponse;
+
+import java.time.LocalDateTime;
+
+public record RecommendationBatchResponseDto(
+        String status,
+        boolean full,
+        long processedUsers,
+        LocalDateTime runStartedAt,
+        LocalDateTime watermark
+) {
+}
@@ -0,0 +1,95 @@
+package com.practice.Recommendation.engine;
+
+import com.practice.Django.Recommendation.Investment;
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Catálogo de inversiones de {@code investment_data.csv} en columnas primitivas, con el
+ * ranking por nivel de riesgo precalculado: una consulta no ordena ni filtra nada.
+ */
+public final class InvestmentCatalog {
+    public static final int MAX_RISK = 3;
+
+    private final long[] ids;
+    private final String[] types;
+    private final int[] riskLevels;
+    private final double[] minInvestments;
+    private final double[] expectedReturns;
+    // rankedByRisk[r]: índices con riesgo <= r, de mayor a menor rendimiento esperado
+    private final int[][] rankedByRisk;
+
+    private InvestmentCatalog(long[] ids, String[] types, int[] riskLevels, double[] minInvestments, double[] expectedReturns) {
+        this.ids = ids;
+        this.types = types;
+        this.riskLevels = riskLevels;
+        this.minInvestments = minInvestments;
+        this.expectedReturns = expectedReturns;
+        this.rankedByRisk = new int[MAX_RISK + 1][];
+        for (int risk = 0; risk <= MAX_RISK; risk++) {
+            int maxRisk = risk;
+            rankedByRisk[risk] = IntStream.range(0, ids.length)
+                    .filter(i -> riskLevels[i] <= maxRisk)
+                    .boxed()
+                    .sorted(Comparator.<Integer>comparingDouble(i -> -expectedReturns[i]).thenComparingLong(i -> ids[i]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+    }
+
+    /** CSV: investment_id,investment_type,risk_level,min_investment,expected_return. */
+    public static InvestmentCatalog load(Resource resource) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            reader.readLine();
+            List<String[]> rows = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    rows.add(line.split(","));
+                }
+            }
+
+            int n = rows.size();
+            long[] ids = new long[n];
+            String[] types = new String[n];
+            int[] riskLevels = new int[n];
+            double[] minInvestments = new double[n];
+            double[] expectedReturns = new double[n];
+            for (int i = 0; i < n; i++) {
+                String[] row = rows.get(i);
+                ids[i] = Long.parseLong(row[0].trim());
+                types[i] = row[1].trim();
+                riskLevels[i] = Integer.parseInt(row[2].trim());
+                minInvestments[i] = Double.parseDouble(row[3].trim());
+                expectedReturns[i] = Double.parseDouble(row[4].trim());
+            }
+            return new InvestmentCatalog(ids, types, riskLevels, minInvestments, expectedReturns);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer el catálogo de inversiones " + resource, e);
+        }
+    }
+
+    /** Índices recomendables para un nivel de riesgo, ya ordenados; no se debe modificar. */
+    int[] rankedFor(int riskTolerance) {
+        return rankedByRisk[Math.max(0, Math.min(MAX_RISK, riskTolerance))];
+    }
+
+    /** Misma representación que devuelve Django (montos como texto). */
+    public Investment toInvestment(int index) {
+        return new Investment(ids[index], types[index], riskLevels[index],
+                String.valueOf(minInvestments[index]), String.valueOf(expectedReturns[index]));
+    }
+
+    public int size() {
+        return ids.length;
+    }
+}
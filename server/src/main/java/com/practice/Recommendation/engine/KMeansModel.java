@@ -0,0 +1,88 @@
+package com.practice.Recommendation.engine;
+
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Centroides del modelo k-means exportados de {@code kmeans_model.joblib}, en un único
+ * arreglo {@code double[k * dims]} ordenado por cluster.
+ */
+public final class KMeansModel {
+    private final double[] centroids;
+    private final int clusters;
+    private final int dimensions;
+
+    KMeansModel(double[] centroids, int clusters, int dimensions) {
+        this.centroids = centroids;
+        this.clusters = clusters;
+        this.dimensions = dimensions;
+    }
+
+    /** CSV con cabecera (nombres de las features) y una fila por centroide. */
+    public static KMeansModel load(Resource resource) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IllegalStateException("Archivo de centroides vacío: " + resource);
+            }
+            int dimensions = header.split(",").length;
+            List<double[]> rows = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] values = line.split(",");
+                if (values.length != dimensions) {
+                    throw new IllegalStateException("Centroide con " + values.length + " valores, se esperaban " + dimensions);
+                }
+                double[] row = new double[dimensions];
+                for (int i = 0; i < dimensions; i++) {
+                    row[i] = Double.parseDouble(values[i].trim());
+                }
+                rows.add(row);
+            }
+
+            double[] centroids = new double[rows.size() * dimensions];
+            for (int c = 0; c < rows.size(); c++) {
+                System.arraycopy(rows.get(c), 0, centroids, c * dimensions, dimensions);
+            }
+            return new KMeansModel(centroids, rows.size(), dimensions);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudieron leer los centroides " + resource, e);
+        }
+    }
+
+    /** Cluster con menor distancia euclídea (al cuadrado) a {@code features}. */
+    public int nearest(double[] features) {
+        int best = 0;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        for (int c = 0, offset = 0; c < clusters; c++, offset += dimensions) {
+            double distance = 0;
+            for (int d = 0; d < dimensions; d++) {
+                double diff = features[d] - centroids[offset + d];
+                distance += diff * diff;
+            }
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = c;
+            }
+        }
+        return best;
+    }
+
+    public int clusters() {
+        return clusters;
+    }
+
+    public int dimensions() {
+        return dimensions;
+    }
+}
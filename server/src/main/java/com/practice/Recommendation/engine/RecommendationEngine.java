@@ -0,0 +1,103 @@
+package com.practice.Recommendation.engine;
+
+import com.practice.Django.Recommendation.Investment;
+import com.practice.Django.Recommendation.Recommendation;
+import com.practice.Django.Recommendation.UserRecommendationsResponse;
+import com.practice.FinancingProfile.model.FinancingProfileModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recomendador en proceso equivalente al servicio Django: asigna al usuario el cluster
+ * k-means más cercano (edad, ingreso, experiencia, tolerancia al riesgo) y recomienda las
+ * inversiones con riesgo menor o igual al del usuario, ordenadas por rendimiento esperado.
+ */
+@Slf4j
+@Component
+public class RecommendationEngine {
+    // Mismos valores que api/utils.py del recomendador Django
+    private static final int DEFAULT_RISK = 2;
+    private static final int DEFAULT_EXPERIENCE = 1;
+    private static final int DEFAULT_AGE = 35;
+
+    private final KMeansModel model;
+    private final InvestmentCatalog catalog;
+    // Las inversiones son las mismas para cada usuario: se construyen una vez
+    private final Investment[] investments;
+
+    public RecommendationEngine(@Value("${recommendation.engine.centroids:classpath:recommender/kmeans_centroids.csv}") Resource centroids,
+                                @Value("${recommendation.engine.catalog:classpath:recommender/investment_data.csv}") Resource catalog) {
+        this.model = KMeansModel.load(centroids);
+        this.catalog = InvestmentCatalog.load(catalog);
+        if (model.dimensions() != 4) {
+            throw new IllegalStateException("El modelo debe tener 4 features, tiene " + model.dimensions());
+        }
+        this.investments = new Investment[this.catalog.size()];
+        for (int i = 0; i < investments.length; i++) {
+            investments[i] = this.catalog.toInvestment(i);
+        }
+        log.info("Recomendador cargado: {} clusters, {} inversiones", model.clusters(), investments.length);
+    }
+
+    public UserRecommendationsResponse recommend(Long userId, FinancingProfileModel profile, LocalDateTime birthDate) {
+        int risk = riskTolerance(profile.getRiskProfile());
+        int cluster = model.nearest(features(profile, birthDate, risk));
+        log.debug("Usuario {} asignado al cluster {}", userId, cluster);
+
+        int[] ranked = catalog.rankedFor(risk);
+        String createdAt = LocalDateTime.now().toString();
+        List<Recommendation> recommendations = new ArrayList<>(ranked.length);
+        for (int index : ranked) {
+            recommendations.add(new Recommendation(investments[index], createdAt));
+        }
+        return new UserRecommendationsResponse(userId, recommendations);
+    }
+
+    public int assignCluster(FinancingProfileModel profile, LocalDateTime birthDate) {
+        return model.nearest(features(profile, birthDate, riskTolerance(profile.getRiskProfile())));
+    }
+
+    private static double[] features(FinancingProfileModel profile, LocalDateTime birthDate, int risk) {
+        double income = profile.getIncomeMonthly() != null ? profile.getIncomeMonthly() : 0.0;
+        return new double[]{age(birthDate), income, experience(profile.getKnowledgeLevel()), risk};
+    }
+
+    private static int age(LocalDateTime birthDate) {
+        if (birthDate == null) {
+            return DEFAULT_AGE;
+        }
+        return Period.between(birthDate.toLocalDate(), LocalDate.now()).getYears();
+    }
+
+    public static int riskTolerance(String riskProfile) {
+        if (riskProfile == null) {
+            return DEFAULT_RISK;
+        }
+        return switch (riskProfile.trim().toUpperCase()) {
+            case "CONSERVADOR" -> 1;
+            case "MODERADO" -> 2;
+            case "ARRIESGADO", "AGRESIVO" -> 3;
+            default -> DEFAULT_RISK;
+        };
+    }
+
+    static int experience(String knowledgeLevel) {
+        if (knowledgeLevel == null) {
+            return DEFAULT_EXPERIENCE;
+        }
+        return switch (knowledgeLevel.trim().toUpperCase()) {
+            case "NOVATO", "PRINCIPIANTE" -> 1;
+            case "INTERMEDIO" -> 3;
+            case "AVANZADO" -> 5;
+            default -> DEFAULT_EXPERIENCE;
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.practice.Recommendation.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Estado persistente del job de precálculo de recomendaciones. Se guarda en la misma
+ * transacción que cada bloque de recomendaciones, así que una ejecución interrumpida
+ * se retoma desde el último usuario confirmado.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "recommendation_job_checkpoint")
+public class RecommendationJobCheckpointModel {
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    @Id
+    @Column(name = "job_name")
+    private String jobName;
+
+    // Inicio de la última ejecución completa: la incremental solo mira cambios posteriores
+    private LocalDateTime watermark;
+
+    @Column(name = "run_started_at")
+    private LocalDateTime runStartedAt;
+
+    @Column(name = "run_full")
+    private Boolean runFull;
+
+    // Inicio de la última ejecución completa terminada, para forzar una completa cada cierto tiempo
+    @Column(name = "last_full_run_at")
+    private LocalDateTime lastFullRunAt;
+
+    // Huella del catálogo de instrumentos activos con que se hizo la última ejecución completa
+    @Column(name = "catalog_hash")
+    private Long catalogHash;
+
+    // Último usuario procesado de la ejecución en curso
+    @Column(name = "cursor_user_id")
+    private Long cursorUserId;
+
+    private String status;
+
+    @Column(name = "processed_users")
+    private Long processedUsers;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public RecommendationJobCheckpointModel(String jobName) {
+        this.jobName = jobName;
+        this.status = STATUS_COMPLETED;
+        this.processedUsers = 0L;
+    }
+}
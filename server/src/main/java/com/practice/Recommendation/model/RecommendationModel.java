@@ -18,7 +18,11 @@ import java.util.Date;
 @AllArgsConstructor
 @Entity
 @Builder
-@Table(name = "recommendations")
+@Table(name = "recommendations", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_recommendation_user_instrument", columnNames = {"user_id", "instrument_id"})
+}, indexes = {
+        @Index(name = "idx_recommendations_instrument", columnList = "instrument_id")
+})
 public class RecommendationModel {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
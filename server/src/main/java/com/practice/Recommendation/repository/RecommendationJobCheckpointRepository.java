@@ -0,0 +1,9 @@
+package com.practice.Recommendation.repository;
+
+import com.practice.Recommendation.model.RecommendationJobCheckpointModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RecommendationJobCheckpointRepository extends JpaRepository<RecommendationJobCheckpointModel, String> {
+}
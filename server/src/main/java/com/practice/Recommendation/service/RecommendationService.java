@@ -1,7 +1,10 @@
 package com.practice.Recommendation.service;
 
+import com.practice.Django.Recommendation.UserRecommendationsResponse;
 import com.practice.Recommendation.dtoResponse.RecommendationPageResponseDto;
+import reactor.core.publisher.Mono;
 
 public interface RecommendationService {
     RecommendationPageResponseDto findAllRecommendation(int page, int size);
+    Mono<UserRecommendationsResponse> recommendForUser(Long userId);
 }
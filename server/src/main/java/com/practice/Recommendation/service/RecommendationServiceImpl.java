@@ -1,12 +1,19 @@
 package com.practice.Recommendation.service;
 
+import com.practice.Django.DjangoClientService;
+import com.practice.Django.Recommendation.UserRecommendationsResponse;
+import com.practice.FinancingProfile.model.FinancingProfileModel;
+import com.practice.FinancingProfile.repository.FinancingProfileRepository;
 import com.practice.Recommendation.dtoRequest.RecommendationRequestDto;
 import com.practice.Recommendation.dtoRequest.RecommendationRequestPrueba;
 import com.practice.Recommendation.dtoResponse.RecommendationPageResponseDto;
+import com.practice.Recommendation.engine.RecommendationEngine;
 import com.practice.Recommendation.mappers.RecommendationMapper;
 import com.practice.Recommendation.model.RecommendationModel;
 import com.practice.Recommendation.repository.RecommendationRepository;
 import com.practice.User.repository.UserRepository;
+import com.practice.exceptions.FinancingProfileNotFoundException;
+import com.practice.exceptions.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
@@ -15,16 +22,28 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class RecommendationServiceImpl implements RecommendationService {
+    private static final String USER_NOT_FOUND = "El usuario con ID %d no fue encontrado";
+    private static final String PROFILE_NOT_FOUND = "El usuario con ID %d no tiene perfil financiero";
+
     private final RecommendationRepository recommendationRepository;
     private final RecommendationMapper recommendationMapper;
     private final UserRepository userRepository;
+    private final FinancingProfileRepository financingProfileRepository;
+    private final RecommendationEngine recommendationEngine;
+    private final DjangoClientService djangoClientService;
+
+    // Si el usuario no tiene perfil local se consulta al recomendador Django
+    @Value("${recommendation.remote-fallback:true}")
+    private boolean remoteFallback;
 
 //    @Value("${django.server.url}") // URL del servidor de Django (se configura en application.properties)
 //    private String djangoServerUrl;
@@ -42,4 +61,23 @@ public class RecommendationServiceImpl implements RecommendationService {
         return new RecommendationPageResponseDto(recommendationDtos, recommendationPage.getTotalPages(),
                 recommendationPage.getTotalElements());
     }
+
+    @Override
+    public Mono<UserRecommendationsResponse> recommendForUser(Long userId) {
+        return Mono.defer(() -> {
+            Optional<FinancingProfileModel> profile = financingProfileRepository.findByUserId(userId);
+            if (profile.isPresent()) {
+                FinancingProfileModel financingProfile = profile.get();
+                return Mono.just(recommendationEngine.recommend(userId, financingProfile,
+                        financingProfile.getUser().getBirthDate()));
+            }
+            if (!userRepository.existsById(userId)) {
+                return Mono.error(new UserNotFoundException(String.format(USER_NOT_FOUND, userId)));
+            }
+            if (remoteFallback) {
+                return djangoClientService.getRecommendations(userId);
+            }
+            return Mono.error(new FinancingProfileNotFoundException(String.format(PROFILE_NOT_FOUND, userId)));
+        });
+    }
 }
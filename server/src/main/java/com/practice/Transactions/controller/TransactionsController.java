@@ -1,6 +1,7 @@
 package com.practice.Transactions.controller;
 
 import com.practice.Transactions.dtoRequest.TransactionRequestDto;
+import com.practice.Transactions.dtoResponse.TransactionCursorPageResponseDto;
 import com.practice.Transactions.dtoResponse.TransactionPageResponseDto;
 import com.practice.Transactions.dtoResponse.TransactionResponseDto;
 import com.practice.Transactions.service.TransactionsServiceImpl;
@@ -8,11 +9,15 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @Validated
@@ -31,6 +36,28 @@ public class TransactionsController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Obtener transacciones por cursor", description = "Devuelve transacciones ordenadas por fecha de operación e id, a partir del cursor recibido. No calcula el total de elementos")
+    @ApiResponse(responseCode = "200", description = "Transacciones obtenidas correctamente")
+    @ApiResponse(responseCode = "400", description = "Cursor inválido")
+    @GetMapping("/cursor")
+    public ResponseEntity<TransactionCursorPageResponseDto> findTransactionsAfter(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(500) int size
+    ) {
+        TransactionCursorPageResponseDto response = transactionsServiceImpl.findTransactionsAfter(cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Exportar transacciones", description = "Exporta las transacciones en formato NDJSON (una transacción por línea), opcionalmente filtradas por portafolio")
+    @ApiResponse(responseCode = "200", description = "Exportación generada correctamente")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTransactions(@RequestParam(required = false) Long portfolioId) {
+        StreamingResponseBody body = outputStream -> transactionsServiceImpl.exportTransactions(portfolioId, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @Operation(summary = "Obtener transacción por ID", description = "Devuelve una transacción por id")
     @ApiResponse(responseCode = "200", description = "Transacción obtenida correctamente")
     @ApiResponse(responseCode = "404", description = "Transacción no encontrada")
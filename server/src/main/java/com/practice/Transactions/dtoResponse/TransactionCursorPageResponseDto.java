@@ -0,0 +1,10 @@
+package com.practice.Transactions.dtoResponse;
+
+import java.util.List;
+
+public record TransactionCursorPageResponseDto(
+        List<TransactionResponseDto> transactionDtos,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -5,17 +5,27 @@ import com.practice.Transactions.dtoRequest.TransactionRequestDto;
 import com.practice.Transactions.dtoResponse.TransactionPortfolioInfoDto;
 import com.practice.Transactions.dtoResponse.TransactionResponseDto;
 import com.practice.Transactions.model.TransactionModel;
-import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
 import java.util.List;
 
 
+/**
+ * Mapeo de transacciones. Con {@code mapping.compiled.transaction=true} usa asignaciones directas
+ * equivalentes al type map de {@code ModelMapperConfig}; con {@code false}, ModelMapper.
+ */
 @Component
-@RequiredArgsConstructor
 public class TransactionMapper {
+    private final ModelMapper modelMapper;
+    private final boolean compiled;
+
+    public TransactionMapper(ModelMapper modelMapper, @Value("${mapping.compiled.transaction:true}") boolean compiled) {
+        this.modelMapper = modelMapper;
+        this.compiled = compiled;
+    }
 
 
     public static TransactionResponseDto toDtoTransaction(TransactionModel transactionModel, ModelMapper modelMapper) {
@@ -26,4 +36,23 @@ public class TransactionMapper {
     public static TransactionModel toEntity(TransactionRequestDto dto, ModelMapper modelMapper) {
         return modelMapper.map(dto, TransactionModel.class);
     }
+
+    public TransactionResponseDto toResponse(TransactionModel transaction) {
+        if (!compiled) {
+            return modelMapper.map(transaction, TransactionResponseDto.class);
+        }
+        if (transaction == null) {
+            throw new IllegalArgumentException("source cannot be null");
+        }
+        PortfolioModel portfolio = transaction.getPortfolio();
+        return new TransactionResponseDto(
+                transaction.getId(),
+                transaction.getEnumTransactionType() != null ? transaction.getEnumTransactionType().name() : null,
+                transaction.getUnitPrice(),
+                transaction.getQuantity(),
+                transaction.getCommission(),
+                transaction.getOperationDate(),
+                portfolio != null ? portfolio.getId() : null
+        );
+    }
 }
@@ -7,6 +7,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -16,10 +17,14 @@ import java.time.LocalDateTime;
 @Entity
 @Builder
 @AllArgsConstructor
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_operation_date_id", columnList = "operation_date, id"),
+        @Index(name = "idx_transactions_portfolio_date_id", columnList = "portfolio_id, operation_date, id")
+})
 public class TransactionModel {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transactions_seq")
+    @SequenceGenerator(name = "transactions_seq", sequenceName = "transactions_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "transaction_type")
@@ -31,6 +36,10 @@ public class TransactionModel {
 
     private Integer quantity;
     private Double commission;
+    // NOT NULL: la paginación por cursor compara (operation_date, id) y un NULL quedaría fuera
+    @Column(name = "operation_date", nullable = false)
+    @ColumnDefault("current_date")
+    @Builder.Default
     private LocalDate operationDate = LocalDate.now();
 
     @ManyToOne(targetEntity = PortfolioModel.class)
@@ -0,0 +1,16 @@
+package com.practice.Transactions.model;
+
+import com.practice.Transactions.Enum.EnumTransactionType;
+
+import java.time.LocalDate;
+
+public record TransactionRowView(
+        Long id,
+        EnumTransactionType enumTransactionType,
+        Double unitPrice,
+        Integer quantity,
+        Double commission,
+        LocalDate operationDate,
+        Long portfolioId
+) {
+}
@@ -1,9 +1,33 @@
 package com.practice.Transactions.repository;
 
 import com.practice.Transactions.model.TransactionModel;
+import com.practice.Transactions.model.TransactionRowView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @Repository
 public interface TransactionsRepository extends JpaRepository<TransactionModel, Long> {
+    boolean existsByPortfolioId(Long portfolioId);
+
+    // Al devolver List en lugar de Page, Spring Data no ejecuta el count(*)
+    @Query("select new com.practice.Transactions.model.TransactionRowView(" +
+            "t.id, t.enumTransactionType, t.unitPrice, t.quantity, t.commission, t.operationDate, t.portfolio.id) " +
+            "from TransactionModel t order by t.operationDate, t.id")
+    List<TransactionRowView> findFirstKeysetPage(Pageable pageable);
+
+    // Comparación de fila: Postgres la resuelve con un único rango sobre idx_transactions_operation_date_id
+    @Query("select new com.practice.Transactions.model.TransactionRowView(" +
+            "t.id, t.enumTransactionType, t.unitPrice, t.quantity, t.commission, t.operationDate, t.portfolio.id) " +
+            "from TransactionModel t " +
+            "where (t.operationDate, t.id) > (:operationDate, :id) " +
+            "order by t.operationDate, t.id")
+    List<TransactionRowView> findKeysetPageAfter(@Param("operationDate") LocalDate operationDate,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
 }
@@ -2,14 +2,21 @@ package com.practice.Transactions.service;
 
 
 import com.practice.Transactions.dtoRequest.TransactionRequestDto;
+import com.practice.Transactions.dtoResponse.TransactionCursorPageResponseDto;
 import com.practice.Transactions.dtoResponse.TransactionPageResponseDto;
 import com.practice.Transactions.dtoResponse.TransactionResponseDto;
 import com.practice.Transactions.model.TransactionModel;
 import jakarta.validation.Valid;
 
+import java.io.OutputStream;
+
 
 public interface TransactionsService {
     TransactionPageResponseDto findAllTransactions(int page , int size);
+    TransactionCursorPageResponseDto findTransactionsAfter(String cursor, int size);
+
+    void exportTransactions(Long portfolioId, OutputStream outputStream);
+
     TransactionResponseDto getTransactionById(Long id);
 
     TransactionResponseDto saveTransaction(@Valid TransactionRequestDto dto);
@@ -1,15 +1,21 @@
 package com.practice.Transactions.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.practice.Portfolio.model.PortfolioModel;
 import com.practice.Portfolio.repository.PortfolioRepository;
 
 import com.practice.Transactions.dtoRequest.TransactionRequestDto;
 
+import com.practice.Transactions.dtoResponse.TransactionCursorPageResponseDto;
 import com.practice.Transactions.dtoResponse.TransactionPageResponseDto;
 import com.practice.Transactions.dtoResponse.TransactionResponseDto;
 
+import com.practice.Transactions.mappers.TransactionMapper;
 import com.practice.Transactions.model.TransactionModel;
+import com.practice.Transactions.model.TransactionRowView;
 import com.practice.Transactions.repository.TransactionsRepository;
+import com.practice.exceptions.InvalidCursorException;
 import com.practice.exceptions.TransactionNotFoundException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -17,9 +23,23 @@ import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.validation.annotation.Validated;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,11 +49,23 @@ import java.util.stream.Collectors;
 public class TransactionsServiceImpl implements TransactionsService {
     private static final String TRANSACTION_NOT_FOUND = "La transacción no existe";
     private static final String PORTFOLIO_NOT_FOUND = "El portafolio no fue encontrado";
+    private static final String INVALID_CURSOR = "El cursor '%s' no es válido";
+    private static final int EXPORT_FETCH_SIZE = 500;
+    private static final String EXPORT_SQL =
+            "select id, transaction_type, unit_price, quantity, commission, operation_date, portfolio_id " +
+            "from transactions order by operation_date, id";
+    private static final String EXPORT_BY_PORTFOLIO_SQL =
+            "select id, transaction_type, unit_price, quantity, commission, operation_date, portfolio_id " +
+            "from transactions where portfolio_id = ? order by operation_date, id";
 
     private final TransactionsRepository transactionsRepository;
     private final ModelMapper modelMapper;
+    private final TransactionMapper transactionMapper;
 
     private final PortfolioRepository portfolioRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
 
     @Override
     public TransactionPageResponseDto findAllTransactions(int page, int size) {
@@ -42,18 +74,89 @@ public class TransactionsServiceImpl implements TransactionsService {
 
         List<TransactionResponseDto> transactionDtos = transactionPage.getContent()
                 .stream()
-                .map(transaction -> modelMapper.map(transaction, TransactionResponseDto.class))
+                .map(transaction -> transactionMapper.toResponse(transaction))
                 .collect(Collectors.toList());
 
         return new TransactionPageResponseDto(transactionDtos, transactionPage.getTotalPages(), transactionPage.getTotalElements());
     }
 
 
+    @Override
+    public TransactionCursorPageResponseDto findTransactionsAfter(String cursor, int size) {
+        // Se pide un elemento extra para saber si hay página siguiente sin contar filas
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<TransactionRowView> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = transactionsRepository.findFirstKeysetPage(limit);
+        } else {
+            TransactionRowView after = decodeCursor(cursor);
+            rows = transactionsRepository.findKeysetPageAfter(after.operationDate(), after.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<TransactionRowView> page = hasNext ? rows.subList(0, size) : rows;
+        List<TransactionResponseDto> transactionDtos = page.stream()
+                .map(row -> new TransactionResponseDto(
+                        row.id(),
+                        row.enumTransactionType() != null ? row.enumTransactionType().name() : null,
+                        row.unitPrice(),
+                        row.quantity(),
+                        row.commission(),
+                        row.operationDate(),
+                        row.portfolioId()))
+                .collect(Collectors.toList());
+
+        String nextCursor = hasNext ? encodeCursor(page.get(page.size() - 1)) : null;
+        return new TransactionCursorPageResponseDto(transactionDtos, nextCursor, hasNext);
+    }
+
+
+    @Override
+    public void exportTransactions(Long portfolioId, OutputStream outputStream) {
+        // Postgres solo respeta el fetch size (cursor del lado del servidor) dentro de una transacción
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        readOnly.executeWithoutResult(status -> {
+            try (SequenceWriter writer = objectMapper.writer()
+                    .withRootValueSeparator("\n")
+                    .writeValues(new BufferedOutputStream(outputStream, 64 * 1024))) {
+                TransactionResponseDto row = new TransactionResponseDto();
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(portfolioId == null ? EXPORT_SQL : EXPORT_BY_PORTFOLIO_SQL);
+                    statement.setFetchSize(EXPORT_FETCH_SIZE);
+                    if (portfolioId != null) {
+                        statement.setLong(1, portfolioId);
+                    }
+                    return statement;
+                }, (RowCallbackHandler) resultSet -> {
+                    Date operationDate = resultSet.getDate("operation_date");
+                    row.setId(resultSet.getLong("id"));
+                    row.setEnumTransactionType(resultSet.getString("transaction_type"));
+                    row.setUnitPrice(resultSet.getObject("unit_price", Double.class));
+                    row.setQuantity(resultSet.getObject("quantity", Integer.class));
+                    row.setCommission(resultSet.getObject("commission", Double.class));
+                    row.setOperationDate(operationDate != null ? operationDate.toLocalDate() : null);
+                    row.setPortfolioId(resultSet.getObject("portfolio_id", Long.class));
+                    try {
+                        writer.write(row);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+
     @Override
     public TransactionResponseDto getTransactionById(Long id) {
         TransactionModel transaction = transactionsRepository.findById(id)
                 .orElseThrow(() -> new TransactionNotFoundException(TRANSACTION_NOT_FOUND));
-        return modelMapper.map(transaction, TransactionResponseDto.class);
+        return transactionMapper.toResponse(transaction);
     }
 
 
@@ -66,7 +169,7 @@ public class TransactionsServiceImpl implements TransactionsService {
         transaction.setPortfolio(portfolio);
 
         TransactionModel savedTransaction = transactionsRepository.save(transaction);
-        return modelMapper.map(savedTransaction, TransactionResponseDto.class);
+        return transactionMapper.toResponse(savedTransaction);
     }
 
 
@@ -84,7 +187,7 @@ public class TransactionsServiceImpl implements TransactionsService {
         }
 
         TransactionModel updatedTransaction = transactionsRepository.save(transaction);
-        return modelMapper.map(updatedTransaction, TransactionResponseDto.class);
+        return transactionMapper.toResponse(updatedTransaction);
     }
 
     @Override
@@ -94,4 +197,20 @@ public class TransactionsServiceImpl implements TransactionsService {
         transactionsRepository.delete(transaction);
     }
 
+    private static String encodeCursor(TransactionRowView row) {
+        String raw = row.operationDate() + ":" + row.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static TransactionRowView decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            LocalDate operationDate = LocalDate.parse(raw.substring(0, separator));
+            Long id = Long.parseLong(raw.substring(separator + 1));
+            return new TransactionRowView(id, null, null, null, null, operationDate, null);
+        } catch (IllegalArgumentException | DateTimeParseException | StringIndexOutOfBoundsException e) {
+            throw new InvalidCursorException(String.format(INVALID_CURSOR, cursor));
+        }
+    }
 }
@@ -0,0 +1,50 @@
+package com.practice.User.Enum;
+
+import com.practice.exceptions.InvalidIncludeException;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+public enum EnumUserInclude {
+    FINANCING_PROFILE("financingprofile"),
+    COSTS("costs"),
+    WALLETS("wallets"),
+    NOTIFICATIONS("notifications"),
+    RECOMMENDATIONS("recommendations"),
+    PORTFOLIOS("portfolios"),
+    ROLES("roles");
+
+    private static final String INVALID_INCLUDE = "El valor '%s' de include no es válido";
+
+    private final String param;
+
+    EnumUserInclude(String param) {
+        this.param = param;
+    }
+
+    // Convierte "portfolios,wallets" en el conjunto de colecciones a cargar; vacío o null carga todo
+    public static Set<EnumUserInclude> parse(String include) {
+        if (include == null || include.isBlank()) {
+            return EnumSet.allOf(EnumUserInclude.class);
+        }
+        Set<EnumUserInclude> result = EnumSet.noneOf(EnumUserInclude.class);
+        for (String token : include.split(",")) {
+            String value = token.trim().toLowerCase(Locale.ROOT);
+            if (value.isEmpty()) {
+                continue;
+            }
+            result.add(fromParam(value));
+        }
+        return result;
+    }
+
+    private static EnumUserInclude fromParam(String value) {
+        for (EnumUserInclude candidate : values()) {
+            if (candidate.param.equals(value)) {
+                return candidate;
+            }
+        }
+        throw new InvalidIncludeException(String.format(INVALID_INCLUDE, value));
+    }
+}
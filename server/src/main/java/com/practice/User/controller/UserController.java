@@ -1,5 +1,6 @@
 package com.practice.User.controller;
 
+import com.practice.User.Enum.EnumUserInclude;
 import com.practice.User.dtoRequest.AuthCreateUserRequestDto;
 import com.practice.User.dtoRequest.UserRequestDto;
 import com.practice.User.dtoResponse.UserPageResponse;
@@ -54,12 +55,16 @@ public class UserController {
     }
 
     // Obtener un usuario por ID
-    @Operation(summary = "Obtener un usuario por ID", description = "Devuelve un usuario por su ID.")
+    @Operation(summary = "Obtener un usuario por ID", description = "Devuelve un usuario por su ID. El parámetro include " +
+            "limita las colecciones cargadas (financingProfile, costs, wallets, notifications, recommendations, portfolios, roles); " +
+            "sin él se devuelven todas.")
     @ApiResponse(responseCode = "200", description = "Usuario obtenido exitosamente")
+    @ApiResponse(responseCode = "400", description = "Valor de include no válido")
     @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
     @GetMapping("/{id}")
-    public ResponseEntity<UserResponseDto> getUserById(@PathVariable Long id) {
-        UserResponseDto user = userService.getUserById(id);
+    public ResponseEntity<UserResponseDto> getUserById(@PathVariable Long id,
+                                                       @RequestParam(required = false) String include) {
+        UserResponseDto user = userService.getUserById(id, EnumUserInclude.parse(include));
         return new ResponseEntity<>(user, HttpStatus.OK);
     }
 
@@ -1,12 +1,13 @@
 package com.practice.User.mapper;
 
 import com.practice.Cost.dtoRequest.CostRequestDto;
+import com.practice.FinancingProfile.dtoRequest.FinancingProfileRequestDto;
 import com.practice.Notification.dtoRequest.NotificationRequestDto;
 import com.practice.Portfolio.dtoRequest.PortfolioRequestDto;
 import com.practice.Recommendation.dtoRequest.RecommendationRequestDto;
 import com.practice.User.dtoRequest.UserRequestDto;
 import com.practice.User.dtoResponse.UserResponseDto;
-import com.practice.User.model.UserModel;
+import com.practice.User.model.*;
 import com.practice.Wallet.dtoRequest.WalletRequestDto;
 import org.springframework.stereotype.Component;
 import org.modelmapper.ModelMapper;
@@ -69,6 +70,82 @@ public class UserMapper {
         return dto;
     }
 
+    // Mapeo manual del agregado leído por proyecciones: sin reflexión ni accesos perezosos por hijo
+    public UserResponseDto toDtoUser(UserSummaryView summary) {
+        UserResponseDto dto = new UserResponseDto();
+        dto.setId(summary.id());
+        dto.setPhotoUrl(summary.photoUrl());
+        dto.setEmail(summary.email());
+        dto.setName(summary.name());
+        dto.setLastName(summary.lastName());
+        dto.setPhoneNumber(summary.phoneNumber() == null ? 0 : summary.phoneNumber().intValue());
+        dto.setBirthDate(summary.birthDate());
+        dto.setRegisterDate(summary.registerDate());
+        dto.setLastLogin(summary.lastLogin());
+        return dto;
+    }
+
+    public FinancingProfileRequestDto toFinancingProfileDto(UserFinancingProfileView view, Long userId) {
+        FinancingProfileRequestDto dto = new FinancingProfileRequestDto();
+        dto.setKnowledgeLevel(view.knowledgeLevel());
+        dto.setRiskProfile(view.riskProfile());
+        dto.setIncomeMonthly(view.incomeMonthly());
+        dto.setExpensesMonthly(view.expensesMonthly());
+        dto.setPercentageSave(view.percentageSave());
+        dto.setTotalDebt(view.totalDebt());
+        dto.setSavingsTotal(view.savingsTotal());
+        dto.setPatrimonyTotal(view.patrimonyTotal());
+        dto.setUserId(userId);
+        return dto;
+    }
+
+    public CostRequestDto toCostDto(UserCostView view, Long userId) {
+        CostRequestDto dto = new CostRequestDto();
+        dto.setId(view.id());
+        dto.setUserId(userId);
+        dto.setType(view.type());
+        dto.setDescription(view.description());
+        dto.setCategory(view.category());
+        dto.setAmount(view.amount());
+        return dto;
+    }
+
+    public WalletRequestDto toWalletDto(UserWalletView view) {
+        WalletRequestDto dto = new WalletRequestDto();
+        dto.setId(view.id());
+        dto.setCurrentBalance(view.currentBalance());
+        return dto;
+    }
+
+    public NotificationRequestDto toNotificationDto(UserNotificationView view) {
+        NotificationRequestDto dto = new NotificationRequestDto();
+        dto.setId(view.id());
+        dto.setTypeNotification(view.type() == null ? null : view.type().name());
+        dto.setMessage(view.message());
+        dto.setIsRead(view.isRead());
+        return dto;
+    }
+
+    public RecommendationRequestDto toRecommendationDto(UserRecommendationView view, Long userId) {
+        RecommendationRequestDto dto = new RecommendationRequestDto();
+        dto.setId(view.id());
+        dto.setRecommendationType(view.recommendationType() == null ? null : view.recommendationType().name());
+        dto.setMotion(view.motion());
+        dto.setState(view.state());
+        dto.setUserId(userId);
+        dto.setInstrumentId(view.instrumentId());
+        return dto;
+    }
+
+    public PortfolioRequestDto toPortfolioDto(UserPortfolioView view, Long userId) {
+        PortfolioRequestDto dto = new PortfolioRequestDto();
+        dto.setQuantity(view.quantity());
+        dto.setPurchasePrice(view.purchasePrice());
+        dto.setPurchaseDate(view.purchaseDate());
+        dto.setUserId(userId);
+        return dto;
+    }
+
 //    public UserResponseDto toDtoUser(UserModel userModel) {
 //        if (userModel == null) {
 //            return null;
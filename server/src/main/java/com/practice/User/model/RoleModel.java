@@ -1,6 +1,7 @@
 package com.practice.User.model;
 
 import com.practice.User.Enum.EnumRole;
+import com.practice.User.security.RoleAuthorityListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,6 +15,7 @@ import java.util.Set;
 @NoArgsConstructor
 @Builder
 @Table(name = "roles")
+@EntityListeners(RoleAuthorityListener.class)
 public class RoleModel {
 
     @Id
@@ -24,7 +26,7 @@ public class RoleModel {
     @Enumerated(EnumType.STRING)
     private EnumRole enumRole;
 
-    @ManyToMany(fetch = FetchType.EAGER , targetEntity = PermissionModel.class)
+    @ManyToMany(fetch = FetchType.LAZY, targetEntity = PermissionModel.class)
     @JoinTable(name = "role_permission",
             joinColumns = @JoinColumn(name = "role_id"),
             inverseJoinColumns = @JoinColumn(name = "permission_id"))
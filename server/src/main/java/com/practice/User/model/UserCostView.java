@@ -0,0 +1,4 @@
+package com.practice.User.model;
+
+public record UserCostView(Long id, String type, String description, String category, Double amount) {
+}
@@ -0,0 +1,6 @@
+package com.practice.User.model;
+
+public record UserFinancingProfileView(String knowledgeLevel, String riskProfile, Double incomeMonthly,
+                                       Double expensesMonthly, Double percentageSave, Double totalDebt,
+                                       Double savingsTotal, Double patrimonyTotal) {
+}
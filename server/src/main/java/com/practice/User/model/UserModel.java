@@ -21,7 +21,9 @@ import java.util.Set;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_google_id", columnList = "google_id")
+})
 public class UserModel {
 
     @Id
@@ -0,0 +1,6 @@
+package com.practice.User.model;
+
+import com.practice.Notification.Enum.EnumTypeNotification;
+
+public record UserNotificationView(Long id, EnumTypeNotification type, String message, Boolean isRead) {
+}
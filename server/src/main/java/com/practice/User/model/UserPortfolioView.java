@@ -0,0 +1,6 @@
+package com.practice.User.model;
+
+import java.time.LocalDate;
+
+public record UserPortfolioView(Integer quantity, Double purchasePrice, LocalDate purchaseDate) {
+}
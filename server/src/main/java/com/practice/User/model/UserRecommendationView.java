@@ -0,0 +1,7 @@
+package com.practice.User.model;
+
+import com.practice.Recommendation.Enum.EnumRecommendationType;
+
+public record UserRecommendationView(Long id, EnumRecommendationType recommendationType, String motion,
+                                     Boolean state, Long instrumentId) {
+}
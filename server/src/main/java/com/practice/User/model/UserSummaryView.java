@@ -0,0 +1,8 @@
+package com.practice.User.model;
+
+import java.time.LocalDateTime;
+
+public record UserSummaryView(Long id, String photoUrl, String email, String name, String lastName,
+                              Long phoneNumber, LocalDateTime birthDate, LocalDateTime registerDate,
+                              LocalDateTime lastLogin) {
+}
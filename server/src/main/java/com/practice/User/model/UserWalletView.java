@@ -0,0 +1,4 @@
+package com.practice.User.model;
+
+public record UserWalletView(Long id, Double currentBalance) {
+}
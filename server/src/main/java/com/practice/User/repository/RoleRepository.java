@@ -3,6 +3,7 @@ package com.practice.User.repository;
 import com.practice.User.Enum.EnumRole;
 import com.practice.User.model.RoleModel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +11,7 @@ import java.util.Optional;
 public interface RoleRepository extends JpaRepository<RoleModel, Long> {
     List<RoleModel> findRoleEntitiesByEnumRoleIn(List<String> roles);
     Optional<RoleModel> findByEnumRole(EnumRole role);
+
+    @Query("select distinct r from RoleModel r left join fetch r.permissions")
+    List<RoleModel> findAllWithPermissions();
 }
@@ -1,12 +1,49 @@
 package com.practice.User.repository;
 
-import com.practice.User.model.UserModel;
+import com.practice.User.Enum.EnumRole;
+import com.practice.User.model.*;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<UserModel, Long> {
     Optional<UserModel> findByEmail(String email);
 
     Optional<UserModel> findByGoogleId(String googleSub);
+
+    // Consultas del agregado de usuario: una sentencia por colección, sin cargar entidades relacionadas
+    @Query("select new com.practice.User.model.UserSummaryView(u.id, u.photoUrl, u.email, u.name, u.lastName, " +
+            "u.phoneNumber, u.birthDate, u.registerDate, u.lastLogin) from UserModel u where u.id = :userId")
+    Optional<UserSummaryView> findSummaryById(@Param("userId") Long userId);
+
+    @Query("select r.enumRole from UserModel u join u.roles r where u.id = :userId")
+    List<EnumRole> findRoleNamesByUserId(@Param("userId") Long userId);
+
+    @Query("select new com.practice.User.model.UserFinancingProfileView(f.knowledgeLevel, f.riskProfile, " +
+            "f.incomeMonthly, f.expensesMonthly, f.percentageSave, f.totalDebt, f.savingsTotal, f.patrimonyTotal) " +
+            "from FinancingProfileModel f where f.user.id = :userId")
+    Optional<UserFinancingProfileView> findFinancingProfileView(@Param("userId") Long userId);
+
+    @Query("select new com.practice.User.model.UserCostView(c.id, c.type, c.description, c.category, c.amount) " +
+            "from CostModel c where c.user.id = :userId order by c.id")
+    List<UserCostView> findCostViews(@Param("userId") Long userId);
+
+    @Query("select new com.practice.User.model.UserWalletView(w.id, w.currentBalance) " +
+            "from WalletModel w where w.user.id = :userId order by w.id")
+    List<UserWalletView> findWalletViews(@Param("userId") Long userId);
+
+    @Query("select new com.practice.User.model.UserNotificationView(n.id, n.type, n.message, n.isRead) " +
+            "from NotificationModel n where n.user.id = :userId order by n.id")
+    List<UserNotificationView> findNotificationViews(@Param("userId") Long userId);
+
+    @Query("select new com.practice.User.model.UserRecommendationView(r.id, r.enumRecommendationType, r.motion, " +
+            "r.state, r.instrument.id) from RecommendationModel r where r.user.id = :userId order by r.id")
+    List<UserRecommendationView> findRecommendationViews(@Param("userId") Long userId);
+
+    @Query("select new com.practice.User.model.UserPortfolioView(p.quantity, p.purchasePrice, p.purchaseDate) " +
+            "from PortfolioModel p where p.user.id = :userId order by p.id")
+    List<UserPortfolioView> findPortfolioViews(@Param("userId") Long userId);
 }
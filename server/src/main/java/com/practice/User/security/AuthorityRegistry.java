@@ -0,0 +1,145 @@
+package com.practice.User.security;
+
+import com.practice.User.Enum.EnumRole;
+import com.practice.User.model.PermissionModel;
+import com.practice.User.model.RoleModel;
+import com.practice.User.repository.RoleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Autoridades precalculadas por rol ({@code ROLE_<rol>} más sus permisos).
+ *
+ * <p>Se cargan una vez con una sola consulta y se recargan cuando cambia un rol
+ * (ver {@link RoleAuthorityListener}). Cada autoridad es una instancia única compartida
+ * y las listas devueltas son inmutables, así que login y validación de tokens no
+ * recorren el grafo rol/permiso ni crean objetos nuevos.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthorityRegistry {
+    private static final String ROLE_PREFIX = "ROLE_";
+    // Las combinaciones de roles son pocas; el tope evita crecer con claims arbitrarios
+    private static final int MAX_CACHED_CLAIMS = 256;
+
+    private final RoleRepository roleRepository;
+
+    // La primera carga consulta la base: con un monitor fijaría el hilo virtual durante la consulta
+    private final ReentrantLock loadLock = new ReentrantLock();
+    // Roles y cachés derivadas viajan juntos: invalidar o recargar los reemplaza en un solo paso
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        Map<EnumRole, List<GrantedAuthority>> byRole = new EnumMap<>(EnumRole.class);
+        Map<String, GrantedAuthority> interned = new HashMap<>();
+
+        for (RoleModel role : roleRepository.findAllWithPermissions()) {
+            Set<GrantedAuthority> authorities = new LinkedHashSet<>();
+            authorities.add(intern(interned, ROLE_PREFIX + role.getEnumRole().name()));
+            for (PermissionModel permission : role.getPermissions()) {
+                authorities.add(intern(interned, permission.getName()));
+            }
+            byRole.put(role.getEnumRole(), List.copyOf(authorities));
+        }
+
+        snapshot = new Snapshot(byRole, Map.copyOf(interned), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        log.info("Autoridades precalculadas para {} roles", byRole.size());
+    }
+
+    /** Marca el registro como desactualizado; se recarga en la próxima consulta. */
+    public void invalidate() {
+        snapshot = null;
+    }
+
+    public List<GrantedAuthority> authoritiesFor(EnumRole role) {
+        List<GrantedAuthority> authorities = current().byRole().get(role);
+        return authorities != null ? authorities : List.of();
+    }
+
+    public List<GrantedAuthority> authoritiesFor(Collection<RoleModel> roles) {
+        if (roles.size() == 1) {
+            return authoritiesFor(roles.iterator().next().getEnumRole());
+        }
+        Snapshot current = current();
+        Set<EnumRole> key = new LinkedHashSet<>();
+        roles.forEach(role -> key.add(role.getEnumRole()));
+        return current.byRoleSet().computeIfAbsent(Set.copyOf(key), roleSet -> union(current, roleSet));
+    }
+
+    /** Resuelve el claim {@code authorities} de un token ("ROLE_USER,READ,...") a instancias compartidas. */
+    public List<GrantedAuthority> fromClaim(String claim) {
+        if (claim == null || claim.isEmpty()) {
+            return List.of();
+        }
+        Snapshot current = current();
+        List<GrantedAuthority> cached = current.byClaim().get(claim);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for (String name : claim.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                GrantedAuthority authority = current.interned().get(trimmed);
+                authorities.add(authority != null ? authority : new SimpleGrantedAuthority(trimmed));
+            }
+        }
+        List<GrantedAuthority> result = List.copyOf(authorities);
+        if (current.byClaim().size() < MAX_CACHED_CLAIMS) {
+            current.byClaim().putIfAbsent(claim, result);
+        }
+        return result;
+    }
+
+    private static List<GrantedAuthority> union(Snapshot snapshot, Set<EnumRole> roles) {
+        Set<GrantedAuthority> authorities = new LinkedHashSet<>();
+        roles.forEach(role -> authorities.addAll(snapshot.byRole().getOrDefault(role, List.of())));
+        return List.copyOf(authorities);
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            loadLock.lock();
+            try {
+                current = snapshot;
+                if (current == null) {
+                    refresh();
+                    current = snapshot;
+                }
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private static GrantedAuthority intern(Map<String, GrantedAuthority> interned, String name) {
+        return interned.computeIfAbsent(name, SimpleGrantedAuthority::new);
+    }
+
+    private record Snapshot(Map<EnumRole, List<GrantedAuthority>> byRole,
+                            Map<String, GrantedAuthority> interned,
+                            Map<Set<EnumRole>, List<GrantedAuthority>> byRoleSet,
+                            Map<String, List<GrantedAuthority>> byClaim) {
+    }
+}
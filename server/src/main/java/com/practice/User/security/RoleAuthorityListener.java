@@ -0,0 +1,40 @@
+package com.practice.User.security;
+
+import com.practice.User.model.RoleModel;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Invalida {@link AuthorityRegistry} cuando se crea, modifica o elimina un {@link RoleModel}.
+ *
+ * <p>El registro se resuelve recién al usarlo: Hibernate crea este listener junto con el
+ * EntityManagerFactory, del que a su vez depende el RoleRepository del registro.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RoleAuthorityListener {
+    private final ObjectProvider<AuthorityRegistry> authorityRegistry;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(RoleModel role) {
+        AuthorityRegistry registry = authorityRegistry.getObject();
+        registry.invalidate();
+        // Se vuelve a invalidar al confirmar: una lectura hecha antes del commit pudo recargar el estado viejo
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    registry.invalidate();
+                }
+            });
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.practice.User.service;
 
+import com.practice.User.Enum.EnumUserInclude;
 import com.practice.User.dtoRequest.UserRequestDto;
 import com.practice.User.dtoResponse.UserPageResponse;
 import com.practice.User.dtoResponse.UserResponseDto;
 import com.practice.User.mapper.UserMapper;
 import com.practice.User.model.RoleModel;
 import com.practice.User.model.UserModel;
+import com.practice.User.model.UserSummaryView;
 import com.practice.User.repository.UserRepository;
 import com.practice.exceptions.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -14,11 +16,13 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -44,12 +48,51 @@ public class UserService {
         return new UserPageResponse(userDtos, usersPage.getTotalPages(), usersPage.getTotalElements());
     }
 
-    public UserResponseDto getUserById(Long id) {
-        UserModel user = userRepository.findById(id)
+    // Carga el agregado con una consulta por colección pedida (como máximo 8), en vez de recorrer
+    // las relaciones perezosas de la entidad hijo por hijo
+    @Transactional(readOnly = true)
+    public UserResponseDto getUserById(Long id, Set<EnumUserInclude> include) {
+        UserSummaryView summary = userRepository.findSummaryById(id)
                 .orElseThrow(() -> new UserNotFoundException("Usuario con ID " + id + " no encontrado."));
 
-        return userMapper.toDtoUser(user);
+        UserResponseDto dto = userMapper.toDtoUser(summary);
 
+        if (include.contains(EnumUserInclude.FINANCING_PROFILE)) {
+            dto.setFinancingProfile(userRepository.findFinancingProfileView(id)
+                    .map(view -> userMapper.toFinancingProfileDto(view, id))
+                    .orElse(null));
+        }
+        if (include.contains(EnumUserInclude.COSTS)) {
+            dto.setCosts(userRepository.findCostViews(id).stream()
+                    .map(view -> userMapper.toCostDto(view, id))
+                    .collect(Collectors.toList()));
+        }
+        if (include.contains(EnumUserInclude.WALLETS)) {
+            dto.setWallets(userRepository.findWalletViews(id).stream()
+                    .map(userMapper::toWalletDto)
+                    .collect(Collectors.toList()));
+        }
+        if (include.contains(EnumUserInclude.NOTIFICATIONS)) {
+            dto.setNotifications(userRepository.findNotificationViews(id).stream()
+                    .map(userMapper::toNotificationDto)
+                    .collect(Collectors.toList()));
+        }
+        if (include.contains(EnumUserInclude.RECOMMENDATIONS)) {
+            dto.setRecommendations(userRepository.findRecommendationViews(id).stream()
+                    .map(view -> userMapper.toRecommendationDto(view, id))
+                    .collect(Collectors.toList()));
+        }
+        if (include.contains(EnumUserInclude.PORTFOLIOS)) {
+            dto.setPortfolios(userRepository.findPortfolioViews(id).stream()
+                    .map(view -> userMapper.toPortfolioDto(view, id))
+                    .collect(Collectors.toList()));
+        }
+        if (include.contains(EnumUserInclude.ROLES)) {
+            dto.setRoles(userRepository.findRoleNamesByUserId(id).stream()
+                    .map(Enum::name)
+                    .collect(Collectors.toSet()));
+        }
+        return dto;
     }
 
     public UserModel updateUser(Long id, UserRequestDto updatedUserDto) {
@@ -8,13 +8,14 @@ import com.practice.User.model.RoleModel;
 import com.practice.User.model.UserModel;
 import com.practice.User.repository.RoleRepository;
 import com.practice.User.repository.UserRepository;
+import com.practice.User.security.AuthorityRegistry;
 import com.practice.config.jwt.JwtUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -25,7 +26,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -39,21 +39,14 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     private final UserRepository userRepository;
     private final JwtUtils jwtUtils;
     private final RoleRepository roleRepository;
+    private final AuthorityRegistry authorityRegistry;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         UserModel userEntity = userRepository.findByEmail(email).orElseThrow(() -> new UsernameNotFoundException(
                 "El usuario con el email " + email + "no existe"));
 
-        List<SimpleGrantedAuthority> authorities = new ArrayList<>();
-
-        userEntity.getRoles().forEach(role -> {
-            authorities.add(new SimpleGrantedAuthority("ROLE_".concat(role.getEnumRole().name())));
-        });
-
-        userEntity.getRoles().stream()
-                .flatMap(role -> role.getPermissions().stream())
-                .forEach(permission -> authorities.add(new SimpleGrantedAuthority(permission.getName())));
+        List<GrantedAuthority> authorities = authorityRegistry.authoritiesFor(userEntity.getRoles());
 
         return new User(userEntity.getEmail(),
                 userEntity.getPassword(),
@@ -134,15 +127,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
         UserModel userCreated = userRepository.save(userEntity);
 
-        ArrayList<SimpleGrantedAuthority> authoritiesList = new ArrayList<>();
-
-        userCreated.getRoles().forEach(role -> {
-            authoritiesList.add(new SimpleGrantedAuthority("ROLE_".concat(role.getEnumRole().name())));
-        });
-
-        userCreated.getRoles().stream()
-                .flatMap(role -> role.getPermissions().stream())
-                .forEach(permission -> authoritiesList.add(new SimpleGrantedAuthority(permission.getName())));
+        List<GrantedAuthority> authoritiesList = authorityRegistry.authoritiesFor(userCreated.getRoles());
 
         Authentication authentication = new UsernamePasswordAuthenticationToken(userCreated.getEmail(), userCreated.getPassword(), authoritiesList);
         String accessToken = jwtUtils.generateJwtToken(authentication);
@@ -0,0 +1,6 @@
+package com.practice.Wallet.Enum;
+
+// Desde el punto de vista de la billetera: DEBITO sale dinero, CREDITO entra
+public enum EnumLedgerDirection {
+    DEBITO, CREDITO
+}
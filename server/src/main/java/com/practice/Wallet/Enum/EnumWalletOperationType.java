@@ -0,0 +1,5 @@
+package com.practice.Wallet.Enum;
+
+public enum EnumWalletOperationType {
+    DEPOSITO, RETIRO, TRANSFERENCIA, AJUSTE, COMPRA, VENTA, LIQUIDACION
+}
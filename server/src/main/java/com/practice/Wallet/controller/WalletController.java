@@ -1,7 +1,11 @@
 package com.practice.Wallet.controller;
 
 import com.practice.Wallet.dtoRequest.WalletCreateRequestDto;
+import com.practice.Wallet.dtoRequest.WalletMovementRequestDto;
+import com.practice.Wallet.dtoRequest.WalletTransferRequestDto;
 import com.practice.Wallet.dtoRequest.WalletUpdateRequestDto;
+import com.practice.Wallet.dtoResponse.WalletLedgerPageResponseDto;
+import com.practice.Wallet.dtoResponse.WalletOperationResponseDto;
 import com.practice.Wallet.dtoResponse.WalletPageResponseDto;
 import com.practice.Wallet.dtoResponse.WalletResponseCreateDto;
 import com.practice.Wallet.dtoResponse.WalletResponseDto;
@@ -71,4 +75,45 @@ public class WalletController {
         walletServiceImpl.deleteWallet(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    @Operation(summary = "Depositar en un wallet", description = "Suma el monto al saldo. Reenviar la misma requestKey devuelve la operación original")
+    @ApiResponse(responseCode = "200", description = "Depósito registrado correctamente")
+    @ApiResponse(responseCode = "404", description = "No se encontró el wallet")
+    @ApiResponse(responseCode = "409", description = "La requestKey ya se usó para otra operación")
+    @PostMapping("/{id}/deposit")
+    public ResponseEntity<WalletOperationResponseDto> deposit(@PathVariable Long id, @Validated @RequestBody WalletMovementRequestDto movementRequest) {
+        return ResponseEntity.ok(walletServiceImpl.deposit(id, movementRequest));
+    }
+
+    @Operation(summary = "Retirar de un wallet", description = "Resta el monto del saldo si alcanza. Reenviar la misma requestKey devuelve la operación original")
+    @ApiResponse(responseCode = "200", description = "Retiro registrado correctamente")
+    @ApiResponse(responseCode = "400", description = "Saldo insuficiente")
+    @ApiResponse(responseCode = "404", description = "No se encontró el wallet")
+    @ApiResponse(responseCode = "409", description = "La requestKey ya se usó para otra operación")
+    @PostMapping("/{id}/withdraw")
+    public ResponseEntity<WalletOperationResponseDto> withdraw(@PathVariable Long id, @Validated @RequestBody WalletMovementRequestDto movementRequest) {
+        return ResponseEntity.ok(walletServiceImpl.withdraw(id, movementRequest));
+    }
+
+    @Operation(summary = "Transferir entre wallets", description = "Mueve el monto del wallet de origen al de destino en una sola operación")
+    @ApiResponse(responseCode = "200", description = "Transferencia registrada correctamente")
+    @ApiResponse(responseCode = "400", description = "Saldo insuficiente u operación inválida")
+    @ApiResponse(responseCode = "404", description = "No se encontró alguno de los wallets")
+    @ApiResponse(responseCode = "409", description = "La requestKey ya se usó para otra operación")
+    @PostMapping("/transfer")
+    public ResponseEntity<WalletOperationResponseDto> transfer(@Validated @RequestBody WalletTransferRequestDto transferRequest) {
+        return ResponseEntity.ok(walletServiceImpl.transfer(transferRequest));
+    }
+
+    @Operation(summary = "Movimientos de un wallet", description = "Devuelve los movimientos del wallet, del más reciente al más antiguo")
+    @ApiResponse(responseCode = "200", description = "Movimientos obtenidos correctamente")
+    @ApiResponse(responseCode = "404", description = "No se encontró el wallet")
+    @GetMapping("/{id}/ledger")
+    public ResponseEntity<WalletLedgerPageResponseDto> findLedger(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(walletServiceImpl.findLedger(id, page, size));
+    }
 }
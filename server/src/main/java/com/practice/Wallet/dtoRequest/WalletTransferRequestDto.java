@@ -0,0 +1,24 @@
+package com.practice.Wallet.dtoRequest;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "DTO para transferir dinero entre Wallets")
+public record WalletTransferRequestDto(
+        @Schema(description = "Clave única de la operación; reenviarla devuelve la operación original")
+        @NotBlank(message = "La clave de la operación es obligatoria")
+        @Size(max = 64, message = "La clave de la operación no puede superar los 64 caracteres")
+        String requestKey,
+        @NotNull(message = "El wallet de origen es obligatorio")
+        Long sourceWalletId,
+        @NotNull(message = "El wallet de destino es obligatorio")
+        Long targetWalletId,
+        @NotNull(message = "El monto es obligatorio")
+        @Positive(message = "El monto debe ser positivo")
+        Double amount,
+        String description
+) {
+}
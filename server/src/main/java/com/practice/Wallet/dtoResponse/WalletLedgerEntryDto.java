@@ -0,0 +1,16 @@
+package com.practice.Wallet.dtoResponse;
+
+import java.time.LocalDateTime;
+
+public record WalletLedgerEntryDto(
+        Long id,
+        Long operationId,
+        Long walletId,
+        String operationType,
+        String direction,
+        Double amount,
+        Double balanceAfter,
+        String description,
+        LocalDateTime createdAt
+) {
+}
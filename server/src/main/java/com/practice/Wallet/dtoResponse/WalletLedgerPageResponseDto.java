@@ -0,0 +1,10 @@
+package com.practice.Wallet.dtoResponse;
+
+import java.util.List;
+
+public record WalletLedgerPageResponseDto(
+        List<WalletLedgerEntryDto> entries,
+        int totalPage,
+        long totalElements
+) {
+}
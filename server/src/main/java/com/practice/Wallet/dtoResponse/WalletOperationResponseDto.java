@@ -0,0 +1,11 @@
+package com.practice.Wallet.dtoResponse;
+
+import java.util.List;
+
+public record WalletOperationResponseDto(
+        Long operationId,
+        String requestKey,
+        boolean replayed,
+        List<WalletLedgerEntryDto> entries
+) {
+}
@@ -0,0 +1,168 @@
+package com.practice.Wallet.ledger;
+
+import com.practice.Wallet.Enum.EnumLedgerDirection;
+import com.practice.Wallet.Enum.EnumWalletOperationType;
+import com.practice.exceptions.IdempotencyKeyConflictException;
+import com.practice.exceptions.InsufficientFundsException;
+import com.practice.exceptions.InvalidWalletOperationException;
+import com.practice.exceptions.WalletNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Aplica operaciones sobre los saldos de las billeteras.
+ *
+ * <p>Cada operación se registra primero con su clave de idempotencia ({@code on conflict do nothing}:
+ * una repetición concurrente espera a la original y luego la encuentra). Los saldos se mueven con un
+ * UPDATE relativo y condicionado a que no queden negativos, sin leer la entidad, así que miles de
+ * cambios sobre la misma billetera solo compiten por el bloqueo de su fila durante la transacción.
+ * Las transferencias actualizan las billeteras en orden de ID para no generar deadlocks.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class WalletLedger {
+    private static final String INSERT_OPERATION_SQL =
+            "insert into wallet_operations (request_key, operation_type, amount, debit_wallet_id, credit_wallet_id, description, created_at) " +
+            "values (?, ?, ?, ?, ?, ?, ?) on conflict do nothing";
+    private static final String FIND_OPERATION_SQL =
+            "select id, operation_type, amount, debit_wallet_id, credit_wallet_id from wallet_operations where request_key = ?";
+    private static final String DEBIT_SQL =
+            "update wallet set current_balance = coalesce(current_balance, 0) - ?, date_last_update = ? " +
+            "where id = ? and coalesce(current_balance, 0) - ? >= 0";
+    private static final String CREDIT_SQL =
+            "update wallet set current_balance = coalesce(current_balance, 0) + ?, date_last_update = ? where id = ?";
+    private static final String BALANCE_SQL = "select current_balance from wallet where id = ?";
+    private static final String LOCK_BALANCE_SQL = "select current_balance from wallet where id = ? for update";
+    private static final String INSERT_ENTRY_SQL =
+            "insert into wallet_ledger_entries (operation_id, wallet_id, direction, amount, balance_after, created_at) " +
+            "values (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Mueve {@code amount} de {@code debitWalletId} a {@code creditWalletId}; cualquiera de los dos
+     * puede ser nulo (depósito o retiro). Se une a la transacción en curso si la hay.
+     */
+    @Transactional
+    public WalletLedgerResult post(String requestKey, EnumWalletOperationType type, double amount,
+                                   Long debitWalletId, Long creditWalletId, String description) {
+        if (amount <= 0 || Double.isNaN(amount) || Double.isInfinite(amount)) {
+            throw new InvalidWalletOperationException("El monto de la operación debe ser positivo");
+        }
+        if ((debitWalletId == null && creditWalletId == null) || Objects.equals(debitWalletId, creditWalletId)) {
+            throw new InvalidWalletOperationException("La operación necesita billeteras de origen y destino distintas");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int inserted = jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_OPERATION_SQL, new String[]{"id"});
+            statement.setString(1, requestKey);
+            statement.setString(2, type.name());
+            statement.setDouble(3, amount);
+            statement.setObject(4, debitWalletId, Types.BIGINT);
+            statement.setObject(5, creditWalletId, Types.BIGINT);
+            statement.setString(6, description);
+            statement.setTimestamp(7, timestamp);
+            return statement;
+        }, keyHolder);
+
+        if (inserted == 0) {
+            StoredOperation operation = jdbcTemplate.queryForObject(FIND_OPERATION_SQL, (rs, rowNum) -> new StoredOperation(
+                    rs.getLong("id"),
+                    rs.getString("operation_type"),
+                    rs.getDouble("amount"),
+                    rs.getObject("debit_wallet_id", Long.class),
+                    rs.getObject("credit_wallet_id", Long.class)), requestKey);
+            if (!operation.type().equals(type.name()) || Double.compare(operation.amount(), amount) != 0
+                    || !Objects.equals(operation.debitWalletId(), debitWalletId)
+                    || !Objects.equals(operation.creditWalletId(), creditWalletId)) {
+                throw new IdempotencyKeyConflictException(String.format(
+                        "La clave %s ya se usó para otra operación (ID %d)", requestKey, operation.id()));
+            }
+            return new WalletLedgerResult(operation.id(), true);
+        }
+        Long operationId = keyHolder.getKeyAs(Long.class);
+
+        List<Object[]> entries = new ArrayList<>(2);
+        boolean debitFirst = creditWalletId == null || (debitWalletId != null && debitWalletId < creditWalletId);
+        if (debitFirst) {
+            debit(operationId, debitWalletId, amount, timestamp, entries);
+            credit(operationId, creditWalletId, amount, timestamp, entries);
+        } else {
+            credit(operationId, creditWalletId, amount, timestamp, entries);
+            debit(operationId, debitWalletId, amount, timestamp, entries);
+        }
+        jdbcTemplate.batchUpdate(INSERT_ENTRY_SQL, entries);
+        return new WalletLedgerResult(operationId, false);
+    }
+
+    /**
+     * Lleva el saldo a {@code targetBalance} registrando la diferencia como ajuste. Bloquea la fila
+     * para que la diferencia no quede desactualizada por un movimiento concurrente.
+     */
+    @Transactional
+    public WalletLedgerResult adjustTo(String requestKey, Long walletId, double targetBalance, String description) {
+        if (targetBalance < 0) {
+            throw new InvalidWalletOperationException("El saldo de una billetera no puede ser negativo");
+        }
+        double current = balance(LOCK_BALANCE_SQL, walletId);
+        double delta = targetBalance - current;
+        if (delta == 0) {
+            return new WalletLedgerResult(null, false);
+        }
+        return delta > 0
+                ? post(requestKey, EnumWalletOperationType.AJUSTE, delta, null, walletId, description)
+                : post(requestKey, EnumWalletOperationType.AJUSTE, -delta, walletId, null, description);
+    }
+
+    private void debit(Long operationId, Long walletId, double amount, Timestamp timestamp, List<Object[]> entries) {
+        if (walletId == null) {
+            return;
+        }
+        if (jdbcTemplate.update(DEBIT_SQL, amount, timestamp, walletId, amount) == 0) {
+            double available = balance(BALANCE_SQL, walletId);
+            throw new InsufficientFundsException(String.format(
+                    "Saldo insuficiente en la billetera %d. Disponible: %.2f, Solicitado: %.2f", walletId, available, amount));
+        }
+        entries.add(new Object[]{operationId, walletId, EnumLedgerDirection.DEBITO.name(), amount,
+                balance(BALANCE_SQL, walletId), timestamp});
+    }
+
+    private void credit(Long operationId, Long walletId, double amount, Timestamp timestamp, List<Object[]> entries) {
+        if (walletId == null) {
+            return;
+        }
+        if (jdbcTemplate.update(CREDIT_SQL, amount, timestamp, walletId) == 0) {
+            throw new WalletNotFoundException(String.format("La billetera con ID %d no fue encontrada", walletId));
+        }
+        entries.add(new Object[]{operationId, walletId, EnumLedgerDirection.CREDITO.name(), amount,
+                balance(BALANCE_SQL, walletId), timestamp});
+    }
+
+    private double balance(String sql, Long walletId) {
+        try {
+            Double balance = jdbcTemplate.queryForObject(sql, Double.class, walletId);
+            return balance != null ? balance : 0.0;
+        } catch (EmptyResultDataAccessException e) {
+            throw new WalletNotFoundException(String.format("La billetera con ID %d no fue encontrada", walletId));
+        }
+    }
+
+    private record StoredOperation(long id, String type, double amount, Long debitWalletId, Long creditWalletId) {
+    }
+}
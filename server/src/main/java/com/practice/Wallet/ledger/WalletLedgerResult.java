@@ -0,0 +1,4 @@
+package com.practice.Wallet.ledger;
+
+public record WalletLedgerResult(Long operationId, boolean replayed) {
+}
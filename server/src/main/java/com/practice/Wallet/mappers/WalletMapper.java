@@ -2,8 +2,10 @@ package com.practice.Wallet.mappers;
 
 import com.practice.User.model.UserModel;
 import com.practice.Wallet.dtoRequest.WalletRequestDto;
+import com.practice.Wallet.dtoResponse.WalletLedgerEntryDto;
 import com.practice.Wallet.dtoResponse.WalletResponseDto;
 import com.practice.Wallet.dtoResponse.WalletUserInfoDto;
+import com.practice.Wallet.model.WalletLedgerEntryView;
 import com.practice.Wallet.model.WalletModel;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
@@ -47,6 +49,20 @@ public class WalletMapper {
         return dto;
     }
 
+    public WalletLedgerEntryDto toLedgerEntryDto(WalletLedgerEntryView view) {
+        return new WalletLedgerEntryDto(
+                view.id(),
+                view.operationId(),
+                view.walletId(),
+                view.operationType().name(),
+                view.direction().name(),
+                view.amount(),
+                view.balanceAfter(),
+                view.description(),
+                view.createdAt()
+        );
+    }
+
     private WalletUserInfoDto toWalletUserResponseDto(UserModel userModel) {
         if (userModel == null) {
             return null;
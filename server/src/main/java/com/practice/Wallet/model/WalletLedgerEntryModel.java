@@ -0,0 +1,44 @@
+package com.practice.Wallet.model;
+
+import com.practice.Wallet.Enum.EnumLedgerDirection;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Movimiento inmutable de una billetera; solo se inserta. {@code balance_after} es el saldo que
+ * quedó al aplicarlo.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "wallet_ledger_entries", indexes = {
+        @Index(name = "idx_wallet_ledger_wallet_id", columnList = "wallet_id, id"),
+        @Index(name = "idx_wallet_ledger_operation", columnList = "operation_id")
+})
+public class WalletLedgerEntryModel {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "operation_id", nullable = false)
+    private Long operationId;
+
+    @Column(name = "wallet_id", nullable = false)
+    private Long walletId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EnumLedgerDirection direction;
+
+    @Column(nullable = false)
+    private Double amount;
+
+    @Column(name = "balance_after", nullable = false)
+    private Double balanceAfter;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,19 @@
+package com.practice.Wallet.model;
+
+import com.practice.Wallet.Enum.EnumLedgerDirection;
+import com.practice.Wallet.Enum.EnumWalletOperationType;
+
+import java.time.LocalDateTime;
+
+public record WalletLedgerEntryView(
+        Long id,
+        Long operationId,
+        Long walletId,
+        EnumWalletOperationType operationType,
+        EnumLedgerDirection direction,
+        Double amount,
+        Double balanceAfter,
+        String description,
+        LocalDateTime createdAt
+) {
+}
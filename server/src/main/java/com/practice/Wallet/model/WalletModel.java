@@ -6,13 +6,19 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
+// Solo se escriben las columnas modificadas: el saldo lo mueve WalletLedger con UPDATE relativos
+// y un guardado de la entidad no debe pisarlo con el valor leído antes
 @Entity
 @Data
 @NoArgsConstructor
-@Table(name = "wallet")
+@DynamicUpdate
+@Table(name = "wallet", indexes = {
+        @Index(name = "idx_wallet_user", columnList = "user_id, id")
+})
 @Builder
 @AllArgsConstructor
 public class WalletModel {
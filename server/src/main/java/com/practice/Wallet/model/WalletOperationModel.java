@@ -0,0 +1,46 @@
+package com.practice.Wallet.model;
+
+import com.practice.Wallet.Enum.EnumWalletOperationType;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Operación del libro de billeteras. {@code request_key} es único: repetir la misma operación
+ * con la misma clave devuelve la original en lugar de aplicarla dos veces. Una billetera nula
+ * del lado del débito o del crédito representa dinero que entra o sale del sistema.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "wallet_operations", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_wallet_operations_request_key", columnNames = "request_key")
+})
+public class WalletOperationModel {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "request_key", nullable = false, length = 64)
+    private String requestKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation_type", nullable = false)
+    private EnumWalletOperationType operationType;
+
+    @Column(nullable = false)
+    private Double amount;
+
+    @Column(name = "debit_wallet_id")
+    private Long debitWalletId;
+
+    @Column(name = "credit_wallet_id")
+    private Long creditWalletId;
+
+    private String description;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
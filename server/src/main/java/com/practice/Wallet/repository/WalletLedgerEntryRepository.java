@@ -0,0 +1,26 @@
+package com.practice.Wallet.repository;
+
+import com.practice.Wallet.model.WalletLedgerEntryModel;
+import com.practice.Wallet.model.WalletLedgerEntryView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface WalletLedgerEntryRepository extends JpaRepository<WalletLedgerEntryModel, Long> {
+    String VIEW = "select new com.practice.Wallet.model.WalletLedgerEntryView(e.id, e.operationId, e.walletId, " +
+            "o.operationType, e.direction, e.amount, e.balanceAfter, o.description, e.createdAt) " +
+            "from WalletLedgerEntryModel e join WalletOperationModel o on o.id = e.operationId ";
+
+    @Query(value = VIEW + "where e.walletId = :walletId order by e.id desc",
+            countQuery = "select count(e) from WalletLedgerEntryModel e where e.walletId = :walletId")
+    Page<WalletLedgerEntryView> findViewsByWalletId(@Param("walletId") Long walletId, Pageable pageable);
+
+    @Query(VIEW + "where e.operationId = :operationId order by e.id")
+    List<WalletLedgerEntryView> findViewsByOperationId(@Param("operationId") Long operationId);
+}
@@ -2,8 +2,16 @@ package com.practice.Wallet.repository;
 
 import com.practice.Wallet.model.WalletModel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface WalletRepository extends JpaRepository<WalletModel,Long> {
+
+    // Billetera contra la que se liquidan las inversiones del usuario: la más antigua
+    @Query("select min(w.id) from WalletModel w where w.user.id = :userId")
+    Optional<Long> findSettlementWalletId(@Param("userId") Long userId);
 }
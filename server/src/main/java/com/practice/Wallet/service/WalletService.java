@@ -1,7 +1,11 @@
 package com.practice.Wallet.service;
 
 import com.practice.Wallet.dtoRequest.WalletCreateRequestDto;
+import com.practice.Wallet.dtoRequest.WalletMovementRequestDto;
+import com.practice.Wallet.dtoRequest.WalletTransferRequestDto;
 import com.practice.Wallet.dtoRequest.WalletUpdateRequestDto;
+import com.practice.Wallet.dtoResponse.WalletLedgerPageResponseDto;
+import com.practice.Wallet.dtoResponse.WalletOperationResponseDto;
 import com.practice.Wallet.dtoResponse.WalletPageResponseDto;
 import com.practice.Wallet.dtoResponse.WalletResponseCreateDto;
 import com.practice.Wallet.dtoResponse.WalletResponseDto;
@@ -16,4 +20,12 @@ public interface WalletService {
     WalletResponseDto updateWallet(Long id , WalletUpdateRequestDto walletUpdateRequestDto);
 
     void deleteWallet(Long id);
+
+    WalletOperationResponseDto deposit(Long id, WalletMovementRequestDto movementRequest);
+
+    WalletOperationResponseDto withdraw(Long id, WalletMovementRequestDto movementRequest);
+
+    WalletOperationResponseDto transfer(WalletTransferRequestDto transferRequest);
+
+    WalletLedgerPageResponseDto findLedger(Long id, int page, int size);
 }
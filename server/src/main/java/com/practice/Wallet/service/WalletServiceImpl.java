@@ -2,25 +2,39 @@ package com.practice.Wallet.service;
 
 import com.practice.User.model.UserModel;
 import com.practice.User.repository.UserRepository;
+import com.practice.Wallet.Enum.EnumWalletOperationType;
 import com.practice.Wallet.dtoRequest.WalletCreateRequestDto;
+import com.practice.Wallet.dtoRequest.WalletMovementRequestDto;
 import com.practice.Wallet.dtoRequest.WalletRequestDto;
+import com.practice.Wallet.dtoRequest.WalletTransferRequestDto;
 import com.practice.Wallet.dtoRequest.WalletUpdateRequestDto;
+import com.practice.Wallet.dtoResponse.WalletLedgerEntryDto;
+import com.practice.Wallet.dtoResponse.WalletLedgerPageResponseDto;
+import com.practice.Wallet.dtoResponse.WalletOperationResponseDto;
 import com.practice.Wallet.dtoResponse.WalletPageResponseDto;
 import com.practice.Wallet.dtoResponse.WalletResponseCreateDto;
 import com.practice.Wallet.dtoResponse.WalletResponseDto;
+import com.practice.Wallet.ledger.WalletLedger;
+import com.practice.Wallet.ledger.WalletLedgerResult;
 import com.practice.Wallet.mappers.WalletMapper;
+import com.practice.Wallet.model.WalletLedgerEntryView;
 import com.practice.Wallet.model.WalletModel;
+import com.practice.Wallet.repository.WalletLedgerEntryRepository;
 import com.practice.Wallet.repository.WalletRepository;
+import com.practice.exceptions.InvalidWalletOperationException;
+import com.practice.exceptions.UserNotFoundException;
+import com.practice.exceptions.WalletNotFoundException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,6 +43,11 @@ public class WalletServiceImpl implements WalletService {
     private final WalletRepository walletRepository;
     private final WalletMapper walletMapper;
     private final UserRepository userRepository;
+    private final WalletLedger walletLedger;
+    private final WalletLedgerEntryRepository walletLedgerEntryRepository;
+
+    private static final String WALLET_NOT_FOUND = "La billetera con ID %d no fue encontrada";
+    private static final String USER_NOT_FOUND = "El usuario con ID %d no fue encontrado";
 
     @Override
     public WalletPageResponseDto findAllWallet(int page, int size) {
@@ -46,51 +65,112 @@ public class WalletServiceImpl implements WalletService {
 
     @Override
     public WalletResponseDto getWalletById(Long id) {
-        WalletModel wallet =
-                walletRepository.findById(id).orElseThrow(
-                        () -> new IllegalArgumentException("Wallet con ID no " +
-                                "encontrado"));
+        WalletModel wallet = walletRepository.findById(id)
+                .orElseThrow(() -> new WalletNotFoundException(String.format(WALLET_NOT_FOUND, id)));
         return walletMapper.toDtoWallet(wallet);
     }
 
     @Override
+    @Transactional
     public WalletResponseCreateDto createWallet(@Valid WalletCreateRequestDto walletCreateRequestDto) {
 
         Double currentBalance = walletCreateRequestDto.currentBalance();
         Long idUser = walletCreateRequestDto.idUser();
-        UserModel userModel = userRepository.findById(idUser).orElseThrow();
+        if (currentBalance != null && currentBalance < 0) {
+            throw new InvalidWalletOperationException("El saldo inicial no puede ser negativo");
+        }
+        UserModel userModel = userRepository.findById(idUser)
+                .orElseThrow(() -> new UserNotFoundException(String.format(USER_NOT_FOUND, idUser)));
         WalletModel walletModel = WalletModel.builder()
-                .currentBalance(currentBalance)
+                .currentBalance(0.0)
                 .user(userModel)
                 .dateLastUpdate(LocalDateTime.now())
                 .build();
         WalletModel walletCreated = walletRepository.save(walletModel);
-        return new WalletResponseCreateDto(walletCreated.getId(), currentBalance, idUser);
+
+        // El saldo inicial entra como depósito para que el libro explique el saldo completo
+        if (currentBalance != null && currentBalance > 0) {
+            walletLedger.post("apertura-wallet-" + walletCreated.getId(), EnumWalletOperationType.DEPOSITO,
+                    currentBalance, null, walletCreated.getId(), "Saldo inicial");
+        }
+        return new WalletResponseCreateDto(walletCreated.getId(), currentBalance != null ? currentBalance : 0.0, idUser);
     }
 
     @Override
+    @Transactional
     public WalletResponseDto updateWallet(Long id, WalletUpdateRequestDto walletUpdateRequestDto) {
-        return walletRepository.findById(id)
-                .map(wallet -> {
-                    wallet.setCurrentBalance(walletUpdateRequestDto.getCurrentBalance());
-                    if (walletUpdateRequestDto.getIdUser() != null) {
-                        UserModel newUser = userRepository.findById(
-                                        walletUpdateRequestDto.getId())
-                                .orElseThrow(
-                                        () -> new NoSuchElementException("Usuario con id" + walletUpdateRequestDto.getIdUser() + "no encontrado"));
-                        wallet.setUser(newUser);
-                    }
-                    wallet.setDateLastUpdate(LocalDateTime.now());
-                    WalletModel updateWallet = walletRepository.save(wallet);
-                    return walletMapper.toDtoWallet(updateWallet);
-                }).orElseThrow(()-> new NoSuchElementException("Wallet con id"+walletUpdateRequestDto.getId()+"no existe"));
+        WalletModel wallet = walletRepository.findById(id)
+                .orElseThrow(() -> new WalletNotFoundException(String.format(WALLET_NOT_FOUND, id)));
+
+        if (walletUpdateRequestDto.getIdUser() != null) {
+            UserModel newUser = userRepository.findById(walletUpdateRequestDto.getIdUser())
+                    .orElseThrow(() -> new UserNotFoundException(String.format(USER_NOT_FOUND, walletUpdateRequestDto.getIdUser())));
+            wallet.setUser(newUser);
+            wallet.setDateLastUpdate(LocalDateTime.now());
+            walletRepository.saveAndFlush(wallet);
+        }
+
+        // El saldo ya no se pisa: la diferencia se registra como ajuste con la fila bloqueada
+        if (walletUpdateRequestDto.getCurrentBalance() != null) {
+            walletLedger.adjustTo("ajuste-" + UUID.randomUUID(), id, walletUpdateRequestDto.getCurrentBalance(),
+                    "Ajuste manual de saldo");
+            // La fila queda bloqueada hasta el commit, así que este valor coincide con la base de datos
+            wallet.setCurrentBalance(walletUpdateRequestDto.getCurrentBalance());
+        }
+        return walletMapper.toDtoWallet(wallet);
     }
 
     @Override
     public void deleteWallet(Long id) {
         if (!walletRepository.existsById(id)) {
-            throw new IllegalArgumentException("Wallet con el id " + id + "no fue encontrado");
+            throw new WalletNotFoundException(String.format(WALLET_NOT_FOUND, id));
         }
         walletRepository.deleteById(id);
     }
+
+    @Override
+    @Transactional
+    public WalletOperationResponseDto deposit(Long id, WalletMovementRequestDto movementRequest) {
+        WalletLedgerResult result = walletLedger.post(movementRequest.requestKey(), EnumWalletOperationType.DEPOSITO,
+                movementRequest.amount(), null, id, movementRequest.description());
+        return toOperationResponse(movementRequest.requestKey(), result);
+    }
+
+    @Override
+    @Transactional
+    public WalletOperationResponseDto withdraw(Long id, WalletMovementRequestDto movementRequest) {
+        WalletLedgerResult result = walletLedger.post(movementRequest.requestKey(), EnumWalletOperationType.RETIRO,
+                movementRequest.amount(), id, null, movementRequest.description());
+        return toOperationResponse(movementRequest.requestKey(), result);
+    }
+
+    @Override
+    @Transactional
+    public WalletOperationResponseDto transfer(WalletTransferRequestDto transferRequest) {
+        WalletLedgerResult result = walletLedger.post(transferRequest.requestKey(), EnumWalletOperationType.TRANSFERENCIA,
+                transferRequest.amount(), transferRequest.sourceWalletId(), transferRequest.targetWalletId(),
+                transferRequest.description());
+        return toOperationResponse(transferRequest.requestKey(), result);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public WalletLedgerPageResponseDto findLedger(Long id, int page, int size) {
+        if (!walletRepository.existsById(id)) {
+            throw new WalletNotFoundException(String.format(WALLET_NOT_FOUND, id));
+        }
+        Page<WalletLedgerEntryView> entries = walletLedgerEntryRepository.findViewsByWalletId(id, PageRequest.of(page, size));
+        List<WalletLedgerEntryDto> dtos = entries.getContent().stream()
+                .map(walletMapper::toLedgerEntryDto)
+                .collect(Collectors.toList());
+        return new WalletLedgerPageResponseDto(dtos, entries.getTotalPages(), entries.getTotalElements());
+    }
+
+    private WalletOperationResponseDto toOperationResponse(String requestKey, WalletLedgerResult result) {
+        List<WalletLedgerEntryDto> entries = walletLedgerEntryRepository.findViewsByOperationId(result.operationId())
+                .stream()
+                .map(walletMapper::toLedgerEntryDto)
+                .collect(Collectors.toList());
+        return new WalletOperationResponseDto(result.operationId(), requestKey, result.replayed(), entries);
+    }
 }
@@ -0,0 +1,43 @@
+package com.practice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Dimensiona el pool de Hikari según los núcleos disponibles: núcleos * per-core + spare conexiones,
+ * con tamaño fijo (minimumIdle = maximumPoolSize). Un valor explícito de
+ * {@code spring.datasource.hikari.maximum-pool-size} tiene prioridad.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "datasource.pool.size-from-cores", havingValue = "true")
+public class DataSourcePoolConfig {
+    private static final String EXPLICIT_SIZE_PROPERTY = "spring.datasource.hikari.maximum-pool-size";
+
+    // Estático: los BeanPostProcessor se crean antes que el resto de la configuración
+    @Bean
+    public static BeanPostProcessor hikariPoolSizer(Environment environment) {
+        int perCore = environment.getProperty("datasource.pool.per-core", Integer.class, 2);
+        int spare = environment.getProperty("datasource.pool.spare", Integer.class, 1);
+        boolean explicit = environment.containsProperty(EXPLICIT_SIZE_PROPERTY);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && !explicit) {
+                    int cores = Runtime.getRuntime().availableProcessors();
+                    int size = Math.max(2, cores * Math.max(1, perCore) + Math.max(0, spare));
+                    dataSource.setMaximumPoolSize(size);
+                    dataSource.setMinimumIdle(size);
+                    log.info("Pool de conexiones dimensionado en {} ({} núcleos)", size, cores);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package com.practice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Con spring.threads.virtual.enabled las tareas @Async y @Scheduled corren en hilos virtuales
+@Configuration
+@EnableScheduling
+@EnableAsync
+public class SchedulingConfig {
+}
@@ -0,0 +1,84 @@
+package com.practice.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Registra los hilos virtuales que quedan fijados a su carrier (bloqueo dentro de un
+ * {@code synchronized} o de código nativo) más tiempo que el umbral configurado. Escucha el
+ * evento JFR {@code jdk.VirtualThreadPinned} en proceso, así no hace falta arrancar con
+ * {@code -Djdk.tracePinnedThreads}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "threads.pinning-monitor.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Counter pinned;
+    private final Timer pinnedDuration;
+    private final Duration threshold;
+    private final int stackDepth;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${threads.pinning-monitor.threshold-ms:20}") long thresholdMillis,
+                                       @Value("${threads.pinning-monitor.stack-depth:8}") int stackDepth) {
+        this.pinned = meterRegistry.counter("threads.virtual.pinned");
+        this.pinnedDuration = Timer.builder("threads.virtual.pinned.duration")
+                .description("Tiempo que un hilo virtual permaneció fijado a su carrier")
+                .register(meterRegistry);
+        this.threshold = Duration.ofMillis(Math.max(0, thresholdMillis));
+        this.stackDepth = Math.max(1, stackDepth);
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Monitor de hilos virtuales fijados activo (umbral {} ms)", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+        pinnedDuration.record(event.getDuration());
+        log.warn("Hilo virtual fijado {} ms en {}:\n{}", event.getDuration().toMillis(),
+                event.getThread() != null ? event.getThread().getJavaName() : "?", topFrames(event.getStackTrace()));
+    }
+
+    private String topFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(sin stack trace)";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+                .limit(stackDepth)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -1,7 +1,7 @@
 package com.practice.config.filters;
 
-import com.auth0.jwt.interfaces.DecodedJWT;
 import com.practice.config.jwt.JwtUtils;
+import com.practice.config.jwt.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,14 +11,11 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collection;
 
 @Slf4j
 public class JwtTokenValidator extends OncePerRequestFilter {
@@ -40,19 +37,12 @@ public class JwtTokenValidator extends OncePerRequestFilter {
 
 
             try {
-                DecodedJWT decodedJWT = jwtUtils.validateToken(jwtToken);
-
-
-                String username = jwtUtils.extractUsername(decodedJWT);
-
-                String stringAuthorities = jwtUtils.getSpecificClaim(decodedJWT, "authorities").asString();
-
-
-                Collection<? extends GrantedAuthority> authorities = AuthorityUtils.commaSeparatedStringToAuthorityList(stringAuthorities);
+                VerifiedToken verifiedToken = jwtUtils.verify(jwtToken);
 
 
                 SecurityContext securityContext = SecurityContextHolder.getContext();
-                Authentication authentication = new UsernamePasswordAuthenticationToken(username, null, authorities);
+                Authentication authentication = new UsernamePasswordAuthenticationToken(
+                        verifiedToken.subject(), null, verifiedToken.authorities());
                 securityContext.setAuthentication(authentication);
                 SecurityContextHolder.setContext(securityContext);
 
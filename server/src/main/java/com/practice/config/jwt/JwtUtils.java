@@ -6,6 +6,9 @@ import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.JWTVerifier;
+import com.practice.User.security.AuthorityRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -14,12 +17,14 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Component;
 
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class JwtUtils {
     @Value("${jwt.secret.key}")
     private String SECRET_KEY;
@@ -30,11 +35,25 @@ public class JwtUtils {
     @Value("${jwt.expiration.time}")
     private long EXPIRATION_TIME;
 
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AuthorityRegistry authorityRegistry;
+
+    // Algorithm y JWTVerifier son inmutables y thread-safe: se construyen una sola vez
+    private Algorithm algorithm;
+    private JWTVerifier verifier;
+
+    @PostConstruct
+    public void init() {
+        this.algorithm = Algorithm.HMAC256(this.SECRET_KEY);
+        this.verifier = JWT.require(algorithm)
+                .withIssuer(this.SECRET_USER_KEY)
+                .build();
+    }
+
     // Generar un token de acceso
     public String generateJwtToken(Authentication authentication) {
 
         String username;
-        Algorithm algorithm = Algorithm.HMAC256(this.SECRET_KEY);
 
         //String username = authentication.getPrincipal().toString();
         if (authentication.getPrincipal() instanceof OAuth2User oauthUser) {
@@ -70,16 +89,35 @@ public class JwtUtils {
     //Decodificar el token y validarlo
     public DecodedJWT validateToken(String token) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(this.SECRET_KEY);
-            JWTVerifier verifier = JWT.require(algorithm)
-                    .withIssuer(this.SECRET_USER_KEY)
-                    .build();
             return verifier.verify(token);
         } catch (JWTVerificationException e) {
             throw new JWTVerificationException("Token Invalid, not Authorized");
         }
     }
 
+    // Validar el token reutilizando verificaciones previas del mismo token hasta su expiración
+    public VerifiedToken verify(String token) {
+        long now = System.currentTimeMillis();
+        String digest = VerifiedTokenCache.digest(token);
+        VerifiedToken cached = verifiedTokenCache.get(digest, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        DecodedJWT decodedJWT = validateToken(token);
+        List<GrantedAuthority> grantedAuthorities =
+                authorityRegistry.fromClaim(decodedJWT.getClaim("authorities").asString());
+        Date expiresAt = decodedJWT.getExpiresAt();
+        VerifiedToken verified = new VerifiedToken(decodedJWT.getSubject(), grantedAuthorities,
+                expiresAt != null ? expiresAt.getTime() : Long.MAX_VALUE);
+
+        // Sin exp no hay cuándo desalojarlo: solo se cachean tokens que vencen
+        if (expiresAt != null) {
+            verifiedTokenCache.put(digest, verified, now);
+        }
+        return verified;
+    }
+
     // Obtener el username del token
     public String extractUsername(DecodedJWT token) {
         return token.getSubject();
@@ -0,0 +1,15 @@
+package com.practice.config.jwt;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+
+/**
+ * Resultado de validar un token: lo que el filtro necesita para autenticar la petición.
+ */
+public record VerifiedToken(String subject, List<GrantedAuthority> authorities, long expiresAtMillis) {
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,112 @@
+package com.practice.config.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Tokens ya verificados, indexados por el SHA-256 del token (nunca se guarda el token en claro).
+ *
+ * <p>Cada entrada vence en el {@code exp} del token. El tamaño está acotado: al superarlo se
+ * descarta la entrada que vence antes (primero las ya vencidas), en O(log n) y sin recorrer
+ * el mapa. Las lecturas no toman locks.</p>
+ */
+@Component
+public class VerifiedTokenCache {
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    });
+
+    private final ConcurrentHashMap<String, VerifiedToken> entries = new ConcurrentHashMap<>();
+    // Las mismas entradas ordenadas por vencimiento; el mismo token repetido produce la misma clave
+    private final ConcurrentSkipListSet<ExpiryKey> byExpiry = new ConcurrentSkipListSet<>(
+            Comparator.comparingLong(ExpiryKey::expiresAtMillis).thenComparing(ExpiryKey::digest));
+    private final int maxSize;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter expirations;
+    private final Counter evictions;
+
+    public VerifiedTokenCache(MeterRegistry meterRegistry,
+                              @Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.hits = meterRegistry.counter("jwt.verified.cache.hits");
+        this.misses = meterRegistry.counter("jwt.verified.cache.misses");
+        this.expirations = meterRegistry.counter("jwt.verified.cache.expirations");
+        this.evictions = meterRegistry.counter("jwt.verified.cache.evictions");
+        Gauge.builder("jwt.verified.cache.size", entries, ConcurrentHashMap::size).register(meterRegistry);
+    }
+
+    public static String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    /** Devuelve el token verificado o {@code null} si no está o ya venció. */
+    public VerifiedToken get(String digest, long nowMillis) {
+        VerifiedToken token = entries.get(digest);
+        if (token == null) {
+            misses.increment();
+            return null;
+        }
+        if (token.isExpired(nowMillis)) {
+            if (entries.remove(digest, token)) {
+                byExpiry.remove(new ExpiryKey(token.expiresAtMillis(), digest));
+            }
+            expirations.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return token;
+    }
+
+    public void put(String digest, VerifiedToken token, long nowMillis) {
+        if (maxSize <= 0 || token.isExpired(nowMillis)) {
+            return;
+        }
+        VerifiedToken previous = entries.put(digest, token);
+        if (previous != null && previous.expiresAtMillis() != token.expiresAtMillis()) {
+            byExpiry.remove(new ExpiryKey(previous.expiresAtMillis(), digest));
+        }
+        byExpiry.add(new ExpiryKey(token.expiresAtMillis(), digest));
+        while (entries.size() > maxSize) {
+            ExpiryKey eldest = byExpiry.pollFirst();
+            if (eldest == null) {
+                break;
+            }
+            VerifiedToken evicted = entries.get(eldest.digest());
+            if (evicted != null && evicted.expiresAtMillis() == eldest.expiresAtMillis()
+                    && entries.remove(eldest.digest(), evicted)) {
+                if (evicted.isExpired(nowMillis)) {
+                    expirations.increment();
+                } else {
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+        byExpiry.clear();
+    }
+
+    private record ExpiryKey(long expiresAtMillis, String digest) {
+    }
+}
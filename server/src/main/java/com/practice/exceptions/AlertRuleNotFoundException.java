@@ -0,0 +1,7 @@
+package com.practice.exceptions;
+
+public class AlertRuleNotFoundException extends RuntimeException {
+    public AlertRuleNotFoundException(String message) {
+        super(message);
+    }
+}
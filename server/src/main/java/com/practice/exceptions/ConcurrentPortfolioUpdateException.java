@@ -0,0 +1,7 @@
+package com.practice.exceptions;
+
+public class ConcurrentPortfolioUpdateException extends RuntimeException {
+    public ConcurrentPortfolioUpdateException(String message) {
+        super(message);
+    }
+}
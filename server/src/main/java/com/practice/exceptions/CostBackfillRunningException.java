@@ -0,0 +1,7 @@
+package com.practice.exceptions;
+
+public class CostBackfillRunningException extends RuntimeException {
+    public CostBackfillRunningException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.practice.exceptions;
+
+public class CostNotFoundException extends RuntimeException {
+    public CostNotFoundException(String message) {
+        super(message);
+    }
+}
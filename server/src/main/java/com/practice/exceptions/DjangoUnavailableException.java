@@ -0,0 +1,11 @@
+package com.practice.exceptions;
+
+public class DjangoUnavailableException extends RuntimeException {
+    public DjangoUnavailableException(String message) {
+        super(message);
+    }
+
+    public DjangoUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
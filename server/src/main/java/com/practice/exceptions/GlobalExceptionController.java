@@ -172,6 +172,18 @@ public class GlobalExceptionController {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    @ExceptionHandler(ConcurrentPortfolioUpdateException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentPortfolioUpdateException(ConcurrentPortfolioUpdateException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "PORTFOLIO_CONFLICT",
+                "El portafolio fue modificado por otra operación",
+                Collections.singletonList(ex.getMessage())
+        );
+
+        log.warn("Concurrent portfolio update: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     @ExceptionHandler(TransactionNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleTransactionNotFoundException(TransactionNotFoundException ex) {
         ErrorResponse errorResponse = new ErrorResponse(
@@ -208,6 +220,212 @@ public class GlobalExceptionController {
     }
 
 
+    @ExceptionHandler(InvalidTickException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidTickException(InvalidTickException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "PRICE_HISTORY_ERROR",
+                "Ha ocurrido un error con el historial de precios",
+                Collections.singletonList(ex.getMessage())
+        );
+
+        log.warn("Invalid tick: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "INVALID_CURSOR",
+                "El cursor de paginación es inválido",
+                Collections.singletonList(ex.getMessage())
+        );
+
+        log.warn("Invalid cursor: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(DjangoUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleDjangoUnavailableException(DjangoUnavailableException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "RECOMMENDER_UNAVAILABLE",
+                "El servicio de recomendaciones no está disponible",
+                Collections.singletonList(ex.getMessage())
+        );
+
+        log.warn("Recommender unavailable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    @ExceptionHandler(RecommendationJobRunningException.class)
+    public ResponseEntity<ErrorResponse> handleRecommendationJobRunningException(RecommendationJobRunningException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "RECOMMENDATION_JOB_RUNNING",
+                "El precálculo de recomendaciones ya está en curso",
+                Collections.singletonList(ex.getMessage())
+        );
+
+        log.warn("Recommendation job already running: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidIncludeException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidIncludeException(InvalidIncludeException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "INVALID_INCLUDE",
+                "Las colecciones solicitadas no son válidas",
+                Collections.singletonList(ex.getMessage())
+        );
+
+        log.warn("Invalid include: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(InstrumentNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleInstrumentNotFoundException(InstrumentNotFoundException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "INSTRUMENT_NOT_FOUND",
+                "El instrumento no fue encontrado",
+                Collections.singletonList(ex.getMessage())
+        );
+
+        log.warn("Instrument not found: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    @ExceptionHandler(AlertRuleNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleAlertRuleNotFoundException(AlertRuleNotFoundException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "ALERT_RULE_NOT_FOUND",
+                "La alerta no fue encontrada",
+                Collections.singletonList(ex.getMessage())
+        );
+
+        log.warn("Alert rule not found: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidAlertRuleException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidAlertRuleException(InvalidAlertRuleException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "INVALID_ALERT_RULE",
+                "La alerta no es válida",
+                Collections.singletonList(ex.getMessage())
+        );
+
+        log.warn("Invalid alert rule: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(ObjectiveNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleObjectiveNotFoundException(ObjectiveNotFoundException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "OBJECTIVE_NOT_FOUND",
+                "El objetivo no fue encontrado",
+                Collections.singletonList(ex.getMessage())
+        );
+
+        log.warn("Objective not found: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidObjectiveException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidObjectiveException(InvalidObjectiveException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "INVALID_OBJECTIVE",
+                "El objetivo no tiene los datos necesarios",
+                Collections.singletonList(ex.getMessage())
+        );
+
+        log.warn("Invalid objective: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(CostNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleCostNotFoundException(CostNotFoundException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "COST_NOT_FOUND",
+                "El gasto no fue encontrado",
+                Collections.singletonList(ex.getMessage())
+        );
+
+        log.warn("Cost not found: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidDateRangeException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidDateRangeException(InvalidDateRangeException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "INVALID_DATE_RANGE",
+                "El rango de fechas no es válido",
+                Collections.singletonList(ex.getMessage())
+        );
+
+        log.warn("Invalid date range: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(CostBackfillRunningException.class)
+    public ResponseEntity<ErrorResponse> handleCostBackfillRunningException(CostBackfillRunningException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "COST_BACKFILL_RUNNING",
+                "La reconstrucción de acumulados de gastos ya está en curso",
+                Collections.singletonList(ex.getMessage())
+        );
+
+        log.warn("Cost backfill already running: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    @ExceptionHandler(WalletNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleWalletNotFoundException(WalletNotFoundException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "WALLET_NOT_FOUND",
+                "La billetera no fue encontrada",
+                Collections.singletonList(ex.getMessage())
+        );
+
+        log.warn("Wallet not found: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    @ExceptionHandler(InsufficientFundsException.class)
+    public ResponseEntity<ErrorResponse> handleInsufficientFundsException(InsufficientFundsException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "INSUFFICIENT_FUNDS",
+                "Saldo insuficiente",
+                Collections.singletonList(ex.getMessage())
+        );
+
+        log.warn("Insufficient funds: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidWalletOperationException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidWalletOperationException(InvalidWalletOperationException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "INVALID_WALLET_OPERATION",
+                "La operación de billetera no es válida",
+                Collections.singletonList(ex.getMessage())
+        );
+
+        log.warn("Invalid wallet operation: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyConflictException(IdempotencyKeyConflictException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "IDEMPOTENCY_KEY_CONFLICT",
+                "La clave de la operación ya fue usada",
+                Collections.singletonList(ex.getMessage())
+        );
+
+        log.warn("Idempotency key conflict: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception ex, HttpServletRequest request) {
         String path = request.getRequestURI();
@@ -0,0 +1,7 @@
+package com.practice.exceptions;
+
+public class InsufficientFundsException extends RuntimeException {
+    public InsufficientFundsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.practice.exceptions;
+
+public class InvalidAlertRuleException extends RuntimeException {
+    public InvalidAlertRuleException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.practice.exceptions;
+
+public class InvalidIncludeException extends RuntimeException {
+    public InvalidIncludeException(String message) {
+        super(message);
+    }
+}
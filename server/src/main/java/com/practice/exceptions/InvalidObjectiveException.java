@@ -0,0 +1,7 @@
+package com.practice.exceptions;
+
+public class InvalidObjectiveException extends RuntimeException {
+    public InvalidObjectiveException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.practice.exceptions;
+
+public class InvalidTickException extends RuntimeException {
+    public InvalidTickException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.practice.exceptions;
+
+public class InvalidWalletOperationException extends RuntimeException {
+    public InvalidWalletOperationException(String message) {
+        super(message);
+    }
+}
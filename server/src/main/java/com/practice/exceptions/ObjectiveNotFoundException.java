@@ -0,0 +1,7 @@
+package com.practice.exceptions;
+
+public class ObjectiveNotFoundException extends RuntimeException {
+    public ObjectiveNotFoundException(String message) {
+        super(message);
+    }
+}
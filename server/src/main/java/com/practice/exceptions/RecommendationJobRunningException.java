@@ -0,0 +1,7 @@
+package com.practice.exceptions;
+
+public class RecommendationJobRunningException extends RuntimeException {
+    public RecommendationJobRunningException(String message) {
+        super(message);
+    }
+}
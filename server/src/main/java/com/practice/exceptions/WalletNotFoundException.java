@@ -0,0 +1,7 @@
+package com.practice.exceptions;
+
+public class WalletNotFoundException extends RuntimeException {
+    public WalletNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,270 @@
+-- Esquema inicial. Debe coincidir con las entidades JPA: al arrancar Hibernate solo lo valida (ddl-auto=validate).
+
+-- Secuencias con bloques de 50 (optimizador pooled-lo, ver hibernate.id.optimizer.pooled.preferred)
+create sequence transactions_seq start with 1 increment by 50;
+create sequence notifications_seq start with 1 increment by 50;
+create sequence costs_seq start with 1 increment by 50;
+create sequence notice_seq start with 1 increment by 50;
+
+-- Usuarios, roles y permisos
+create table users
+(
+    id            bigint generated by default as identity primary key,
+    photo_url     varchar(255),
+    google_id     varchar(255),
+    email         varchar(255),
+    password      varchar(255),
+    name          varchar(255),
+    last_name     varchar(255),
+    phone_number  bigint,
+    country       varchar(255),
+    birth_date    timestamp(6),
+    register_date timestamp(6),
+    last_login    timestamp(6),
+    constraint uk_users_email unique (email)
+);
+create index idx_users_google_id on users (google_id);
+
+create table roles
+(
+    id        bigint generated by default as identity primary key,
+    role_name varchar(255)
+);
+
+create table permission
+(
+    id   bigint generated by default as identity primary key,
+    name varchar(255) not null,
+    constraint uk_permission_name unique (name)
+);
+
+create table users_roles
+(
+    user_id bigint not null references users (id),
+    role_id bigint not null references roles (id),
+    primary key (user_id, role_id)
+);
+create index idx_users_roles_role on users_roles (role_id);
+
+create table role_permission
+(
+    role_id       bigint not null references roles (id),
+    permission_id bigint not null references permission (id),
+    primary key (role_id, permission_id)
+);
+create index idx_role_permission_permission on role_permission (permission_id);
+
+create table financing_profile
+(
+    id               bigint generated by default as identity primary key,
+    knowledge_level  varchar(255),
+    risk_profile     varchar(255),
+    income_monthly   float(53),
+    expenses_monthly float(53),
+    percentage_save  float(53),
+    total_debt       float(53),
+    saving_total     float(53),
+    patrimony_total  float(53),
+    updated_at       timestamp(6),
+    user_id          bigint references users (id),
+    constraint uk_financing_profile_user unique (user_id)
+);
+
+-- Instrumentos y portafolio
+create table instruments
+(
+    id              bigint generated by default as identity primary key,
+    ticker          varchar(255),
+    name            varchar(255),
+    investment_type varchar(255),
+    sector          varchar(255),
+    quotes          float(53),
+    description     varchar(255),
+    divisa          varchar(255),
+    state           boolean
+);
+
+create table portfolio
+(
+    id             bigint generated by default as identity primary key,
+    quantity       integer,
+    purchase_price float(53),
+    purchase_date  date,
+    version        bigint not null default 0,
+    updated_at     timestamp(6),
+    user_id        bigint references users (id),
+    instrument_id  bigint references instruments (id),
+    -- También sirve como índice de portfolio.user_id (findByUserAndInstrument, posiciones por usuario)
+    constraint uk_portfolio_user_instrument unique (user_id, instrument_id)
+);
+create index idx_portfolio_instrument on portfolio (instrument_id);
+
+create table transactions
+(
+    id               bigint primary key,
+    transaction_type varchar(255),
+    unit_price       float(53),
+    quantity         integer,
+    commission       float(53),
+    operation_date   date not null default current_date,
+    portfolio_id     bigint references portfolio (id)
+);
+-- Paginación por cursor global y exportación por portafolio, ambas ordenadas por (operation_date, id)
+create index idx_transactions_operation_date_id on transactions (operation_date, id);
+create index idx_transactions_portfolio_date_id on transactions (portfolio_id, operation_date, id);
+
+create table recommendations
+(
+    id                  bigint generated by default as identity primary key,
+    recommendation_type varchar(255),
+    motion              varchar(255),
+    create_date         timestamp(6),
+    state               boolean,
+    user_id             bigint references users (id),
+    instrument_id       bigint references instruments (id),
+    constraint uk_recommendation_user_instrument unique (user_id, instrument_id)
+);
+create index idx_recommendations_instrument on recommendations (instrument_id);
+
+create table recommendation_job_checkpoint
+(
+    job_name         varchar(255) primary key,
+    watermark        timestamp(6),
+    run_started_at   timestamp(6),
+    run_full         boolean,
+    last_full_run_at timestamp(6),
+    catalog_hash     bigint,
+    cursor_user_id   bigint,
+    status           varchar(255),
+    processed_users  bigint,
+    updated_at       timestamp(6)
+);
+
+create table alert_rules
+(
+    id              bigint generated by default as identity primary key,
+    alert_type      varchar(255),
+    threshold       float(53),
+    reference_price float(53),
+    upper_level     float(53),
+    lower_level     float(53),
+    active          boolean,
+    create_date     timestamp(6),
+    triggered_at    timestamp(6),
+    user_id         bigint references users (id),
+    instrument_id   bigint references instruments (id)
+);
+create index idx_alert_rules_user on alert_rules (user_id);
+create index idx_alert_rules_instrument_active on alert_rules (instrument_id, active);
+
+-- Notificaciones y noticias
+create table notifications
+(
+    id                bigint primary key,
+    type_notification varchar(255),
+    message           varchar(255),
+    date_create       timestamp(6),
+    is_read           boolean,
+    user_id           bigint references users (id)
+);
+-- Bandeja paginada por fecha, no leídas por usuario y stream SSE por id
+create index idx_notifications_user_read_date on notifications (user_id, is_read, date_create);
+create index idx_notifications_user_date_id on notifications (user_id, date_create, id);
+create index idx_notifications_user_id on notifications (user_id, id);
+
+create table notice
+(
+    id           bigint primary key,
+    author       varchar(255),
+    published_at date,
+    title        varchar(255),
+    description  varchar(255),
+    comments     varchar(255),
+    image_url    varchar(255)
+);
+
+-- Objetivos
+create table objectives
+(
+    id               bigint generated by default as identity primary key,
+    description      varchar(255),
+    objectuve_type   varchar(255),
+    amount_objective float(53),
+    annual_progress  float(53),
+    priority         varchar(255),
+    frequency        varchar(255),
+    start_date       timestamp(6),
+    target_date      timestamp(6),
+    user_id          bigint references users (id)
+);
+create index idx_objectives_user on objectives (user_id);
+
+-- Gastos
+create table costs
+(
+    id          bigint primary key,
+    user_id     bigint references users (id),
+    type        varchar(255),
+    description varchar(255),
+    category    varchar(255),
+    amount      float(53),
+    date        timestamp(6),
+    update_date timestamp(6)
+);
+create index idx_costs_user_date on costs (user_id, date);
+
+create table cost_monthly_rollups
+(
+    id           bigint generated by default as identity primary key,
+    user_id      bigint       not null,
+    period_month date         not null,
+    category     varchar(255) not null,
+    total_amount float(53)    not null,
+    entries      bigint       not null,
+    constraint uk_cost_rollups_user_month_category unique (user_id, period_month, category)
+);
+
+create table cost_budgets
+(
+    id            bigint generated by default as identity primary key,
+    user_id       bigint       not null,
+    category      varchar(255) not null,
+    monthly_limit float(53)    not null,
+    constraint uk_cost_budgets_user_category unique (user_id, category)
+);
+
+-- Billeteras y libro mayor
+create table wallet
+(
+    id               bigint generated by default as identity primary key,
+    user_id          bigint references users (id),
+    current_balance  float(53),
+    date_last_update timestamp(6)
+);
+create index idx_wallet_user on wallet (user_id, id);
+
+create table wallet_operations
+(
+    id               bigint generated by default as identity primary key,
+    request_key      varchar(64)  not null,
+    operation_type   varchar(255) not null,
+    amount           float(53)    not null,
+    debit_wallet_id  bigint,
+    credit_wallet_id bigint,
+    description      varchar(255),
+    created_at       timestamp(6) not null,
+    constraint uk_wallet_operations_request_key unique (request_key)
+);
+
+create table wallet_ledger_entries
+(
+    id            bigint generated by default as identity primary key,
+    operation_id  bigint       not null,
+    wallet_id     bigint       not null,
+    direction     varchar(255) not null,
+    amount        float(53)    not null,
+    balance_after float(53)    not null,
+    created_at    timestamp(6) not null
+);
+create index idx_wallet_ledger_wallet_id on wallet_ledger_entries (wallet_id, id);
+create index idx_wallet_ledger_operation on wallet_ledger_entries (operation_id);
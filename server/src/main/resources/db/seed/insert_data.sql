@@ -75,31 +75,31 @@ VALUES (1, 1, 100, 102.5, '2024-12-31'),
 
 
 -- Tabla Movimiento
-INSERT INTO transactions (portfolio_id, transaction_type, quantity, unit_price, commission)
-VALUES (1, 'COMPRA', 100, 150.75, 15.),
-       (2, 'VENTA', 50, 120.4, 12.0),
-       (3, 'COMPRA', 200, 99.8, 20.0),
-       (4, 'VENTA', 150, 250.0, 25.0),
-       (1, 'COMPRA', 300, 85.3, 8.5),
-       (2, 'VENTA', 75, 300.5, 30.0);
+INSERT INTO transactions (id, portfolio_id, transaction_type, quantity, unit_price, commission)
+VALUES (nextval('transactions_seq'), 1, 'COMPRA', 100, 150.75, 15.),
+       (nextval('transactions_seq'), 2, 'VENTA', 50, 120.4, 12.0),
+       (nextval('transactions_seq'), 3, 'COMPRA', 200, 99.8, 20.0),
+       (nextval('transactions_seq'), 4, 'VENTA', 150, 250.0, 25.0),
+       (nextval('transactions_seq'), 1, 'COMPRA', 300, 85.3, 8.5),
+       (nextval('transactions_seq'), 2, 'VENTA', 75, 300.5, 30.0);
 
 
 -- Tabla Gastos
-INSERT INTO costs (user_id, type, description, category, amount, date, update_date)
-VALUES (1, 'Fijo', 'Suscripción mensual a plataforma de análisis financiero.', 'Servicios', 20.0, '2025-01-01',
+INSERT INTO costs (id, user_id, type, description, category, amount, date, update_date)
+VALUES (nextval('costs_seq'), 1, 'Fijo', 'Suscripción mensual a plataforma de análisis financiero.', 'Servicios', 20.0, '2025-01-01',
         '2025-01-01'),
-       (1, 'Variable', 'Compra de literatura financiera.', 'Educación', 35.5, '2025-01-02', '2025-01-02'),
-       (2, 'Fijo', 'Tarifa de mantenimiento de cuenta.', 'Bancario', 15.0, '2025-01-03', '2025-01-03'),
-       (2, 'Variable', 'Comisión por operación bursátil.', 'Inversiones', 50.0, '2025-01-04', '2025-01-04'),
-       (3, 'Fijo', 'Servicio de almacenamiento en la nube.', 'Tecnología', 10.0, '2025-01-05', '2025-01-05');
+       (nextval('costs_seq'), 1, 'Variable', 'Compra de literatura financiera.', 'Educación', 35.5, '2025-01-02', '2025-01-02'),
+       (nextval('costs_seq'), 2, 'Fijo', 'Tarifa de mantenimiento de cuenta.', 'Bancario', 15.0, '2025-01-03', '2025-01-03'),
+       (nextval('costs_seq'), 2, 'Variable', 'Comisión por operación bursátil.', 'Inversiones', 50.0, '2025-01-04', '2025-01-04'),
+       (nextval('costs_seq'), 3, 'Fijo', 'Servicio de almacenamiento en la nube.', 'Tecnología', 10.0, '2025-01-05', '2025-01-05');
 
 -- Tabla Notificacion
-INSERT INTO notifications (user_id, type_notification, message, date_create, is_read)
-VALUES (1, 'RECOMENDACION', 'Revisar nueva recomendación para Bonos Nacionales.', '2025-01-01', FALSE),
-       (1, 'ALERTA_MERCADO', 'El mercado tecnológico muestra alta volatilidad.', '2025-01-02', TRUE),
-       (2, 'OBJETIVO', 'Has alcanzado tu objetivo de ahorro mensual.', '2025-01-03', TRUE),
-       (2, 'SISTEMA', 'Actualización completada en la base de datos.', '2025-01-04', FALSE),
-       (3, 'RECOMENDACION', 'Considera vender Acciones PharmaLife.', '2025-01-05', TRUE);
+INSERT INTO notifications (id, user_id, type_notification, message, date_create, is_read)
+VALUES (nextval('notifications_seq'), 1, 'RECOMENDACION', 'Revisar nueva recomendación para Bonos Nacionales.', '2025-01-01', FALSE),
+       (nextval('notifications_seq'), 1, 'ALERTA_MERCADO', 'El mercado tecnológico muestra alta volatilidad.', '2025-01-02', TRUE),
+       (nextval('notifications_seq'), 2, 'OBJETIVO', 'Has alcanzado tu objetivo de ahorro mensual.', '2025-01-03', TRUE),
+       (nextval('notifications_seq'), 2, 'SISTEMA', 'Actualización completada en la base de datos.', '2025-01-04', FALSE),
+       (nextval('notifications_seq'), 3, 'RECOMENDACION', 'Considera vender Acciones PharmaLife.', '2025-01-05', TRUE);
 
 
 -- Tabla Wallet
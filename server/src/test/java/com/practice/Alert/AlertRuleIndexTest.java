@@ -0,0 +1,72 @@
+package com.practice.Alert;
+
+import com.practice.Alert.engine.AlertRuleIndex;
+import com.practice.Alert.engine.FiredAlert;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AlertRuleIndexTest {
+    private static final long INSTRUMENT = 7L;
+
+    @Test
+    void quoteFiresOnlyTheLevelsItCrosses() {
+        AlertRuleIndex index = new AlertRuleIndex();
+        index.add(INSTRUMENT, 1, 10, 110, Double.NaN);
+        index.add(INSTRUMENT, 2, 10, 120, Double.NaN);
+        index.add(INSTRUMENT, 3, 11, 130, Double.NaN);
+        index.add(INSTRUMENT, 4, 11, Double.NaN, 90);
+        index.add(INSTRUMENT, 5, 12, Double.NaN, 80);
+
+        assertTrue(index.crossed(INSTRUMENT, 100).isEmpty());
+        assertEquals(Set.of(1L, 2L), ruleIds(index.crossed(INSTRUMENT, 125)));
+        // Las disparadas salen del índice
+        assertTrue(index.crossed(INSTRUMENT, 125).isEmpty());
+
+        List<FiredAlert> below = index.crossed(INSTRUMENT, 85);
+        assertEquals(Set.of(4L), ruleIds(below));
+        assertEquals(85, below.get(0).price());
+        assertFalse(below.get(0).above());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void percentRuleDropsItsOtherSideWhenFired() {
+        AlertRuleIndex index = new AlertRuleIndex();
+        index.add(INSTRUMENT, 1, 10, 105, 95);
+        index.add(INSTRUMENT, 2, 10, 120, Double.NaN);
+        assertEquals(3, index.size());
+
+        assertEquals(Set.of(1L), ruleIds(index.crossed(INSTRUMENT, 94)));
+        assertEquals(1, index.size());
+        assertTrue(index.crossed(INSTRUMENT, 106).isEmpty());
+    }
+
+    @Test
+    void addIsIdempotentAndRemoveDropsBothSides() {
+        AlertRuleIndex index = new AlertRuleIndex();
+        for (long id = 1; id <= 1_000; id++) {
+            index.addUpper(INSTRUMENT, id, 10, 100 + id, Double.NaN);
+        }
+        index.add(INSTRUMENT, 500, 10, 600, Double.NaN);
+        index.add(INSTRUMENT, 2_000, 10, 150, 50);
+        assertEquals(1_002, index.size());
+
+        index.remove(INSTRUMENT, 2_000, 150, 50);
+        index.remove(INSTRUMENT, 500, 600, Double.NaN);
+        assertEquals(999, index.size());
+
+        assertEquals(100, index.crossed(INSTRUMENT, 200).size());
+        assertEquals(899, index.size());
+    }
+
+    private static Set<Long> ruleIds(List<FiredAlert> fired) {
+        return fired.stream().map(FiredAlert::ruleId).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,104 @@
+package com.practice.Cost;
+
+import com.practice.Cost.analytics.CostRollupBackfillJob;
+import com.practice.Cost.dtoRequest.CostBudgetRequestDto;
+import com.practice.Cost.dtoRequest.CostRequestDto;
+import com.practice.Cost.dtoResponse.CostBreakdownResponseDto;
+import com.practice.Cost.dtoResponse.CostBudgetResponseDto;
+import com.practice.Cost.dtoResponse.CostTrendResponseDto;
+import com.practice.Cost.model.CostModel;
+import com.practice.Cost.repository.CostRepository;
+import com.practice.Cost.service.CostAnalyticsServiceImpl;
+import com.practice.Cost.service.CostServiceImpl;
+import com.practice.User.model.UserModel;
+import com.practice.User.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CostRollupTest {
+
+    @Autowired
+    private CostServiceImpl costService;
+    @Autowired
+    private CostAnalyticsServiceImpl costAnalyticsService;
+    @Autowired
+    private CostRollupBackfillJob costRollupBackfillJob;
+    @Autowired
+    private CostRepository costRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void rollupsFollowCreateUpdateDeleteAndMatchBackfill() {
+        UserModel user = userRepository.save(UserModel.builder()
+                .email("costs-" + System.nanoTime() + "@example.com")
+                .name("Costs")
+                .build());
+        Long userId = user.getId();
+        YearMonth current = YearMonth.now();
+        YearMonth previous = current.minusMonths(1);
+
+        create(userId, "comida", 100.0);
+        CostRequestDto lunch = create(userId, " Comida ", 50.0);
+        CostRequestDto bus = create(userId, "transporte", 30.0);
+        create(userId, null, 5.0);
+
+        CostModel old = new CostModel();
+        old.setUser(user);
+        old.setCategory("comida");
+        old.setAmount(70.0);
+        old.setDate(previous.atDay(10).atStartOfDay());
+        costRepository.save(old);
+
+        // Cambia la categoría y el monto: el importe se mueve entre celdas
+        CostRequestDto change = new CostRequestDto();
+        change.setCategory("transporte");
+        change.setAmount(20.0);
+        costService.updateCost(lunch.getId(), change);
+        costService.deleteCost(bus.getId());
+
+        CostBreakdownResponseDto breakdown = costAnalyticsService.breakdown(userId, current, current);
+        assertEquals(125.0, breakdown.total(), 1e-9);
+        assertEquals(3, breakdown.entries());
+        assertEquals("COMIDA", breakdown.categories().get(0).category());
+        assertEquals(100.0, breakdown.categories().get(0).total(), 1e-9);
+        assertEquals(20.0, breakdown.categories().get(1).total(), 1e-9);
+        assertEquals("SIN_CATEGORIA", breakdown.categories().get(2).category());
+
+        CostTrendResponseDto trend = costAnalyticsService.trend(userId, previous, current, "COMIDA");
+        assertEquals(2, trend.months().size());
+        assertEquals(70.0, trend.months().get(0).total(), 1e-9);
+        assertEquals(100.0, trend.months().get(1).total(), 1e-9);
+
+        costAnalyticsService.saveBudgets(userId, List.of(new CostBudgetRequestDto("comida", 80.0)));
+        CostBudgetResponseDto budget = costAnalyticsService.budget(userId, current);
+        assertEquals(80.0, budget.totalBudget(), 1e-9);
+        assertEquals(125.0, budget.totalActual(), 1e-9);
+        assertEquals(-20.0, budget.categories().get(0).remaining(), 1e-9);
+
+        // La reconstrucción desde costs da exactamente lo mismo que el mantenimiento incremental
+        costRollupBackfillJob.run();
+        assertEquals(breakdown, costAnalyticsService.breakdown(userId, current, current));
+        assertEquals(trend, costAnalyticsService.trend(userId, previous, current, "COMIDA"));
+    }
+
+    private CostRequestDto create(Long userId, String category, double amount) {
+        CostRequestDto request = new CostRequestDto();
+        request.setUserId(userId);
+        request.setType("VARIABLE");
+        request.setDescription("gasto");
+        request.setCategory(category);
+        request.setAmount(amount);
+        return costService.createCost(request);
+    }
+}
@@ -0,0 +1,157 @@
+package com.practice.Django;
+
+import com.practice.Django.Recommendation.UserRecommendationsResponse;
+import com.practice.Django.client.DjangoClientSettings;
+import com.practice.exceptions.DjangoUnavailableException;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prueba el cliente contra un servidor HTTP local que simula a Django.
+ */
+class DjangoClientServiceTest {
+    private static final String BODY = """
+            {"userId": 1, "recommendations": [{"investment": {"investment_id": 7, "investment_type": "etfs",
+            "risk_level": 1, "min_investment": "1853", "expected_return": "12.87"}, "created_at": "2025-01-01T00:00:00Z"}]}
+            """;
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private final AtomicInteger requests = new AtomicInteger();
+    // Recibe el número de petición (desde 1) y devuelve el status; el retardo se configura aparte
+    private volatile IntUnaryOperator status = n -> 200;
+    private volatile IntUnaryOperator delayMillis = n -> 0;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/api/recommendations/", exchange -> {
+            int n = requests.incrementAndGet();
+            try {
+                Thread.sleep(delayMillis.applyAsInt(n));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+            int code = status.applyAsInt(n);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(code, code == 200 ? body.length : -1);
+            if (code == 200) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallsShareOneRequestAndAreCached() {
+        delayMillis = n -> 200;
+        DjangoClientService client = client(Duration.ofSeconds(2), Duration.ZERO, Duration.ofMinutes(1));
+
+        List<UserRecommendationsResponse> responses = Flux.range(0, 20)
+                .flatMap(i -> client.getRecommendations(1L))
+                .collectList()
+                .block();
+
+        assertEquals(20, responses.size());
+        assertEquals(1, requests.get());
+
+        client.getRecommendations(1L).block();
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void slowRequestIsHedged() {
+        delayMillis = n -> n == 1 ? 1500 : 0;
+        DjangoClientService client = client(Duration.ofSeconds(1), Duration.ofMillis(100), Duration.ofMinutes(1));
+
+        long start = System.nanoTime();
+        UserRecommendationsResponse response = client.getRecommendations(1L).block();
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertEquals(1, response.getRecommendations().size());
+        assertEquals(2, requests.get());
+        assertTrue(elapsedMillis < 1000, "La réplica debió responder antes del plazo: " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void openCircuitServesStaleRecommendations() throws InterruptedException {
+        DjangoClientService client = client(Duration.ofSeconds(1), Duration.ZERO, Duration.ofMillis(1));
+        client.getRecommendations(1L).block();
+
+        status = n -> 500;
+        Thread.sleep(5);
+        for (int i = 0; i < 2; i++) {
+            assertEquals(1, client.getRecommendations(1L).block().getRecommendations().size());
+        }
+        assertEquals(3, requests.get());
+
+        // Circuito abierto: se responde con lo cacheado sin llamar a Django
+        assertEquals(1, client.getRecommendations(1L).block().getRecommendations().size());
+        assertEquals(3, requests.get());
+
+        assertThrows(DjangoUnavailableException.class, () -> client.getRecommendations(2L).block());
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    void emptyProbeResponseClosesTheCircuit() throws InterruptedException {
+        status = n -> n <= 2 ? 500 : 204;
+        DjangoClientService client = client(Duration.ofSeconds(1), Duration.ZERO, Duration.ofMillis(1), Duration.ofMillis(50));
+        for (int i = 0; i < 2; i++) {
+            assertThrows(DjangoUnavailableException.class, () -> client.getRecommendations(3L).block());
+        }
+        assertThrows(DjangoUnavailableException.class, () -> client.getRecommendations(3L).block());
+        assertEquals(2, requests.get());
+
+        // La prueba de SEMIABIERTO recibe un cuerpo vacío: cuenta como respuesta y cierra el circuito
+        Thread.sleep(60);
+        assertNull(client.getRecommendations(3L).block());
+        assertNull(client.getRecommendations(3L).block());
+        assertEquals(4, requests.get());
+    }
+
+    private DjangoClientService client(Duration deadline, Duration hedgeDelay, Duration cacheTtl) {
+        return client(deadline, hedgeDelay, cacheTtl, Duration.ofMinutes(1));
+    }
+
+    private DjangoClientService client(Duration deadline, Duration hedgeDelay, Duration cacheTtl, Duration openDuration) {
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost:" + server.getAddress().getPort())
+                .build();
+        DjangoClientSettings settings = new DjangoClientSettings(deadline, hedgeDelay, cacheTtl, 100, 2, openDuration);
+        return new DjangoClientService(webClient, settings, new SimpleMeterRegistry());
+    }
+}
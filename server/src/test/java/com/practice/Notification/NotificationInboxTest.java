@@ -0,0 +1,65 @@
+package com.practice.Notification;
+
+import com.practice.Notification.dtoRequest.NotificationCreateRequestDto;
+import com.practice.Notification.dtoRequest.NotificationUpdateRequestDto;
+import com.practice.Notification.dtoResponse.NotificationCreateResponseDto;
+import com.practice.Notification.dtoResponse.NotificationPageResponseDto;
+import com.practice.Notification.service.NotificationServiceImpl;
+import com.practice.User.model.UserModel;
+import com.practice.User.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificationInboxTest {
+
+    @Autowired
+    private NotificationServiceImpl notificationService;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void unreadCounterFollowsCreateUpdateDeleteAndMarkAllRead() {
+        UserModel user = userRepository.save(UserModel.builder()
+                .email("inbox-" + System.nanoTime() + "@example.com")
+                .name("Inbox")
+                .build());
+        Long userId = user.getId();
+
+        assertEquals(0, notificationService.countUnread(userId).unread());
+
+        NotificationCreateResponseDto first = create(userId, false);
+        NotificationCreateResponseDto second = create(userId, false);
+        create(userId, true);
+        assertEquals(2, notificationService.countUnread(userId).unread());
+
+        NotificationUpdateRequestDto read = new NotificationUpdateRequestDto();
+        read.setIsRead(true);
+        read.setMessage("leída");
+        notificationService.updateNotification(first.id(), read);
+        assertEquals(1, notificationService.countUnread(userId).unread());
+
+        notificationService.deleteNotification(second.id());
+        assertEquals(0, notificationService.countUnread(userId).unread());
+
+        create(userId, false);
+        create(userId, false);
+        NotificationPageResponseDto unread = notificationService.findUserNotifications(userId, true, 0, 10);
+        assertEquals(2, unread.totalElement());
+
+        assertEquals(2, notificationService.markAllRead(userId).updated());
+        assertEquals(0, notificationService.countUnread(userId).unread());
+        assertEquals(0, notificationService.findUserNotifications(userId, true, 0, 10).totalElement());
+        assertEquals(4, notificationService.findUserNotifications(userId, false, 0, 10).totalElement());
+    }
+
+    private NotificationCreateResponseDto create(Long userId, boolean isRead) {
+        return notificationService.createNotification(
+                new NotificationCreateRequestDto("SISTEMA", "mensaje", isRead, userId));
+    }
+}
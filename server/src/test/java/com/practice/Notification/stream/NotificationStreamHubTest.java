@@ -0,0 +1,184 @@
+package com.practice.Notification.stream;
+
+import com.practice.Notification.Enum.EnumTypeNotification;
+import com.practice.Notification.dtoResponse.NotificationCreateResponseDto;
+import com.practice.Notification.event.NotificationCreatedEvent;
+import com.practice.Notification.model.NotificationModel;
+import com.practice.Notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NotificationStreamHubTest {
+    private static final long USER = 42L;
+
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private Supplier<RecordingEmitter> emitterFactory = () -> new RecordingEmitter(false);
+    private NotificationStreamHub hub;
+
+    @AfterEach
+    void shutdown() {
+        emitters.forEach(emitter -> emitter.release.countDown());
+        hub.shutdown();
+    }
+
+    @Test
+    void replayIsOrderedWithoutDuplicatesOrGaps() {
+        hub = hub(16, 5);
+        when(notificationRepository.findByUserIdAfterId(eq(USER), eq(10L), any())).thenAnswer(invocation -> {
+            // Mientras se consulta llegan la 12 (ya incluida en la respuesta) y la 14 (nueva)
+            hub.onNotificationCreated(event(12));
+            hub.onNotificationCreated(event(14));
+            return List.of(notification(13, null), notification(12, EnumTypeNotification.SISTEMA),
+                    notification(11, EnumTypeNotification.SISTEMA));
+        });
+
+        hub.subscribe(USER, 10L);
+        RecordingEmitter emitter = emitters.get(0);
+        await(() -> emitter.ids.size() == 4);
+        // Un evento posterior marca el final: un repetido habría salido antes que él
+        hub.onNotificationCreated(event(15));
+        await(() -> emitter.ids.contains(15L));
+
+        assertEquals(List.of(11L, 12L, 13L, 14L, 15L), emitter.ids);
+        NotificationCreateResponseDto withoutType = emitter.payloads.get(2);
+        assertEquals(13L, withoutType.id());
+        assertNull(withoutType.typeNotification());
+    }
+
+    @Test
+    void fullQueueDisconnectsTheSubscriberAndCountsTheDrop() throws InterruptedException {
+        emitterFactory = () -> new RecordingEmitter(true);
+        hub = hub(2, 5);
+        hub.subscribe(USER, null);
+        RecordingEmitter emitter = emitters.get(0);
+
+        // La primera queda bloqueada en el envío y las dos siguientes llenan la cola
+        hub.onNotificationCreated(event(1));
+        assertTrue(emitter.entered.await(5, TimeUnit.SECONDS));
+        hub.onNotificationCreated(event(2));
+        hub.onNotificationCreated(event(3));
+        assertEquals(0, meterRegistry.counter("notification.stream.dropped").count());
+
+        hub.onNotificationCreated(event(4));
+        assertEquals(1, meterRegistry.counter("notification.stream.dropped").count());
+        assertEquals(0, hub.connectionCount());
+        assertTrue(emitter.completed);
+    }
+
+    @Test
+    void oldestConnectionIsEvictedBeyondMaxPerUser() {
+        hub = hub(16, 2);
+        for (int i = 0; i < 3; i++) {
+            hub.subscribe(USER, null);
+        }
+        assertEquals(2, hub.connectionCount());
+        assertTrue(emitters.get(0).completed);
+        assertFalse(emitters.get(1).completed);
+        assertFalse(emitters.get(2).completed);
+
+        hub.onNotificationCreated(event(7));
+        await(() -> emitters.get(1).ids.contains(7L) && emitters.get(2).ids.contains(7L));
+        assertTrue(emitters.get(0).ids.isEmpty());
+    }
+
+    private NotificationStreamHub hub(int queueCapacity, int maxPerUser) {
+        return new NotificationStreamHub(notificationRepository, meterRegistry, 60_000, queueCapacity, 100,
+                maxPerUser, 2, false) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = emitterFactory.get();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private static NotificationCreatedEvent event(long id) {
+        return new NotificationCreatedEvent(USER,
+                new NotificationCreateResponseDto(id, EnumTypeNotification.SISTEMA.name(), "Notificación " + id, false, USER));
+    }
+
+    private static NotificationModel notification(long id, EnumTypeNotification type) {
+        NotificationModel notification = new NotificationModel();
+        notification.setId(id);
+        notification.setType(type);
+        notification.setMessage("Notificación " + id);
+        notification.setIsRead(false);
+        return notification;
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("La condición no se cumplió a tiempo");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /** Registra ids y payloads enviados; con {@code blocking} el primer envío espera a {@code release}. */
+    private static final class RecordingEmitter extends SseEmitter {
+        private static final Pattern ID = Pattern.compile("id:(\\d+)");
+
+        final List<Long> ids = new CopyOnWriteArrayList<>();
+        final List<NotificationCreateResponseDto> payloads = new CopyOnWriteArrayList<>();
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        private final boolean blocking;
+        volatile boolean completed;
+
+        RecordingEmitter(boolean blocking) {
+            this.blocking = blocking;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            for (DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof String text) {
+                    Matcher matcher = ID.matcher(text);
+                    if (matcher.find()) {
+                        ids.add(Long.parseLong(matcher.group(1)));
+                    }
+                } else if (data.getData() instanceof NotificationCreateResponseDto payload) {
+                    payloads.add(payload);
+                }
+            }
+            if (blocking) {
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.practice.Objectives;
+
+import com.practice.Objectives.projection.ObjectiveProjectionEngine;
+import com.practice.Objectives.projection.ProjectionInput;
+import com.practice.Objectives.projection.ProjectionResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ObjectiveProjectionEngineTest {
+    private final ObjectiveProjectionEngine engine = new ObjectiveProjectionEngine(8192, 4);
+
+    @Test
+    void sameSeedGivesSameResult() {
+        ProjectionInput input = new ProjectionInput(10000.0, 500.0, 1, 60, 45000.0, 0.07, 0.12, 42L);
+
+        ProjectionResult result = engine.simulate(input);
+        assertEquals(result, engine.simulate(input));
+
+        assertTrue(result.probability() > 0.0 && result.probability() < 1.0);
+        assertTrue(result.p10() <= result.p50() && result.p50() <= result.p90());
+        assertEquals(8192, result.simulations());
+    }
+
+    @Test
+    void withoutVolatilityMatchesCompoundInterest() {
+        // 12 aportes de 100 con rendimiento anual del 12% y sin volatilidad
+        ProjectionResult result = engine.simulate(new ProjectionInput(1000.0, 100.0, 1, 12, 0.0, 0.12, 0.0, 1L));
+
+        double monthly = Math.pow(1.12, 1.0 / 12.0);
+        double expected = 1000.0;
+        for (int month = 0; month < 12; month++) {
+            expected = expected * monthly + 100.0;
+        }
+        assertEquals(expected, result.p10(), 1e-6);
+        assertEquals(expected, result.p90(), 1e-6);
+    }
+
+    @Test
+    void probabilityReflectsReachableAndImpossibleTargets() {
+        assertEquals(1.0, engine.simulate(new ProjectionInput(50000.0, 0.0, 0, 24, 1000.0, 0.04, 0.05, 7L)).probability());
+        assertEquals(0.0, engine.simulate(new ProjectionInput(1000.0, 100.0, 1, 24, 1_000_000.0, 0.04, 0.05, 7L)).probability());
+    }
+}
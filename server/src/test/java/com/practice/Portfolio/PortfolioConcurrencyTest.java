@@ -0,0 +1,140 @@
+package com.practice.Portfolio;
+
+import com.practice.Instrument.Enum.EnumInvestmentType;
+import com.practice.Instrument.model.InstrumentModel;
+import com.practice.Instrument.repository.InstrumentRepository;
+import com.practice.Portfolio.dtoRequest.InvestmentRequestDto;
+import com.practice.Portfolio.model.PortfolioLedgerView;
+import com.practice.Portfolio.repository.PortfolioRepository;
+import com.practice.Portfolio.service.PortfolioServiceImpl;
+import com.practice.Transactions.Enum.EnumTransactionType;
+import com.practice.User.model.UserModel;
+import com.practice.User.repository.UserRepository;
+import com.practice.exceptions.InsufficientInstrumentsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PortfolioConcurrencyTest {
+    private static final int THREADS = 16;
+
+    @Autowired
+    private PortfolioServiceImpl portfolioServiceImpl;
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+    @Autowired
+    private InstrumentRepository instrumentRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+    private Long instrumentId;
+
+    @BeforeEach
+    void setUp() {
+        UserModel user = userRepository.findByEmail("user1@example.com").orElseThrow();
+        userId = user.getId();
+
+        InstrumentModel instrument = new InstrumentModel();
+        instrument.setTicker("TEST" + System.nanoTime());
+        instrument.setName("Instrumento de prueba");
+        instrument.setEnumInvestmentType(EnumInvestmentType.RENTA_VARIABLE);
+        instrument.setQuotes(100.0);
+        instrument.setState(true);
+        instrumentId = instrumentRepository.save(instrument).getId();
+    }
+
+    @Test
+    void concurrentSellsNeverOversellPosition() throws Exception {
+        portfolioServiceImpl.addOrUpdateInvestment(userId, order(EnumTransactionType.COMPRA, 100));
+
+        AtomicInteger sold = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently(THREADS * 4, i -> {
+            try {
+                portfolioServiceImpl.addOrUpdateInvestment(userId, order(EnumTransactionType.VENTA, 10));
+                sold.incrementAndGet();
+            } catch (InsufficientInstrumentsException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        PortfolioLedgerView position = portfolioRepository.findLedgerView(userId, instrumentId).orElseThrow();
+        assertEquals(10, sold.get());
+        assertEquals(THREADS * 4 - 10, rejected.get());
+        assertEquals(0, position.quantity());
+    }
+
+    @Test
+    void concurrentBuysAndSellsKeepQuantityConsistent() throws Exception {
+        AtomicInteger netQuantity = new AtomicInteger();
+        runConcurrently(THREADS * 8, i -> {
+            try {
+                if (i % 3 == 0) {
+                    portfolioServiceImpl.addOrUpdateInvestment(userId, order(EnumTransactionType.VENTA, 7));
+                    netQuantity.addAndGet(-7);
+                } else {
+                    portfolioServiceImpl.addOrUpdateInvestment(userId, order(EnumTransactionType.COMPRA, 5));
+                    netQuantity.addAndGet(5);
+                }
+            } catch (InsufficientInstrumentsException e) {
+                // Venta rechazada: no altera la posición
+            }
+            int quantity = portfolioRepository.findLedgerView(userId, instrumentId)
+                    .map(PortfolioLedgerView::quantity)
+                    .orElse(0);
+            assertTrue(quantity >= 0, "La cantidad no puede ser negativa: " + quantity);
+        });
+
+        PortfolioLedgerView position = portfolioRepository.findLedgerView(userId, instrumentId).orElseThrow();
+        assertEquals(netQuantity.get(), position.quantity());
+        assertTrue(position.quantity() >= 0);
+    }
+
+    private InvestmentRequestDto order(EnumTransactionType type, int quantity) {
+        return new InvestmentRequestDto(instrumentId, quantity, 100.0, 0.0, type);
+    }
+
+    private void runConcurrently(int tasks, IndexedTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(tasks);
+        try {
+            for (int i = 0; i < tasks; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index) throws Exception;
+    }
+}
@@ -0,0 +1,115 @@
+package com.practice.Portfolio;
+
+import com.practice.Instrument.Enum.EnumInvestmentType;
+import com.practice.Instrument.model.InstrumentModel;
+import com.practice.Instrument.repository.InstrumentRepository;
+import com.practice.Portfolio.dtoRequest.InvestmentRequestDto;
+import com.practice.Portfolio.model.PortfolioLedgerView;
+import com.practice.Portfolio.repository.PortfolioRepository;
+import com.practice.Portfolio.service.PortfolioServiceImpl;
+import com.practice.Transactions.Enum.EnumTransactionType;
+import com.practice.User.model.UserModel;
+import com.practice.User.repository.UserRepository;
+import com.practice.Wallet.dtoRequest.WalletCreateRequestDto;
+import com.practice.Wallet.repository.WalletRepository;
+import com.practice.Wallet.service.WalletServiceImpl;
+import com.practice.exceptions.InsufficientFundsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PortfolioSettlementTest {
+
+    @Autowired
+    private PortfolioServiceImpl portfolioServiceImpl;
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+    @Autowired
+    private InstrumentRepository instrumentRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private WalletServiceImpl walletServiceImpl;
+    @Autowired
+    private WalletRepository walletRepository;
+
+    private Long userId;
+    private Long instrumentId;
+    private Long walletId;
+
+    @BeforeEach
+    void setUp() {
+        long suffix = System.nanoTime();
+        UserModel user = new UserModel();
+        user.setEmail("liquidacion" + suffix + "@example.com");
+        user.setName("Liquidacion");
+        user.setPassword("secreto");
+        userId = userRepository.save(user).getId();
+
+        InstrumentModel instrument = new InstrumentModel();
+        instrument.setTicker("LIQ" + suffix);
+        instrument.setName("Instrumento de liquidación");
+        instrument.setEnumInvestmentType(EnumInvestmentType.RENTA_VARIABLE);
+        instrument.setQuotes(100.0);
+        instrument.setState(true);
+        instrumentId = instrumentRepository.save(instrument).getId();
+
+        walletId = walletServiceImpl.createWallet(new WalletCreateRequestDto(1000.0, userId)).id();
+    }
+
+    @Test
+    void buysDebitAndSellsCreditTheWallet() {
+        portfolioServiceImpl.addOrUpdateInvestment(userId, order(EnumTransactionType.COMPRA, 5, 2.0));
+        assertEquals(1000.0 - 502.0, balance(), 1e-9);
+
+        portfolioServiceImpl.addOrUpdateInvestment(userId, order(EnumTransactionType.VENTA, 2, 1.0));
+        assertEquals(498.0 + 199.0, balance(), 1e-9);
+        assertEquals(3, position());
+    }
+
+    @Test
+    void insufficientFundsRollsBackThePosition() {
+        portfolioServiceImpl.addOrUpdateInvestment(userId, order(EnumTransactionType.COMPRA, 2, 0.0));
+
+        assertThrows(InsufficientFundsException.class,
+                () -> portfolioServiceImpl.addOrUpdateInvestment(userId, order(EnumTransactionType.COMPRA, 9, 0.0)));
+
+        assertEquals(800.0, balance(), 1e-9);
+        assertEquals(2, position());
+    }
+
+    @Test
+    void batchSettlesNetAmountOnce() {
+        portfolioServiceImpl.addInvestmentsBatch(userId, List.of(
+                order(EnumTransactionType.COMPRA, 6, 1.0),
+                order(EnumTransactionType.VENTA, 4, 1.0)));
+
+        // -601 + 399: un solo movimiento por el neto del lote
+        assertEquals(1000.0 - 202.0, balance(), 1e-9);
+        assertEquals(2, position());
+        assertEquals(2, walletServiceImpl.findLedger(walletId, 0, 10).totalElements());
+    }
+
+    private InvestmentRequestDto order(EnumTransactionType type, int quantity, double commission) {
+        return new InvestmentRequestDto(instrumentId, quantity, 100.0, commission, type);
+    }
+
+    private double balance() {
+        return walletRepository.findById(walletId).orElseThrow().getCurrentBalance();
+    }
+
+    private int position() {
+        return portfolioRepository.findLedgerView(userId, instrumentId)
+                .map(PortfolioLedgerView::quantity)
+                .orElse(0);
+    }
+}
@@ -0,0 +1,159 @@
+package com.practice.PriceHistory.store;
+
+import com.practice.exceptions.InvalidTickException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TickStoreTest {
+    private static final long INSTRUMENT = 3L;
+    private static final long DAY = TickPartition.DAY_MILLIS;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void keepsAtMostMaxOpenPartitionsMapped() {
+        TickStore store = new TickStore(dir.toString(), 16, 2);
+        for (int day = 0; day < 5; day++) {
+            store.append(INSTRUMENT, day * DAY, 100 + day);
+        }
+        assertEquals(2, store.openPartitionCount());
+
+        // Los días descartados se vuelven a mapear al leerlos
+        assertEquals(5, store.range(INSTRUMENT, 0, 5 * DAY, 100).size());
+        assertEquals(2, store.openPartitionCount());
+        store.close();
+
+        TickStore reopened = new TickStore(dir.toString(), 16, 2);
+        assertEquals(5, reopened.last(INSTRUMENT, 10).size());
+        reopened.close();
+    }
+
+    @Test
+    void rejectedBatchWritesNothing() {
+        TickStore store = new TickStore(dir.toString(), 2, 8);
+        store.append(INSTRUMENT, DAY + 10, 100);
+
+        // El primer día admite sus ticks, el segundo supera la capacidad: no se escribe ninguno
+        long[] timestamps = {1, 2, DAY + 20, DAY + 30};
+        double[] prices = {1, 2, 3, 4};
+        assertThrows(InvalidTickException.class, () -> store.appendAll(INSTRUMENT, timestamps, prices));
+        assertEquals(1, store.range(INSTRUMENT, 0, 2 * DAY, 100).size());
+
+        store.appendAll(INSTRUMENT, new long[]{1, 2, DAY + 20}, new double[]{1, 2, 3});
+        assertEquals(4, store.range(INSTRUMENT, 0, 2 * DAY, 100).size());
+        store.close();
+    }
+
+    @Test
+    void barsSplitExactlyAtBucketEdges() {
+        TickStore store = new TickStore(dir.toString(), 16, 8);
+        long minute = 60_000;
+        store.appendAll(INSTRUMENT,
+                new long[]{0, 30_000, minute - 1, minute, 2 * minute - 1, DAY - 1, DAY},
+                new double[]{10, 12, 9, 20, 21, 30, 40});
+
+        List<OhlcBar> bars = store.bars(INSTRUMENT, 0, 2 * DAY, minute);
+        assertEquals(List.of(
+                new OhlcBar(0, 10, 12, 9, 9, 3),
+                new OhlcBar(minute, 20, 21, 20, 21, 2),
+                new OhlcBar(DAY - minute, 30, 30, 30, 30, 1),
+                new OhlcBar(DAY, 40, 40, 40, 40, 1)), bars);
+
+        // Una vela de dos días junta ticks de dos particiones
+        assertEquals(List.of(new OhlcBar(0, 10, 40, 9, 40, 7)), store.bars(INSTRUMENT, 0, 2 * DAY, 2 * DAY));
+        store.close();
+    }
+
+    @Test
+    void rangeIncludesFromAndExcludesToAcrossPartitions() {
+        TickStore store = new TickStore(dir.toString(), 16, 8);
+        store.appendAll(INSTRUMENT, new long[]{DAY - 1, DAY, DAY + 1, 2 * DAY}, new double[]{1, 2, 3, 4});
+
+        assertArrayEquals(new long[]{DAY - 1, DAY, DAY + 1}, store.range(INSTRUMENT, DAY - 1, 2 * DAY, 100).timestamps());
+        assertArrayEquals(new double[]{1, 2, 3}, store.range(INSTRUMENT, DAY - 1, 2 * DAY, 100).prices());
+        assertArrayEquals(new long[]{DAY}, store.range(INSTRUMENT, DAY, DAY + 1, 100).timestamps());
+        assertEquals(0, store.range(INSTRUMENT, DAY, DAY, 100).size());
+        assertArrayEquals(new long[]{DAY - 1, DAY}, store.range(INSTRUMENT, 0, 3 * DAY, 2).timestamps());
+        assertEquals(0, store.range(INSTRUMENT + 1, 0, 3 * DAY, 100).size());
+        store.close();
+    }
+
+    @Test
+    void lastReturnsNewestTicksInChronologicalOrder() {
+        TickStore store = new TickStore(dir.toString(), 16, 8);
+        store.appendAll(INSTRUMENT, new long[]{10, 20, DAY + 10, 3 * DAY}, new double[]{1, 2, 3, 4});
+
+        assertArrayEquals(new long[]{20, DAY + 10, 3 * DAY}, store.last(INSTRUMENT, 3).timestamps());
+        assertArrayEquals(new double[]{2, 3, 4}, store.last(INSTRUMENT, 3).prices());
+        assertArrayEquals(new long[]{3 * DAY}, store.last(INSTRUMENT, 1).timestamps());
+        assertArrayEquals(new long[]{10, 20, DAY + 10, 3 * DAY}, store.last(INSTRUMENT, 10).timestamps());
+        assertEquals(0, store.last(INSTRUMENT + 1, 10).size());
+        store.close();
+    }
+
+    @Test
+    void dailySummaryMatchesScanningTheTicks() {
+        TickStore store = new TickStore(dir.toString(), 64, 8);
+        List<Long> timestamps = new ArrayList<>();
+        List<Double> prices = new ArrayList<>();
+        for (int day = 0; day < 4; day++) {
+            for (int i = 1; i <= 10; i++) {
+                long timestamp = day * DAY + i * 3_600_000L;
+                double price = 100 + ((day * 7 + i * 13) % 17);
+                store.append(INSTRUMENT, timestamp, price);
+                timestamps.add(timestamp);
+                prices.add(price);
+            }
+        }
+
+        // [0, 4 días) usa el resumen de cada día; [1, 4 días - 1) recorre los ticks del primero y el último
+        assertEquals(expectedBars(timestamps, prices, 0, 4 * DAY, DAY), store.bars(INSTRUMENT, 0, 4 * DAY, DAY));
+        assertEquals(store.bars(INSTRUMENT, 0, 4 * DAY, DAY), store.bars(INSTRUMENT, 1, 4 * DAY - 1, DAY));
+        assertEquals(expectedBars(timestamps, prices, 0, 4 * DAY, 2 * DAY), store.bars(INSTRUMENT, 0, 4 * DAY, 2 * DAY));
+
+        // El resumen ya calculado se extiende con los ticks nuevos del día
+        store.append(INSTRUMENT, 2 * DAY + 20 * 3_600_000L, 500);
+        store.append(INSTRUMENT, 2 * DAY + 21 * 3_600_000L, 1);
+        timestamps.addAll(30, List.of(2 * DAY + 20 * 3_600_000L, 2 * DAY + 21 * 3_600_000L));
+        prices.addAll(30, List.of(500.0, 1.0));
+        assertEquals(expectedBars(timestamps, prices, 0, 4 * DAY, DAY), store.bars(INSTRUMENT, 0, 4 * DAY, DAY));
+        assertEquals(expectedBars(timestamps, prices, 1, 4 * DAY - 1, DAY), store.bars(INSTRUMENT, 1, 4 * DAY - 1, DAY));
+        store.close();
+    }
+
+    // Referencia sin atajos: agrupa tick por tick, con los timestamps en orden
+    private static List<OhlcBar> expectedBars(List<Long> timestamps, List<Double> prices, long from, long to, long interval) {
+        List<OhlcBar> bars = new ArrayList<>();
+        OhlcBar current = null;
+        for (int i = 0; i < timestamps.size(); i++) {
+            long timestamp = timestamps.get(i);
+            if (timestamp < from || timestamp >= to) {
+                continue;
+            }
+            double price = prices.get(i);
+            long bucket = timestamp - Math.floorMod(timestamp, interval);
+            if (current == null || current.start() != bucket) {
+                if (current != null) {
+                    bars.add(current);
+                }
+                current = new OhlcBar(bucket, price, price, price, price, 1);
+            } else {
+                current = new OhlcBar(bucket, current.open(), Math.max(current.high(), price),
+                        Math.min(current.low(), price), price, current.ticks() + 1);
+            }
+        }
+        if (current != null) {
+            bars.add(current);
+        }
+        return bars;
+    }
+}
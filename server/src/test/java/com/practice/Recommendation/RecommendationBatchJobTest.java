@@ -0,0 +1,97 @@
+package com.practice.Recommendation;
+
+import com.practice.FinancingProfile.model.FinancingProfileModel;
+import com.practice.FinancingProfile.repository.FinancingProfileRepository;
+import com.practice.Instrument.Enum.EnumInvestmentType;
+import com.practice.Instrument.model.InstrumentModel;
+import com.practice.Instrument.repository.InstrumentRepository;
+import com.practice.Recommendation.Enum.EnumRecommendationType;
+import com.practice.Recommendation.batch.RecommendationBatchJob;
+import com.practice.Recommendation.dtoResponse.RecommendationBatchResponseDto;
+import com.practice.Recommendation.model.RecommendationModel;
+import com.practice.Recommendation.repository.RecommendationRepository;
+import com.practice.User.model.UserModel;
+import com.practice.User.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RecommendationBatchJobTest {
+
+    @Autowired
+    private RecommendationBatchJob recommendationBatchJob;
+    @Autowired
+    private FinancingProfileRepository financingProfileRepository;
+    @Autowired
+    private InstrumentRepository instrumentRepository;
+    @Autowired
+    private RecommendationRepository recommendationRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void incrementalRunOnlyRescoresChangedProfiles() throws InterruptedException {
+        UserModel user = userRepository.findByEmail("user1@example.com").orElseThrow();
+        FinancingProfileModel profile = financingProfileRepository.findByUserId(user.getId()).orElseGet(() -> {
+            FinancingProfileModel created = new FinancingProfileModel();
+            created.setUser(user);
+            return created;
+        });
+        profile.setRiskProfile("CONSERVADOR");
+        profile.setIncomeMonthly(40000.0);
+        profile = financingProfileRepository.save(profile);
+
+        Long fixedIncome = instrument(EnumInvestmentType.RENTA_FIJA);
+        Long equity = instrument(EnumInvestmentType.RENTA_VARIABLE);
+        Thread.sleep(10);
+
+        RecommendationBatchResponseDto full = recommendationBatchJob.run(true);
+        assertTrue(full.processedUsers() >= 1);
+        Map<Long, EnumRecommendationType> recommendations = recommendationsOf(user.getId());
+        assertEquals(EnumRecommendationType.COMPRA, recommendations.get(fixedIncome));
+        assertFalse(recommendations.containsKey(equity));
+
+        assertEquals(0, recommendationBatchJob.run(false).processedUsers());
+
+        profile.setRiskProfile("ARRIESGADO");
+        financingProfileRepository.save(profile);
+
+        RecommendationBatchResponseDto incremental = recommendationBatchJob.run(false);
+        assertEquals(1, incremental.processedUsers());
+        assertEquals(EnumRecommendationType.COMPRA, recommendationsOf(user.getId()).get(equity));
+
+        // Un instrumento nuevo cambia el catálogo: la siguiente ejecución reprocesa a todos
+        Long newFixedIncome = instrument(EnumInvestmentType.RENTA_FIJA);
+        RecommendationBatchResponseDto afterCatalogChange = recommendationBatchJob.run(false);
+        assertTrue(afterCatalogChange.full());
+        assertTrue(recommendationsOf(user.getId()).containsKey(newFixedIncome));
+        assertFalse(recommendationBatchJob.run(false).full());
+    }
+
+    private Long instrument(EnumInvestmentType type) {
+        InstrumentModel instrument = new InstrumentModel();
+        instrument.setTicker("REC" + System.nanoTime());
+        instrument.setName("Instrumento de prueba");
+        instrument.setEnumInvestmentType(type);
+        instrument.setQuotes(100.0);
+        instrument.setState(true);
+        return instrumentRepository.save(instrument).getId();
+    }
+
+    private Map<Long, EnumRecommendationType> recommendationsOf(Long userId) {
+        return recommendationRepository.findAll().stream()
+                .filter(recommendation -> recommendation.getUser().getId().equals(userId))
+                .collect(Collectors.toMap(recommendation -> recommendation.getInstrument().getId(),
+                        RecommendationModel::getEnumRecommendationType));
+    }
+}
@@ -0,0 +1,52 @@
+package com.practice.Recommendation;
+
+import com.practice.Django.Recommendation.Recommendation;
+import com.practice.Django.Recommendation.UserRecommendationsResponse;
+import com.practice.FinancingProfile.model.FinancingProfileModel;
+import com.practice.Recommendation.engine.RecommendationEngine;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecommendationEngineTest {
+    private final RecommendationEngine engine = new RecommendationEngine(
+            new ClassPathResource("recommender/kmeans_centroids.csv"),
+            new ClassPathResource("recommender/investment_data.csv"));
+
+    @Test
+    void recommendsInvestmentsUpToUserRiskRankedByReturn() {
+        UserRecommendationsResponse response = engine.recommend(1L, profile("CONSERVADOR", 40000.0), null);
+
+        List<Long> ids = response.getRecommendations().stream()
+                .map(recommendation -> recommendation.getInvestment().getInvestmentId())
+                .toList();
+        // Riesgo 1 en investment_data.csv, de mayor a menor rendimiento esperado
+        assertEquals(List.of(7L, 2L, 8L, 3L, 6L), ids);
+
+        assertEquals(8, engine.recommend(1L, profile("ARRIESGADO", 40000.0), null).getRecommendations().size());
+        for (Recommendation recommendation : engine.recommend(1L, profile("MODERADO", 40000.0), null).getRecommendations()) {
+            assertTrue(recommendation.getInvestment().getRiskLevel() <= 2);
+        }
+    }
+
+    @Test
+    void assignsNearestCentroidByIncome() {
+        LocalDateTime birthDate = LocalDateTime.now().minusYears(43);
+        assertEquals(0, engine.assignCluster(profile("MODERADO", 110000.0), birthDate));
+        assertEquals(1, engine.assignCluster(profile("MODERADO", 35000.0), birthDate));
+        assertEquals(2, engine.assignCluster(profile("MODERADO", 76000.0), birthDate));
+    }
+
+    private static FinancingProfileModel profile(String risk, double income) {
+        FinancingProfileModel profile = new FinancingProfileModel();
+        profile.setRiskProfile(risk);
+        profile.setKnowledgeLevel("INTERMEDIO");
+        profile.setIncomeMonthly(income);
+        return profile;
+    }
+}
@@ -0,0 +1,39 @@
+package com.practice;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Crea el esquema con las migraciones de Flyway (en lugar de create-drop) y deja que Hibernate lo
+ * valide contra las entidades, como en producción. Usa su propia base H2 en modo PostgreSQL.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:schema-migration;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@ActiveProfiles("test")
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrationsMatchTheEntities() {
+        assertEquals(0, flyway.info().pending().length);
+        assertEquals("1", flyway.info().current().getVersion().getVersion());
+
+        // Las filas cargadas por SQL, sin version, arrancan en 0 para el update condicional
+        assertEquals(0L, jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.columns where table_name = 'portfolio' " +
+                "and column_name = 'version' and is_nullable = 'YES'", Long.class));
+    }
+}
@@ -0,0 +1,65 @@
+package com.practice.User;
+
+import com.practice.User.Enum.EnumRole;
+import com.practice.User.model.PermissionModel;
+import com.practice.User.model.RoleModel;
+import com.practice.User.repository.RoleRepository;
+import com.practice.User.security.AuthorityRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuthorityRegistryTest {
+
+    @Test
+    void invalidateRefreshesMultiRoleAndClaimCaches() {
+        RoleModel admin = role(EnumRole.ADMIN, "REPORTS");
+        RoleModel user = role(EnumRole.USER, "READ");
+        RoleRepository roleRepository = mock(RoleRepository.class);
+        when(roleRepository.findAllWithPermissions()).thenReturn(List.of(admin, user));
+
+        AuthorityRegistry registry = new AuthorityRegistry(roleRepository);
+        registry.refresh();
+        Set<RoleModel> roles = Set.of(admin, user);
+        assertEquals(Set.of("ROLE_ADMIN", "REPORTS", "ROLE_USER", "READ"), names(registry.authoritiesFor(roles)));
+        GrantedAuthority write = registry.fromClaim("ROLE_USER,WRITE").get(1);
+
+        // Se otorga un permiso al rol USER y se revoca otro a ADMIN
+        user.getPermissions().add(permission("WRITE"));
+        admin.getPermissions().clear();
+        registry.invalidate();
+
+        assertEquals(Set.of("ROLE_ADMIN", "ROLE_USER", "READ", "WRITE"), names(registry.authoritiesFor(roles)));
+        // El claim cacheado antes de la recarga no conserva la instancia vieja de la autoridad
+        GrantedAuthority reloaded = registry.fromClaim("ROLE_USER,WRITE").get(1);
+        assertTrue(registry.authoritiesFor(EnumRole.USER).stream().anyMatch(authority -> authority == reloaded));
+        assertFalse(reloaded == write);
+    }
+
+    private static RoleModel role(EnumRole enumRole, String permission) {
+        RoleModel role = new RoleModel(enumRole);
+        role.setPermissions(new HashSet<>(Set.of(permission(permission))));
+        return role;
+    }
+
+    private static PermissionModel permission(String name) {
+        PermissionModel permission = new PermissionModel();
+        permission.setName(name);
+        return permission;
+    }
+
+    private static Set<String> names(List<GrantedAuthority> authorities) {
+        Set<String> names = new HashSet<>();
+        authorities.forEach(authority -> names.add(authority.getAuthority()));
+        return names;
+    }
+}
@@ -0,0 +1,57 @@
+package com.practice.User;
+
+import com.practice.User.Enum.EnumUserInclude;
+import com.practice.User.dtoResponse.UserResponseDto;
+import com.practice.User.model.UserModel;
+import com.practice.User.repository.UserRepository;
+import com.practice.User.service.UserService;
+import com.practice.exceptions.InvalidIncludeException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UserServiceAggregateTest {
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void loadsOnlyRequestedCollections() {
+        UserModel user = userRepository.findByEmail("user1@example.com").orElseThrow();
+
+        UserResponseDto dto = userService.getUserById(user.getId(), EnumUserInclude.parse("portfolios, wallets"));
+
+        assertEquals("user1@example.com", dto.getEmail());
+        assertNotNull(dto.getPortfolios());
+        assertNotNull(dto.getWallets());
+        assertNull(dto.getCosts());
+        assertNull(dto.getNotifications());
+        assertNull(dto.getRoles());
+    }
+
+    @Test
+    void loadsEverythingByDefault() {
+        UserModel user = userRepository.findByEmail("admin@example.com").orElseThrow();
+
+        UserResponseDto dto = userService.getUserById(user.getId(), EnumUserInclude.parse(null));
+
+        assertTrue(dto.getRoles().contains("ADMIN"));
+        assertNotNull(dto.getCosts());
+        assertNotNull(dto.getRecommendations());
+        assertEquals(EnumSet.allOf(EnumUserInclude.class), EnumUserInclude.parse(" "));
+    }
+
+    @Test
+    void rejectsUnknownInclude() {
+        assertThrows(InvalidIncludeException.class, () -> EnumUserInclude.parse("portfolios,password"));
+    }
+}
@@ -0,0 +1,144 @@
+package com.practice.Wallet;
+
+import com.practice.User.model.UserModel;
+import com.practice.User.repository.UserRepository;
+import com.practice.Wallet.dtoRequest.WalletCreateRequestDto;
+import com.practice.Wallet.dtoRequest.WalletMovementRequestDto;
+import com.practice.Wallet.dtoRequest.WalletTransferRequestDto;
+import com.practice.Wallet.dtoResponse.WalletLedgerEntryDto;
+import com.practice.Wallet.dtoResponse.WalletOperationResponseDto;
+import com.practice.Wallet.repository.WalletRepository;
+import com.practice.Wallet.service.WalletServiceImpl;
+import com.practice.exceptions.IdempotencyKeyConflictException;
+import com.practice.exceptions.InsufficientFundsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class WalletLedgerTest {
+    private static final int THREADS = 16;
+
+    @Autowired
+    private WalletServiceImpl walletServiceImpl;
+    @Autowired
+    private WalletRepository walletRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+    private String prefix;
+
+    @BeforeEach
+    void setUp() {
+        UserModel user = userRepository.findByEmail("user2@example.com").orElseThrow();
+        userId = user.getId();
+        prefix = "test-" + System.nanoTime() + "-";
+    }
+
+    @Test
+    void concurrentDepositsAndRetriesApplyEachKeyOnce() throws Exception {
+        Long walletId = walletServiceImpl.createWallet(new WalletCreateRequestDto(0.0, userId)).id();
+
+        runConcurrently(THREADS * 4, i -> walletServiceImpl.deposit(walletId,
+                new WalletMovementRequestDto(prefix + i, 10.0, null)));
+
+        // Reintentar una clave ya aplicada devuelve la operación original sin volver a sumar
+        for (int i = 0; i < THREADS * 4; i++) {
+            assertTrue(walletServiceImpl.deposit(walletId, new WalletMovementRequestDto(prefix + i, 10.0, null)).replayed());
+        }
+
+        assertEquals(THREADS * 4 * 10.0, balance(walletId), 1e-9);
+        assertEquals(THREADS * 4, walletServiceImpl.findLedger(walletId, 0, 1).totalElements());
+        assertThrows(IdempotencyKeyConflictException.class,
+                () -> walletServiceImpl.deposit(walletId, new WalletMovementRequestDto(prefix + 0, 99.0, null)));
+    }
+
+    @Test
+    void concurrentWithdrawalsNeverOverdraw() throws Exception {
+        Long walletId = walletServiceImpl.createWallet(new WalletCreateRequestDto(100.0, userId)).id();
+
+        AtomicInteger withdrawn = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently(THREADS * 4, i -> {
+            try {
+                walletServiceImpl.withdraw(walletId, new WalletMovementRequestDto(prefix + i, 10.0, null));
+                withdrawn.incrementAndGet();
+            } catch (InsufficientFundsException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        assertEquals(10, withdrawn.get());
+        assertEquals(THREADS * 4 - 10, rejected.get());
+        assertEquals(0.0, balance(walletId), 1e-9);
+    }
+
+    @Test
+    void transferWritesBalancedEntries() {
+        Long source = walletServiceImpl.createWallet(new WalletCreateRequestDto(50.0, userId)).id();
+        Long target = walletServiceImpl.createWallet(new WalletCreateRequestDto(0.0, userId)).id();
+
+        WalletOperationResponseDto transfer = walletServiceImpl.transfer(
+                new WalletTransferRequestDto(prefix + "t", source, target, 30.0, "pago"));
+
+        assertEquals(2, transfer.entries().size());
+        double net = 0.0;
+        for (WalletLedgerEntryDto entry : transfer.entries()) {
+            net += "CREDITO".equals(entry.direction()) ? entry.amount() : -entry.amount();
+        }
+        assertEquals(0.0, net, 1e-9);
+        assertEquals(20.0, balance(source), 1e-9);
+        assertEquals(30.0, balance(target), 1e-9);
+        assertThrows(InsufficientFundsException.class, () -> walletServiceImpl.transfer(
+                new WalletTransferRequestDto(prefix + "t2", source, target, 30.0, null)));
+        assertTrue(balance(source) >= 0);
+    }
+
+    private double balance(Long walletId) {
+        return walletRepository.findById(walletId).orElseThrow().getCurrentBalance();
+    }
+
+    private void runConcurrently(int tasks, IndexedTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(tasks);
+        try {
+            for (int i = 0; i < tasks; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index) throws Exception;
+    }
+}
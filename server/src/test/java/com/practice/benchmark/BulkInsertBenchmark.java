@@ -0,0 +1,162 @@
+package com.practice.benchmark;
+
+import com.practice.App;
+import com.practice.Instrument.Enum.EnumInvestmentType;
+import com.practice.Instrument.model.InstrumentModel;
+import com.practice.Instrument.repository.InstrumentRepository;
+import com.practice.Notification.Enum.EnumTypeNotification;
+import com.practice.Notification.model.NotificationModel;
+import com.practice.Notification.repository.NotificationRepository;
+import com.practice.Portfolio.model.PortfolioModel;
+import com.practice.Portfolio.repository.PortfolioRepository;
+import com.practice.Transactions.Enum.EnumTransactionType;
+import com.practice.Transactions.model.TransactionModel;
+import com.practice.Transactions.repository.TransactionsRepository;
+import com.practice.User.model.UserModel;
+import com.practice.User.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Alta masiva de transacciones y notificaciones sin batching ({@code batchSize=1}) y con la
+ * configuración de lotes del perfil {@code prod}.
+ *
+ * <p>Por defecto corre contra H2 en memoria (perfil {@code test}), que no tiene round-trips de red y
+ * sirve solo para comparar la cantidad de sentencias. Para medir lo que importa en producción hay que
+ * apuntarlo a un Postgres vacío y descartable (el esquema se crea y se borra en cada trial), con
+ * {@code reWriteBatchedInserts} activado como en {@code prod}:</p>
+ * <pre>
+ * BENCHMARK_DB_URL=jdbc:postgresql://localhost:5432/bench BENCHMARK_DB_USER=bench BENCHMARK_DB_PASSWORD=bench \
+ *     mvn -Pbenchmark -DskipTests verify -Djmh.filter=BulkInsert
+ * </pre>
+ * Se usan variables de entorno porque JMH corre cada trial en otro proceso. Contra H2 las dos
+ * variantes quedan dentro del error de medición; la diferencia aparece con la latencia de red.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    @Param({"1000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private TransactionsRepository transactionsRepository;
+    private NotificationRepository notificationRepository;
+    private PortfolioModel portfolio;
+    private UserModel user;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "spring.jpa.properties.hibernate.order_inserts=true",
+                "spring.jpa.properties.hibernate.order_updates=true",
+                // Servlet como en las pruebas: SecurityConfig necesita el cliente OAuth2, que solo se configura en web
+                "server.port=0"));
+        String url = System.getenv("BENCHMARK_DB_URL");
+        if (url != null && !url.isBlank()) {
+            properties.add("spring.datasource.url=" + url);
+            properties.add("spring.datasource.username=" + System.getenv().getOrDefault("BENCHMARK_DB_USER", "postgres"));
+            properties.add("spring.datasource.password=" + System.getenv().getOrDefault("BENCHMARK_DB_PASSWORD", ""));
+            properties.add("spring.datasource.driver-class-name=org.postgresql.Driver");
+            properties.add("spring.datasource.hikari.data-source-properties.reWriteBatchedInserts=true");
+        }
+        context = new SpringApplicationBuilder(App.class)
+                .profiles("test")
+                .properties(properties.toArray(String[]::new))
+                .web(WebApplicationType.SERVLET)
+                .run();
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        transactionsRepository = context.getBean(TransactionsRepository.class);
+        notificationRepository = context.getBean(NotificationRepository.class);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        InstrumentRepository instrumentRepository = context.getBean(InstrumentRepository.class);
+        PortfolioRepository portfolioRepository = context.getBean(PortfolioRepository.class);
+
+        user = new UserModel();
+        user.setEmail("benchmark" + System.nanoTime() + "@example.com");
+        user.setName("Benchmark");
+        user = userRepository.save(user);
+
+        InstrumentModel instrument = new InstrumentModel();
+        instrument.setTicker("BULK-" + System.nanoTime());
+        instrument.setName("Instrumento masivo");
+        instrument.setEnumInvestmentType(EnumInvestmentType.RENTA_VARIABLE);
+        instrument.setQuotes(100.0);
+        instrument.setState(true);
+
+        portfolio = new PortfolioModel();
+        portfolio.setUser(user);
+        portfolio.setInstrument(instrumentRepository.save(instrument));
+        portfolio.setQuantity(0);
+        portfolio.setPurchasePrice(100.0);
+        portfolio.setPurchaseDate(LocalDate.now());
+        portfolio = portfolioRepository.save(portfolio);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int insertTransactions() {
+        List<TransactionModel> transactions = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            TransactionModel transaction = new TransactionModel();
+            transaction.setPortfolio(portfolio);
+            transaction.setEnumTransactionType(EnumTransactionType.COMPRA);
+            transaction.setQuantity(1 + i % 10);
+            transaction.setUnitPrice(100.0 + i % 7);
+            transaction.setCommission(0.5);
+            transaction.setOperationDate(LocalDate.now());
+            transactions.add(transaction);
+        }
+        return transactionTemplate.execute(status -> transactionsRepository.saveAll(transactions).size());
+    }
+
+    @Benchmark
+    public int insertNotifications() {
+        List<NotificationModel> notifications = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            NotificationModel notification = new NotificationModel();
+            notification.setUser(user);
+            notification.setType(EnumTypeNotification.SISTEMA);
+            notification.setMessage("Notificación masiva " + i);
+            notification.setDateCreate(LocalDateTime.now());
+            notification.setIsRead(false);
+            notifications.add(notification);
+        }
+        return transactionTemplate.execute(status -> notificationRepository.saveAll(notifications).size());
+    }
+}
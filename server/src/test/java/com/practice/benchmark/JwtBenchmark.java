@@ -0,0 +1,91 @@
+package com.practice.benchmark;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.practice.User.repository.RoleRepository;
+import com.practice.User.security.AuthorityRegistry;
+import com.practice.config.filters.JwtTokenValidator;
+import com.practice.config.jwt.JwtUtils;
+import com.practice.config.jwt.VerifiedToken;
+import com.practice.config.jwt.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validación de tokens: verificación HMAC completa ({@link JwtUtils#validateToken}), la ruta cacheada
+ * ({@link JwtUtils#verify}) y el filtro {@link JwtTokenValidator} completo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtils jwtUtils;
+    private JwtTokenValidator jwtTokenValidator;
+    private String token;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        // Sin roles cargados: las autoridades del claim se resuelven y cachean igual
+        AuthorityRegistry authorityRegistry = new AuthorityRegistry(Mockito.mock(RoleRepository.class));
+        jwtUtils = new JwtUtils(new VerifiedTokenCache(new SimpleMeterRegistry(), 10_000), authorityRegistry);
+        ReflectionTestUtils.setField(jwtUtils, "SECRET_KEY", "claveSecreta");
+        ReflectionTestUtils.setField(jwtUtils, "SECRET_USER_KEY", "lasdfjoiwehfoiwehfoiwehfoiwehfoiwe");
+        ReflectionTestUtils.setField(jwtUtils, "EXPIRATION_TIME", 8640000L);
+        jwtUtils.init();
+        jwtTokenValidator = new JwtTokenValidator(jwtUtils);
+
+        token = jwtUtils.generateJwtToken(new UsernamePasswordAuthenticationToken(
+                "user1@example.com", null,
+                AuthorityUtils.createAuthorityList("ROLE_USER", "READ", "CREATE", "UPDATE")));
+        authorizationHeader = "Bearer " + token;
+    }
+
+    @Benchmark
+    public DecodedJWT validateToken() {
+        return jwtUtils.validateToken(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return jwtUtils.verify(token);
+    }
+
+    @Benchmark
+    public int filterRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/portfolio");
+        request.addHeader(HttpHeaders.AUTHORIZATION, authorizationHeader);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            jwtTokenValidator.doFilter(request, response, new MockFilterChain());
+            return response.getStatus();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
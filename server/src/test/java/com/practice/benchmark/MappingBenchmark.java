@@ -0,0 +1,156 @@
+package com.practice.benchmark;
+
+import com.practice.FinancingProfile.dtoResponse.FinancingProfileResponseDto;
+import com.practice.FinancingProfile.mappers.FinancingProfileMapper;
+import com.practice.FinancingProfile.model.FinancingProfileModel;
+import com.practice.Portfolio.dtoResponse.PortfolioResponseDto;
+import com.practice.Portfolio.mappers.PortfolioMapper;
+import com.practice.Portfolio.model.PortfolioModel;
+import com.practice.Transactions.Enum.EnumTransactionType;
+import com.practice.Transactions.dtoResponse.TransactionResponseDto;
+import com.practice.Transactions.mappers.TransactionMapper;
+import com.practice.Transactions.model.TransactionModel;
+import com.practice.User.model.UserModel;
+import com.practice.config.ModelMapperConfig;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara ModelMapper con los mapeos compilados sobre listas como las de los endpoints paginados.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"10", "100"})
+    private int rows;
+
+    private List<PortfolioModel> portfolios;
+    private List<TransactionModel> transactions;
+    private List<FinancingProfileModel> profiles;
+
+    private PortfolioMapper reflectivePortfolio;
+    private PortfolioMapper compiledPortfolio;
+    private TransactionMapper reflectiveTransaction;
+    private TransactionMapper compiledTransaction;
+    private FinancingProfileMapper reflectiveProfile;
+    private FinancingProfileMapper compiledProfile;
+
+    @Setup
+    public void setUp() {
+        ModelMapper modelMapper = new ModelMapperConfig().modelMapper();
+        reflectivePortfolio = new PortfolioMapper(modelMapper, false);
+        compiledPortfolio = new PortfolioMapper(modelMapper, true);
+        reflectiveTransaction = new TransactionMapper(modelMapper, false);
+        compiledTransaction = new TransactionMapper(modelMapper, true);
+        reflectiveProfile = new FinancingProfileMapper(modelMapper, false);
+        compiledProfile = new FinancingProfileMapper(modelMapper, true);
+
+        UserModel user = new UserModel();
+        user.setId(1L);
+
+        portfolios = new ArrayList<>(rows);
+        transactions = new ArrayList<>(rows);
+        profiles = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            PortfolioModel portfolio = new PortfolioModel();
+            portfolio.setId((long) i);
+            portfolio.setQuantity(10 + i);
+            portfolio.setPurchasePrice(100.0 + i);
+            portfolio.setPurchaseDate(LocalDate.of(2024, 1, 1).plusDays(i));
+            portfolio.setUser(user);
+            portfolios.add(portfolio);
+
+            TransactionModel transaction = new TransactionModel();
+            transaction.setId((long) i);
+            transaction.setEnumTransactionType(i % 2 == 0 ? EnumTransactionType.COMPRA : EnumTransactionType.VENTA);
+            transaction.setUnitPrice(100.0 + i);
+            transaction.setQuantity(i + 1);
+            transaction.setCommission(1.5);
+            transaction.setOperationDate(LocalDate.of(2024, 1, 1).plusDays(i));
+            transaction.setPortfolio(portfolio);
+            transactions.add(transaction);
+
+            FinancingProfileModel profile = new FinancingProfileModel();
+            profile.setId((long) i);
+            profile.setKnowledgeLevel("INTERMEDIO");
+            profile.setRiskProfile("MODERADO");
+            profile.setIncomeMonthly(5000.0 + i);
+            profile.setExpensesMonthly(3000.0);
+            profile.setPercentageSave(20.0);
+            profile.setTotalDebt(1000.0);
+            profile.setSavingsTotal(15000.0);
+            profile.setPatrimonyTotal(50000.0);
+            profile.setUser(user);
+            profiles.add(profile);
+        }
+    }
+
+    @Benchmark
+    public void portfolioModelMapper(Blackhole blackhole) {
+        for (PortfolioModel portfolio : portfolios) {
+            PortfolioResponseDto dto = reflectivePortfolio.toResponse(portfolio);
+            blackhole.consume(dto);
+        }
+    }
+
+    @Benchmark
+    public void portfolioCompiled(Blackhole blackhole) {
+        for (PortfolioModel portfolio : portfolios) {
+            PortfolioResponseDto dto = compiledPortfolio.toResponse(portfolio);
+            blackhole.consume(dto);
+        }
+    }
+
+    @Benchmark
+    public void transactionModelMapper(Blackhole blackhole) {
+        for (TransactionModel transaction : transactions) {
+            TransactionResponseDto dto = reflectiveTransaction.toResponse(transaction);
+            blackhole.consume(dto);
+        }
+    }
+
+    @Benchmark
+    public void transactionCompiled(Blackhole blackhole) {
+        for (TransactionModel transaction : transactions) {
+            TransactionResponseDto dto = compiledTransaction.toResponse(transaction);
+            blackhole.consume(dto);
+        }
+    }
+
+    @Benchmark
+    public void financingProfileModelMapper(Blackhole blackhole) {
+        for (FinancingProfileModel profile : profiles) {
+            FinancingProfileResponseDto dto = reflectiveProfile.toResponse(profile);
+            blackhole.consume(dto);
+        }
+    }
+
+    @Benchmark
+    public void financingProfileCompiled(Blackhole blackhole) {
+        for (FinancingProfileModel profile : profiles) {
+            FinancingProfileResponseDto dto = compiledProfile.toResponse(profile);
+            blackhole.consume(dto);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.practice.benchmark;
+
+import com.practice.Portfolio.service.PositionMath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Precio promedio ponderado aplicado a una secuencia de compras.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PositionMathBenchmark {
+    private static final int TRADES = 1024;
+
+    private int[] quantities;
+    private double[] prices;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        quantities = new int[TRADES];
+        prices = new double[TRADES];
+        for (int i = 0; i < TRADES; i++) {
+            quantities[i] = 1 + random.nextInt(100);
+            prices[i] = 50 + random.nextDouble() * 100;
+        }
+    }
+
+    @Benchmark
+    public double averagePrice() {
+        int quantity = 0;
+        double price = 0.0;
+        for (int i = 0; i < TRADES; i++) {
+            price = PositionMath.averagePrice(quantity, price, quantities[i], prices[i]);
+            quantity += quantities[i];
+        }
+        return price;
+    }
+}
@@ -0,0 +1,102 @@
+package com.practice.benchmark;
+
+import com.practice.Django.DjangoClientService;
+import com.practice.Django.Recommendation.UserRecommendationsResponse;
+import com.practice.Django.client.DjangoClientSettings;
+import com.practice.FinancingProfile.model.FinancingProfileModel;
+import com.practice.Recommendation.engine.RecommendationEngine;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Motor k-means en proceso contra la llamada HTTP al recomendador. El remoto es un stub
+ * local que responde al instante, así que solo mide el costo propio del round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecommendationBenchmark {
+    private static final byte[] BODY = ("{\"userId\": 1, \"recommendations\": [{\"investment\": {\"investment_id\": 7, "
+            + "\"investment_type\": \"etfs\", \"risk_level\": 1, \"min_investment\": \"1853\", "
+            + "\"expected_return\": \"12.87\"}, \"created_at\": \"2025-01-01T00:00:00Z\"}]}").getBytes(StandardCharsets.UTF_8);
+
+    private RecommendationEngine engine;
+    private FinancingProfileModel profile;
+    private LocalDateTime birthDate;
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private DjangoClientService remote;
+
+    @Setup
+    public void setUp() throws IOException {
+        engine = new RecommendationEngine(
+                new ClassPathResource("recommender/kmeans_centroids.csv"),
+                new ClassPathResource("recommender/investment_data.csv"));
+        profile = new FinancingProfileModel();
+        profile.setRiskProfile("MODERADO");
+        profile.setKnowledgeLevel("INTERMEDIO");
+        profile.setIncomeMonthly(75000.0);
+        birthDate = LocalDateTime.of(1985, 6, 1, 0, 0);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        executor = Executors.newFixedThreadPool(4);
+        server.setExecutor(executor);
+        server.createContext("/api/recommendations/", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, BODY.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(BODY);
+            }
+        });
+        server.start();
+
+        // Sin cache ni réplica: cada invocación hace la petición HTTP
+        WebClient webClient = WebClient.builder().baseUrl("http://localhost:" + server.getAddress().getPort()).build();
+        DjangoClientSettings settings = new DjangoClientSettings(
+                Duration.ofSeconds(5), Duration.ZERO, Duration.ZERO, 1, 1_000_000, Duration.ofSeconds(1));
+        remote = new DjangoClientService(webClient, settings, new SimpleMeterRegistry());
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public UserRecommendationsResponse localEngine() {
+        return engine.recommend(1L, profile, birthDate);
+    }
+
+    @Benchmark
+    public UserRecommendationsResponse remoteDjango() {
+        return remote.getRecommendations(1L).block();
+    }
+}
@@ -0,0 +1,108 @@
+package com.practice.benchmark;
+
+import com.practice.Cost.model.CostModel;
+import com.practice.Notification.Enum.EnumTypeNotification;
+import com.practice.Notification.model.NotificationModel;
+import com.practice.Portfolio.model.PortfolioModel;
+import com.practice.Recommendation.model.RecommendationModel;
+import com.practice.User.Enum.EnumRole;
+import com.practice.User.dtoResponse.UserResponseDto;
+import com.practice.User.mapper.UserMapper;
+import com.practice.User.model.RoleModel;
+import com.practice.User.model.UserModel;
+import com.practice.Wallet.model.WalletModel;
+import com.practice.config.ModelMapperConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link UserMapper#toDtoUser} sobre un usuario con colecciones ya cargadas (solo costo de mapeo).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserMapperBenchmark {
+
+    @Param({"5", "50"})
+    private int itemsPerCollection;
+
+    private UserMapper userMapper;
+    private UserModel user;
+
+    @Setup
+    public void setUp() {
+        userMapper = new UserMapper(new ModelMapperConfig().modelMapper());
+
+        user = new UserModel();
+        user.setId(1L);
+        user.setEmail("user1@example.com");
+        user.setName("Jhon");
+        user.setLastName("Perez");
+        user.setCountry("Argentina");
+        user.setPhoneNumber(123456789L);
+        user.setBirthDate(LocalDateTime.of(1990, 1, 1, 0, 0));
+        user.setRoles(Set.of(new RoleModel(EnumRole.USER)));
+
+        for (int i = 0; i < itemsPerCollection; i++) {
+            CostModel cost = new CostModel();
+            cost.setId((long) i);
+            cost.setUser(user);
+            cost.setType("FIJO");
+            cost.setCategory("VIVIENDA");
+            cost.setDescription("Alquiler");
+            cost.setAmount(500.0 + i);
+            user.getCostModel().add(cost);
+
+            WalletModel wallet = new WalletModel();
+            wallet.setId((long) i);
+            wallet.setUser(user);
+            wallet.setCurrentBalance(1000.0 + i);
+            user.getWalletModel().add(wallet);
+
+            NotificationModel notification = new NotificationModel();
+            notification.setId((long) i);
+            notification.setUser(user);
+            notification.setType(EnumTypeNotification.values()[i % EnumTypeNotification.values().length]);
+            notification.setMessage("Notificación " + i);
+            notification.setIsRead(i % 2 == 0);
+            user.getNotificationModel().add(notification);
+
+            RecommendationModel recommendation = new RecommendationModel();
+            recommendation.setId((long) i);
+            recommendation.setUser(user);
+            recommendation.setMotion("Perfil moderado");
+            recommendation.setState(true);
+            user.getRecommendationModel().add(recommendation);
+
+            PortfolioModel portfolio = new PortfolioModel();
+            portfolio.setId((long) i);
+            portfolio.setUser(user);
+            portfolio.setQuantity(10 + i);
+            portfolio.setPurchasePrice(100.0 + i);
+            portfolio.setPurchaseDate(LocalDate.of(2024, 1, 1));
+            user.getPortfolioModel().add(portfolio);
+        }
+    }
+
+    @Benchmark
+    public UserResponseDto toDtoUser() {
+        return userMapper.toDtoUser(user);
+    }
+}
@@ -0,0 +1,102 @@
+package com.practice.benchmark;
+
+import com.practice.App;
+import com.practice.Instrument.Enum.EnumInvestmentType;
+import com.practice.Instrument.model.InstrumentModel;
+import com.practice.Instrument.repository.InstrumentRepository;
+import com.practice.Portfolio.dtoResponse.PortfolioValueResponseDto;
+import com.practice.Portfolio.model.PortfolioModel;
+import com.practice.Portfolio.repository.PortfolioRepository;
+import com.practice.Portfolio.service.PortfolioValuationEngine;
+import com.practice.User.model.UserModel;
+import com.practice.User.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Valuación de portafolio de punta a punta contra H2 (perfil {@code test}), con la cache de cotizaciones caliente.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValuationBenchmark {
+
+    @Param({"10", "100"})
+    private int positions;
+
+    private ConfigurableApplicationContext context;
+    private PortfolioValuationEngine valuationEngine;
+    private Long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Servlet como en las pruebas: SecurityConfig necesita el cliente OAuth2, que solo se configura en web
+        context = new SpringApplicationBuilder(App.class)
+                .profiles("test")
+                .properties("server.port=0")
+                .web(WebApplicationType.SERVLET)
+                .run();
+        valuationEngine = context.getBean(PortfolioValuationEngine.class);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        InstrumentRepository instrumentRepository = context.getBean(InstrumentRepository.class);
+        PortfolioRepository portfolioRepository = context.getBean(PortfolioRepository.class);
+
+        UserModel user = new UserModel();
+        user.setEmail("benchmark" + System.nanoTime() + "@example.com");
+        user.setName("Benchmark");
+        user = userRepository.save(user);
+        userId = user.getId();
+
+        List<PortfolioModel> portfolios = new ArrayList<>(positions);
+        for (int i = 0; i < positions; i++) {
+            InstrumentModel instrument = new InstrumentModel();
+            instrument.setTicker("BENCH" + i + "-" + System.nanoTime());
+            instrument.setName("Instrumento " + i);
+            instrument.setEnumInvestmentType(EnumInvestmentType.RENTA_VARIABLE);
+            instrument.setQuotes(100.0 + i);
+            instrument.setState(true);
+
+            PortfolioModel portfolio = new PortfolioModel();
+            portfolio.setUser(user);
+            portfolio.setInstrument(instrumentRepository.save(instrument));
+            portfolio.setQuantity(10 + i);
+            portfolio.setPurchasePrice(90.0 + i);
+            portfolio.setPurchaseDate(LocalDate.now());
+            portfolios.add(portfolio);
+        }
+        portfolioRepository.saveAll(portfolios);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PortfolioValueResponseDto valuate() {
+        return valuationEngine.valuate(userId);
+    }
+}